@@ -166,13 +166,15 @@ public isolated client class Caller {
     # + path - The resource path
     # + content - Content to be written to the file in server
     # + compressionType - Type of the compression to be used if the file should be compressed before uploading
+    # + compressionOptions - Compression level and buffer size used when the content is compressed
     # + return - `()` or else an `ftp:Error` if failed to establish the communication with the FTP server
     #
     # # Deprecated: Use the format specific put methods(`putJson`, `putXml`, `putCsv`, `putBytes`, `putText`) instead.
     @deprecated
     remote isolated function put(string path, stream<byte[] & readonly, io:Error?>
-            |string|xml|json content, Compression compressionType = NONE) returns Error? {
-        return self.'client->put(path, content, compressionType);
+            |string|xml|json content, Compression compressionType = NONE,
+            *CompressionOptions compressionOptions) returns Error? {
+        return self.'client->put(path, content, compressionType, compressionOptions);
     }
 
     # Adds a byte array as a file to an FTP server with the specified write option.
@@ -110,6 +110,42 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.ftp.client.FtpClient"
     } external;
 
+    # Retrieves the file content as JSON from a remote resource, parsing the content while it is read from the
+    # server instead of loading the whole file into memory first. Suitable for large files.
+    # A `ContentBindingError` returned by this method does not include the file content.
+    # ```ballerina
+    # json content = check client->getJsonStreaming(path);
+    # ```
+    #
+    # + path - The resource path
+    # + targetType - Expected return type (to be used for automatic data binding).
+    #                Supported types:
+    #                - Built-in `json` type
+    #                - Custom types (e.g., `User`, `Student?`, `Person[]`, etc.)
+    # + return - Content as JSON or `ftp:Error` in case of errors
+    remote isolated function getJsonStreaming(string path, typedesc<json|record {}> targetType = <>) returns targetType|Error = @java:Method {
+        name: "getJsonStreaming",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
+    # Retrieves the file content as XML from a remote resource, parsing the content while it is read from the
+    # server instead of loading the whole file into memory first. Suitable for large files.
+    # A `ContentBindingError` returned by this method does not include the file content.
+    # ```ballerina
+    # xml content = check client->getXmlStreaming(path);
+    # ```
+    #
+    # + path - The resource path
+    # + targetType - Expected return type (to be used for automatic data binding).
+    #                Supported types:
+    #                - Built-in `xml` type
+    #                - Custom types (e.g., `User`, `Student?`, `Person[]`, etc.)
+    # + return - Content as XML or `ftp:Error` in case of errors
+    remote isolated function getXmlStreaming(string path, typedesc<xml|record {}> targetType = <>) returns targetType|Error = @java:Method {
+        name: "getXmlStreaming",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
     # Retrieves the file content as CSV from a remote resource.
     # When the expected data type is a custom type, the first entry of the CSV file should contain matching headers.
     # ```ballerina
@@ -139,6 +175,69 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.ftp.client.FtpClient"
     } external;
 
+    # Retrieves the file content as bytes by fetching byte ranges of the file concurrently.
+    # Suitable for large files over high-latency links. Each range is retried independently when a retry
+    # configuration is present. When `decompressContent` is enabled, compressed content is decompressed after
+    # all ranges are fetched.
+    # ```ballerina
+    # byte[] content = check client->getBytesParallel(path, segmentSize = 16777216, parallelism = 8);
+    # ```
+    #
+    # + path - The path to the file on the FTP server
+    # + options - Segment size and parallelism of the download
+    # + return - Content as a byte array or `ftp:Error` in case of errors
+    remote isolated function getBytesParallel(string path, *ParallelDownloadConfig options) returns byte[]|Error = @java:Method {
+        name: "getBytesParallel",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
+    # Downloads a remote file to a local file by fetching byte ranges of the file concurrently and writing each
+    # range to its position in the local file. The file content is not loaded into memory. The file is written as
+    # it is stored on the server, even when `decompressContent` is enabled.
+    # ```ballerina
+    # check client->downloadToFile(path, "/tmp/data.bin");
+    # ```
+    #
+    # + path - The path to the file on the FTP server
+    # + localPath - The path of the local file to write. An existing file is overwritten
+    # + options - Segment size and parallelism of the download
+    # + return - `()` or else an `ftp:Error` in case of errors
+    remote isolated function downloadToFile(string path, string localPath, *ParallelDownloadConfig options) returns Error? = @java:Method {
+        name: "downloadToFile",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
+    # Uploads a local file to the server. When resuming is enabled, a retried upload appends the rest of the local
+    # file after the data that already reached the server instead of starting over.
+    # ```ballerina
+    # check client->uploadFile("/data/export.csv", "/upload/export.csv");
+    # ```
+    #
+    # + localPath - The path of the local file to upload
+    # + remotePath - The destination path on the FTP server
+    # + options - Resume behaviour of the upload
+    # + return - `()` or else an `ftp:Error` in case of errors
+    remote isolated function uploadFile(string localPath, string remotePath, *FileTransferConfig options) returns Error? = @java:Method {
+        name: "uploadFile",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
+    # Downloads a remote file to a local file. When resuming is enabled, a retried download reads the rest of the
+    # remote file after the data that was already written locally instead of starting over. The file is written as
+    # it is stored on the server, even when `decompressContent` is enabled.
+    # ```ballerina
+    # check client->downloadFile("/upload/export.csv", "/data/export.csv");
+    # ```
+    #
+    # + remotePath - The path to the file on the FTP server
+    # + localPath - The path of the local file to write. An existing file is overwritten unless it is resumed
+    # + options - Resume behaviour of the download
+    # + return - `()` or else an `ftp:Error` in case of errors
+    remote isolated function downloadFile(string remotePath, string localPath, *FileTransferConfig options) returns Error? = @java:Method {
+        name: "downloadFile",
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
+
     # Retrieves the file content as a CSV stream from a remote resource.
     # ```ballerina
     # stream<string[], error?> response = check client->getCsvAsStream(path);
@@ -179,17 +278,15 @@ public isolated client class Client {
     # + path - The resource path
     # + content - Content to be written to the file in server
     # + compressionType - Type of the compression to be used if the file should be compressed before uploading
+    # + compressionOptions - Compression level and buffer size used when the content is compressed
     # + return - `()` or else an `ftp:Error` if failed to establish the communication with the FTP server
     #
     # # Deprecated: Use the format specific put methods(`putJson`, `putXml`, `putCsv`, `putBytes`, `putText`) instead.
     @deprecated
     remote isolated function put(string path, stream<byte[] & readonly, io:Error?>
-            |string|xml|json content, Compression compressionType = NONE) returns Error? {
-        boolean compress = false;
-        if compressionType != NONE {
-            compress = true;
-        }
-        return put(self, getInputContent(path, content, compress));
+            |string|xml|json content, Compression compressionType = NONE,
+            *CompressionOptions compressionOptions) returns Error? {
+        return put(self, getInputContent(path, content, compressionType, compressionOptions));
     }
 
     # Adds a byte array as a file to an FTP server with the specified write option.
@@ -413,6 +510,16 @@ public isolated client class Client {
     remote isolated function close() returns Error? = @java:Method {
         'class: "io.ballerina.stdlib.ftp.client.FtpClient"
     } external;
+
+    # Returns a snapshot of the operation metrics of the client.
+    # ```ballerina
+    # ftp:ClientMetrics metrics = client.getMetrics();
+    # ```
+    #
+    # + return - The number of queued, in-flight, and completed operations
+    public isolated function getMetrics() returns ClientMetrics = @java:Method {
+        'class: "io.ballerina.stdlib.ftp.client.FtpClient"
+    } external;
 }
 
 # File write options for write operations.
@@ -425,12 +532,32 @@ public enum FileWriteOption {
 
 # Compression type for file uploads.
 public enum Compression {
-    # Zip compression
+    # Zip compression. The file extension is replaced with `.zip`
     ZIP,
+    # Gzip compression. The `.gz` extension is added to the file name
+    GZIP,
     # No compression
     NONE
 }
 
+# Options for compressing content before uploading.
+public type CompressionOptions record {|
+    # Compression level from 0 (fastest) to 9 (smallest), or -1 for the default level of the compression type
+    int compressionLevel = -1;
+    # Size in bytes of the buffer between the compressor and the upload
+    int compressionBufferSize = 65536;
+|};
+
+# Configuration for streaming uploads. The elements of the stream are batched into buffers that are queued for
+# upload, so that reading the stream overlaps with writing to the server.
+public type StreamUploadConfig record {|
+    # Maximum number of filled buffers waiting to be written to the server. When the queue is full, reading the
+    # stream pauses until a buffer is written
+    int queueDepth = 4;
+    # Size in bytes of each buffer. Must be at least 1024
+    int bufferSize = 65536;
+|};
+
 # Configuration for FTP client.
 public type ClientConfiguration record {|
     # Protocol to use for the connection: FTP (unsecure), FTPS (FTP over SSL/TLS), or SFTP (over SSH)
@@ -463,19 +590,46 @@ public type ClientConfiguration record {|
     # Configuration for fail-safe CSV content processing. In fail-safe mode,
     # malformed CSV records are skipped and written to a separate file in the current directory
     FailSafeOptions csvFailSafe?;
+    # If `true`, content of files compressed with GZIP or ZIP is decompressed while it is read. Compressed
+    # content is detected from its leading bytes, and other content is read unchanged
+    boolean decompressContent = false;
     # Retry configuration for transient failures on non-streaming read operations
     # (getBytes, getText, getJson, getXml, getCsv). If not specified, no retry is attempted
     RetryConfig retryConfig?;
     # Circuit breaker configuration for handling server failures gracefully.
     # When enabled, the client fails fast if the server is experiencing persistent issues
     CircuitBreakerConfig circuitBreaker?;
+    # Connection pool configuration. When configured, operations run on pooled sessions instead of a single
+    # shared session
+    ConnectionPoolConfig connectionPool?;
+    # Configuration for `putBytesAsStream` and `putCsvAsStream`, which read the stream while the content that is
+    # already read is written to the server
+    StreamUploadConfig streamUpload?;
+    # Maximum number of operations of this client that can run against the server at the same time.
+    # Further operations wait until a running operation completes
+    int maxConcurrentOperations = 64;
+|};
+
+# Snapshot of the operation metrics of a client.
+public type ClientMetrics record {|
+    # Number of operations waiting for a free concurrency slot
+    int queuedOperations;
+    # Number of operations currently running against the server
+    int inFlightOperations;
+    # Total number of operations completed since the client was created
+    int completedOperations;
+    # Maximum number of operations that can run at the same time
+    int maxConcurrentOperations;
 |};
 
 isolated function getInputContent(string path, stream<byte[] & readonly, io:Error?>|string|xml|json content,
-        boolean compressInput = false) returns InputContent {
+        Compression compressionType = NONE, CompressionOptions compressionOptions = {}) returns InputContent {
     InputContent inputContent = {
         filePath: path,
-        compressInput: compressInput
+        compressInput: compressionType != NONE,
+        compressionType,
+        compressionLevel: compressionOptions.compressionLevel,
+        compressionBufferSize: compressionOptions.compressionBufferSize
     };
 
     if content is stream<byte[] & readonly, io:Error?> {
@@ -187,6 +187,12 @@ public type InputContent record {|
     string textContent?;
     # If `true`, input will be compressed before uploading
     boolean compressInput = false;
+    # Type of the compression used when `compressInput` is `true`
+    Compression compressionType = ZIP;
+    # Compression level from 0 to 9, or -1 for the default level
+    int compressionLevel = -1;
+    # Size in bytes of the buffer between the compressor and the upload
+    int compressionBufferSize = 65536;
 |};
 
 # Determines the timestamp used when calculating file age for filtering.
@@ -235,6 +241,19 @@ public type FileDependencyCondition record {|
     int requiredFileCount = 1;
 |};
 
+# Controls how the subdirectories of a monitored directory are scanned in each poll.
+public type DirectoryScanConfig record {|
+    # Maximum depth of the subdirectories that are scanned below the monitored directory. `0` scans only the
+    # monitored directory and `-1` scans all subdirectories
+    int maxDepth = -1;
+    # Maximum number of subdirectories that are listed at the same time. Each concurrent listing uses its own
+    # connection to the server, and `1` lists the subdirectories one after another over the listener connection
+    int parallelism = 1;
+    # Regex patterns for subdirectory paths, relative to the monitored directory, that are not scanned. For example,
+    # `archive` skips the `archive` directory and `\d{4}/0[1-6]` skips the first six months of each year
+    string[] excludedDirectories = [];
+|};
+
 # Categories of errors that can trip the circuit breaker.
 # Used to configure which types of failures should count towards the circuit breaker threshold.
 public enum FailureCategory {
@@ -273,3 +292,39 @@ public type CircuitBreakerConfig record {|
     # Error categories that count as failures. Only errors matching these categories contribute to the failure ratio
     FailureCategory[] failureCategories = [CONNECTION_ERROR, TRANSIENT_ERROR];
 |};
+
+# Configuration for the client connection pool.
+# When configured, each client operation borrows a dedicated session from the pool instead of sharing a
+# single session, allowing independent operations to run concurrently against the server.
+public type ConnectionPoolConfig record {|
+    # Maximum number of sessions that can be open at the same time
+    int maxActive = 8;
+    # Minimum number of idle sessions kept open. Idle sessions above this count are closed after `maxIdleTime`
+    int minIdle = 0;
+    # Seconds a session can stay idle in the pool before it is evicted
+    decimal maxIdleTime = 300;
+    # Maximum seconds to wait for a session when all sessions are in use
+    decimal maxWaitTime = 30;
+    # If `true`, a session is validated with a lightweight server round trip before it is handed out.
+    # Sessions that fail validation are discarded and replaced
+    boolean testOnBorrow = true;
+|};
+
+# Configuration for segmented parallel downloads.
+public type ParallelDownloadConfig record {|
+    # Size of each byte range in bytes
+    int segmentSize = 8388608;
+    # Maximum number of byte ranges fetched at the same time
+    int parallelism = 4;
+|};
+
+# Configuration for transfers between the local file system and the server.
+public type FileTransferConfig record {|
+    # If `true`, a retried transfer continues from the data that is already transferred
+    boolean resume = true;
+    # If `true`, a checkpoint file is kept next to the local file while the transfer is incomplete, so that a
+    # transfer interrupted by a restart of the program is resumed by the next call for the same file
+    boolean persistCheckpoint = false;
+    # Number of bytes moved between the local file and the server at a time
+    int bufferSize = 1048576;
+|};
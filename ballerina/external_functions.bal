@@ -130,3 +130,7 @@ isolated function deregister(Listener listenerEndpoint, Service ftpService) retu
 isolated function cleanup(Listener listenerEndpoint) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.ftp.server.FtpListenerHelper"
 } external;
+
+isolated function joinCoordinationGroup(Listener listenerEndpoint) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.ftp.server.FtpListenerHelper"
+} external;
@@ -33,10 +33,15 @@ public isolated class Listener {
         self.config = listenerConfig.cloneReadOnly();
 
         decimal pollingInterval = self.config.pollingInterval;
+        AdaptivePollingConfig? adaptivePolling = self.config.adaptivePolling;
+        if adaptivePolling is AdaptivePollingConfig && adaptivePolling.minInterval > 0d {
+            // Each path decides on the ticks whether its own interval has elapsed
+            pollingInterval = adaptivePolling.minInterval;
+        }
         CoordinationConfig? coordination = self.config.coordination;
 
         task:Listener|error taskListener;
-        if coordination is CoordinationConfig {
+        if coordination is CoordinationConfig && coordination.mode == WARM_BACKUP {
             taskListener = new ({
                 trigger: {interval: pollingInterval},
                 warmBackupConfig: {
@@ -117,6 +122,7 @@ public isolated class Listener {
     }
 
     isolated function internalStart() returns error? {
+        check joinCoordinationGroup(self);
         check self.taskListener.attach(getPollingService(self));
         check self.taskListener.'start();
     }
@@ -147,6 +153,16 @@ public isolated class Listener {
     public isolated function register(Service ftpService, string? name) returns error? {
         return register(self, ftpService);
     }
+
+    # Returns a snapshot of the callback dispatch metrics of the listener, summed over its services.
+    # ```ballerina
+    # ftp:DispatchMetrics metrics = listener.getDispatchMetrics();
+    # ```
+    #
+    # + return - The number of queued, in-flight, completed, deferred, and dropped callbacks
+    public isolated function getDispatchMetrics() returns DispatchMetrics = @java:Method {
+        'class: "io.ballerina.stdlib.ftp.server.FtpListenerHelper"
+    } external;
 }
 
 isolated function getPollingService(Listener initializedListener) returns task:Service {
@@ -182,6 +198,9 @@ public type ListenerConfiguration record {|
     string fileNamePattern?;
     # Polling interval in seconds for checking file changes
     decimal pollingInterval = 60;
+    # Configuration for adapting the polling interval of each monitored path to its rate of changes. When
+    # configured, `pollingInterval` is the initial interval of each path
+    AdaptivePollingConfig adaptivePolling?;
     # If `true`, treats the login home directory as the root (`/`) and prevents the underlying VFS from
     # attempting to change to the actual server root. Set to `true` for chrooted/jailed environments
     boolean userDirIsRoot = false;
@@ -211,8 +230,32 @@ public type ListenerConfiguration record {|
     # Configuration for fail-safe CSV content processing. In fail-safe mode,
     # malformed CSV records are skipped and written to a separate file in the current directory
     FailSafeOptions csvFailSafe?;
+    # If `true`, content of files compressed with GZIP or ZIP is decompressed before it is passed to the content
+    # methods, and compressed files are routed by the extension of their content. For example,
+    # `orders.csv.gz` is routed to `onFileCsv`
+    boolean decompressContent = false;
+    # Maximum number of paths of services with `@ftp:ServiceConfig` that are polled at the same time. All paths
+    # of a listener are on the same server, so this bounds the concurrent directory listings against that server
+    int maxConcurrentPolls = 8;
+    # Configuration for scanning the subdirectories of the monitored paths, including the maximum depth, the
+    # number of concurrent listings and the subdirectories that are skipped
+    DirectoryScanConfig directoryScan = {};
+    # Configuration for reporting files only once their size and modification time stop changing, so that files
+    # that are still being written are not picked up
+    StabilityConfig stability?;
+    # Configuration for limiting the number of files that each poll of a monitored path reports, so that a
+    # directory with a large number of new files is drained over several polls
+    PollBatchConfig pollBatch?;
+    # Configuration for dispatching the service callbacks, including the maximum number of callbacks of a service
+    # that run at the same time, the callbacks that wait for them, the policy when the wait queue is full, and the
+    # number of concurrent content fetches
+    DispatchConfig dispatch = {};
+    # Configuration for persisting the files reported by the listener, so that a restarted listener, or the member
+    # that takes over a coordination group, does not report the existing files again
+    CheckpointConfig checkpoint?;
     # Configuration for distributed task coordination. When configured, only one member
-    # in the group actively polls while others act as warm standby
+    # in the group actively polls while others act as warm standby, or the members share the files
+    # of the monitored directories in the `PARTITIONED` mode
     CoordinationConfig coordination?;
     # Configuration for retry behavior when retrieving file content from the server.
     # When configured, transient failures during file retrieval are automatically retried
@@ -240,9 +283,132 @@ public enum ErrorLogContentType {
 public type Service distinct service object {
 };
 
+# Configuration for adapting the polling interval of each monitored path to its rate of changes.
+public type AdaptivePollingConfig record {|
+    # Shortest interval in seconds between the polls of a path. A poll that finds changes, or files that are not
+    # stable yet, schedules the next poll of its path after this interval
+    decimal minInterval = 5;
+    # Longest interval in seconds between the polls of a path
+    decimal maxInterval = 300;
+    # Multiplier applied to the interval of a path after each poll that finds no changes
+    decimal backOffFactor = 2.0;
+    # Fraction of the interval, from 0 to 1, by which the interval after a poll that finds no changes is randomly
+    # shortened or lengthened, so that idle paths spread their polls over time
+    decimal jitter = 0.2;
+|};
+
+# Configuration for reporting files once they stop changing.
+public type StabilityConfig record {|
+    # Number of consecutive polls that must see the same size and modification time of a file before it is
+    # reported. The first poll that sees a file counts, so the default reports a finished file on the next poll
+    int observations = 2;
+    # Time in seconds after which a file is reported if its size and modification time have not changed, even if
+    # fewer polls have seen it
+    decimal quietPeriod?;
+|};
+
+# Orders in which the listener selects and reports files.
+public enum FileOrder {
+    # Files with the earliest modification time first
+    OLDEST_FIRST,
+    # Smallest files first
+    SMALLEST_FIRST,
+    # Files in the lexicographic order of their paths
+    BY_NAME
+}
+
+# Configuration for limiting the files reported by each poll of a monitored path.
+public type PollBatchConfig record {|
+    # Maximum number of added and modified files of a path that a poll reports. The remaining files are reported
+    # by the next polls
+    int maxFilesPerPoll = 1000;
+    # Order in which the files are selected and reported. Files with the same modification time or size are ordered
+    # by their paths
+    FileOrder order = OLDEST_FIRST;
+|};
+
+# Policies for a callback that is dispatched while the dispatch queue of the service is full.
+public enum DispatchOverflowPolicy {
+    # Blocks the poll until a running callback completes
+    BLOCK,
+    # Skips the callback and reports its files again in the next poll. Polls of the service are skipped while
+    # its queue is full. Services without `@ftp:ServiceConfig` share the files of the listener path, so only one
+    # such service can be attached with this policy
+    DEFER,
+    # Skips the callback and counts it in `droppedCallbacks`. Its files are not reported again
+    DROP
+}
+
+# Configuration for dispatching the callbacks of the services of a listener.
+public type DispatchConfig record {|
+    # Maximum number of callbacks of a service that run at the same time
+    int maxInFlight = 64;
+    # Maximum number of callbacks of a service that wait for a running callback to complete. Content methods
+    # wait while the content of their file is fetched
+    int queueCapacity = 1024;
+    # Policy for a callback that is dispatched while the queue of the service is full
+    DispatchOverflowPolicy overflowPolicy = BLOCK;
+    # Maximum number of files of a service whose content is fetched and converted at the same time for the content
+    # methods. The poll waits for a free place before it starts the next fetch
+    int prefetchWindow = 8;
+    # Order in which the files of a poll are dispatched. By default, the files are dispatched in the order in which
+    # they are listed. Without an `orderingKey`, the content methods start once the content of their file is fetched
+    FileOrder order?;
+    # Regular expression that gives the ordering key of a file from its name, as the first capturing group or the
+    # whole match if the expression has no groups. The callbacks of the files with the same key run one at a time
+    # in the order in which the files are dispatched, while files with different keys are processed in parallel.
+    # Files whose names do not match are not ordered
+    string orderingKey?;
+|};
+
+# Callback dispatch metrics of a listener.
+public type DispatchMetrics record {|
+    # Number of callbacks waiting for a running callback to complete
+    int queuedCallbacks;
+    # Number of callbacks currently running
+    int inFlightCallbacks;
+    # Total number of callbacks completed since the services were attached
+    int completedCallbacks;
+    # Total number of callbacks deferred to a later poll because the queue was full
+    int deferredCallbacks;
+    # Total number of callbacks dropped because the queue was full
+    int droppedCallbacks;
+|};
+
+# Stores for the checkpoints of the files reported by a listener.
+public enum CheckpointStore {
+    # Append-only files in a local directory
+    LOCAL_FILE,
+    # A table in the database of the `coordination` configuration, shared by the members of the coordination group
+    DATABASE
+}
+
+# Configuration for persisting the files reported by a listener.
+public type CheckpointConfig record {|
+    # Name that identifies the checkpoints of the listener. Listeners that use the same store must use distinct
+    # names, and the members of a coordination group must use the same name
+    string name;
+    # Store of the checkpoints
+    CheckpointStore store = LOCAL_FILE;
+    # Directory of the checkpoint files of the `LOCAL_FILE` store
+    string directory = "checkpoints";
+    # Number of obsolete records in a checkpoint file, which are records replaced or removed by later records of the
+    # same file, after which the file is rewritten with only the current state of each file
+    int compactionThreshold = 10000;
+|};
+
+# Modes of coordination between the members of a coordination group.
+public enum CoordinationMode {
+    # Only one member polls, while the others wait to take over when it stops
+    WARM_BACKUP,
+    # Every member polls, and each file is dispatched only by the live member that its path is assigned to. The
+    # files are reassigned when members join or leave the group
+    PARTITIONED
+}
+
 # Configuration for distributed task coordination.
 # When configured, multiple FTP listener members coordinate so that only one actively polls
-# while others act as warm standby members.
+# while others act as warm standby members, or so that the members share the files of the monitored directories.
 public type CoordinationConfig record {|
     # Database configuration used for task coordination state
     task:DatabaseConfig databaseConfig = <task:MysqlConfig>{};
@@ -254,4 +420,7 @@ public type CoordinationConfig record {|
     string coordinationGroup;
     # Interval in seconds for the node to update its heartbeat status
     int heartbeatFrequency = 1;
+    # Mode of coordination. The `PARTITIONED` mode requires a `DATABASE` checkpoint, so that a file reassigned to
+    # another member is not reported again
+    CoordinationMode mode = WARM_BACKUP;
 |};
@@ -499,6 +499,309 @@ function testDependencyMatchingModeAny() returns error? {
     test:assertTrue(dependencyDelivered, msg = "Dependency matching with ANY mode did not work");
 }
 
+isolated boolean siblingCountEventReceived = false;
+
+@test:Config {
+    groups: ["adFiltering"]
+}
+function testDependencyExactCountFromListing() returns error? {
+    string directory = "/home/in/advanced/dependency";
+    string xmlPath = directory + "/sibling.xml";
+    // Matched by the prefix of the first pattern, and by the extension of the second
+    string[] matchingPaths = [directory + "/sibling_part1.csv", directory + "/sibling_part2.csv",
+        directory + "/sibling.ok"];
+    // Share the prefix or the extension of a pattern without matching it
+    string[] decoyPaths = [directory + "/sibling_part3.txt", directory + "/other_part1.csv",
+        directory + "/sibling.ok.bak"];
+    check removeIfExists(ftpClient, xmlPath);
+    foreach string path in [...matchingPaths, ...decoyPaths] {
+        check removeIfExists(ftpClient, path);
+    }
+
+    Service siblingService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo file in event.addedFiles {
+                if file.name == "sibling.xml" {
+                    lock {
+                        siblingCountEventReceived = true;
+                    }
+                }
+            }
+        }
+    };
+    Listener siblingListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        path: directory,
+        pollingInterval: 1,
+        fileNamePattern: "sibling\\.xml",
+        fileDependencyConditions: [
+            {
+                targetPattern: "(sibling)\\.xml",
+                requiredFiles: ["$1_part.*\\.csv", ".*\\.ok"],
+                matchingMode: EXACT_COUNT,
+                requiredFileCount: 3
+            }
+        ]
+    });
+    check siblingListener.attach(siblingService);
+    check siblingListener.'start();
+    runtime:registerListener(siblingListener);
+
+    foreach string path in [matchingPaths[0], matchingPaths[2], ...decoyPaths] {
+        check ftpClient->putText(path, "part");
+    }
+    check ftpClient->putText(xmlPath, "target");
+    runtime:sleep(3);
+    boolean deliveredEarly;
+    lock {
+        deliveredEarly = siblingCountEventReceived;
+    }
+
+    check ftpClient->putText(matchingPaths[1], "part");
+    int waitCount = 0;
+    boolean delivered = false;
+    while waitCount < 10 && !delivered {
+        runtime:sleep(1);
+        lock {
+            delivered = siblingCountEventReceived;
+        }
+        waitCount += 1;
+    }
+
+    runtime:deregisterListener(siblingListener);
+    check siblingListener.gracefulStop();
+    check removeIfExists(ftpClient, xmlPath);
+    foreach string path in [...matchingPaths, ...decoyPaths] {
+        check removeIfExists(ftpClient, path);
+    }
+    test:assertFalse(deliveredEarly, msg = "The decoys should not be counted as required files");
+    test:assertTrue(delivered, msg = "The file should be delivered once exactly 3 required files exist");
+}
+
+isolated map<string[]> patternMatchedFiles = {};
+
+isolated function recordPatternMatch(string pattern, string fileName) {
+    lock {
+        string[]? matchedFiles = patternMatchedFiles[pattern];
+        if matchedFiles is string[] && matchedFiles.indexOf(fileName) is () {
+            matchedFiles.push(fileName);
+        }
+    }
+}
+
+function createPatternListener(string directory, string pattern) returns Listener|error {
+    Listener patternListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        path: directory,
+        pollingInterval: 1,
+        fileNamePattern: pattern
+    });
+    Service patternService = service object {
+        private final string pattern = pattern;
+
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                recordPatternMatch(self.pattern, addedFile.name);
+            }
+        }
+    };
+    check patternListener.attach(patternService);
+    return patternListener;
+}
+
+@test:Config {
+    groups: ["adFiltering"]
+}
+function testFileNamePatternsMatchWholeName() returns error? {
+    string directory = "/home/in/advanced/patterns/names";
+    string[] fileNames = ["sales.csv", "salesXcsv", "sales.csv.bak", "readme.txt", "readme.txt.bak", "exact.name",
+        "exactXname", "abc", "aXbYc", "acb", "12345", "12a45"];
+    // The names that `String.matches` accepts for each pattern. The first four patterns are matched without the
+    // regex engine, and the last two need the compiled pattern
+    map<string[]> expectedMatches = {
+        "(.*).csv": ["sales.csv", "salesXcsv"],
+        ".+\\.txt": ["readme.txt"],
+        "exact.name": ["exact.name", "exactXname"],
+        "exact\\.name": ["exact.name"],
+        "a.*b.*c": ["aXbYc", "abc"],
+        "\\d+": ["12345"]
+    };
+    foreach string fileName in fileNames {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+
+    Listener[] patternListeners = [];
+    foreach string pattern in expectedMatches.keys() {
+        lock {
+            patternMatchedFiles[pattern] = [];
+        }
+        Listener patternListener = check createPatternListener(directory, pattern);
+        check patternListener.'start();
+        runtime:registerListener(patternListener);
+        patternListeners.push(patternListener);
+    }
+    foreach string fileName in fileNames {
+        check ftpClient->putText(directory + "/" + fileName, "pattern");
+    }
+    runtime:sleep(4);
+
+    foreach Listener patternListener in patternListeners {
+        runtime:deregisterListener(patternListener);
+        check patternListener.gracefulStop();
+    }
+    foreach string fileName in fileNames {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+    foreach [string, string[]] [pattern, expected] in expectedMatches.entries() {
+        string[] matchedFiles;
+        lock {
+            matchedFiles = (patternMatchedFiles[pattern] ?: []).clone();
+        }
+        test:assertEquals(matchedFiles.sort(), expected, msg = string `Unexpected files matched by '${pattern}'`);
+    }
+}
+
+isolated string[] patternDependencyFiles = [];
+
+@test:Config {
+    groups: ["adFiltering"]
+}
+function testDependencyPatternsMatchWholeName() returns error? {
+    string directory = "/home/in/advanced/patterns/dependency";
+    // batch2 has no character for `.+` in its CSV, and the marker of batch3 does not have the escaped dot
+    string[] requiredFiles = ["batch1.ok", "batch1_rows.csv", "batch2.ok", "batch2_.csv", "batch3Xok",
+        "batch3_rows.csv"];
+    string[] targetFiles = ["batch1.dat", "batch2.dat", "batch3.dat"];
+    foreach string fileName in [...requiredFiles, ...targetFiles] {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+    lock {
+        patternDependencyFiles = [];
+    }
+
+    Service dependencyService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                lock {
+                    patternDependencyFiles.push(addedFile.name);
+                }
+            }
+        }
+    };
+    Listener dependencyListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        path: directory,
+        pollingInterval: 1,
+        fileNamePattern: "batch\\d\\.dat",
+        fileDependencyConditions: [
+            {
+                targetPattern: "(batch\\d)\\.dat",
+                requiredFiles: ["$1\\.ok", "$1_.+\\.csv"],
+                matchingMode: ALL
+            }
+        ]
+    });
+    check dependencyListener.attach(dependencyService);
+    check dependencyListener.'start();
+    runtime:registerListener(dependencyListener);
+
+    foreach string fileName in [...requiredFiles, ...targetFiles] {
+        check ftpClient->putText(directory + "/" + fileName, "dependency");
+    }
+    runtime:sleep(4);
+
+    runtime:deregisterListener(dependencyListener);
+    check dependencyListener.gracefulStop();
+    foreach string fileName in [...requiredFiles, ...targetFiles] {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+    string[] deliveredFiles;
+    lock {
+        deliveredFiles = patternDependencyFiles.clone();
+    }
+    test:assertEquals(deliveredFiles, ["batch1.dat"], msg = "Only batch1.dat has both of its required files");
+}
+
+isolated string[] patternTextRoutedFiles = [];
+isolated string[] patternBytesRoutedFiles = [];
+
+@test:Config {
+    groups: ["adFiltering"]
+}
+function testFunctionConfigPatternsMatchWholeName() returns error? {
+    string directory = "/home/in/advanced/patterns/routing";
+    // 20x4 matches neither annotation and has no extension, so it falls back to onFile
+    string[] fileNames = ["2024", "20x4", "memo.txt"];
+    foreach string fileName in fileNames {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+    lock {
+        patternTextRoutedFiles = [];
+    }
+    lock {
+        patternBytesRoutedFiles = [];
+    }
+
+    Service routingService = service object {
+        @FunctionConfig {fileNamePattern: "\\d+"}
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            string fileName = fileInfo.name;
+            lock {
+                patternTextRoutedFiles.push(fileName);
+            }
+        }
+
+        @FunctionConfig {fileNamePattern: ".+\\.txt"}
+        remote function onFile(byte[] content, FileInfo fileInfo) returns error? {
+            string fileName = fileInfo.name;
+            lock {
+                patternBytesRoutedFiles.push(fileName);
+            }
+        }
+    };
+    Listener routingListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        path: directory,
+        pollingInterval: 1
+    });
+    check routingListener.attach(routingService);
+    check routingListener.'start();
+    runtime:registerListener(routingListener);
+
+    foreach string fileName in fileNames {
+        check ftpClient->putText(directory + "/" + fileName, "routing");
+    }
+    runtime:sleep(4);
+
+    runtime:deregisterListener(routingListener);
+    check routingListener.gracefulStop();
+    foreach string fileName in fileNames {
+        check removeIfExists(ftpClient, directory + "/" + fileName);
+    }
+    string[] textFiles;
+    string[] byteFiles;
+    lock {
+        textFiles = patternTextRoutedFiles.clone();
+    }
+    lock {
+        byteFiles = patternBytesRoutedFiles.clone();
+    }
+    test:assertEquals(textFiles, ["2024"], msg = "Only names of digits should be routed to onFileText");
+    test:assertEquals(byteFiles.sort(), ["20x4", "memo.txt"], msg = "memo.txt should be routed to onFile");
+}
+
 function ensureDirectory(Client ftpClient, string path) returns error? {
     var mkdirResult = trap ftpClient->mkdir(path);
     if mkdirResult is error {
@@ -361,6 +361,313 @@ public function testListenerWithInvalidFileNamePattern() returns error? {
     }
 }
 
+@test:Config {}
+public function testListenerWithInvalidMaxConcurrentPolls() returns error? {
+    ListenerConfiguration invalidPollsConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        maxConcurrentPolls: 0
+    };
+    Listener|Error listenerResult = new (invalidPollsConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError when creating listener with maxConcurrentPolls of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("maxConcurrentPolls"),
+            msg = "Error message should mention maxConcurrentPolls field. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidDirectoryScan() returns error? {
+    ListenerConfiguration invalidParallelismConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        directoryScan: {parallelism: 0}
+    };
+    Listener|Error listenerResult = new (invalidParallelismConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError when creating listener with directoryScan.parallelism of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("directoryScan.parallelism"),
+            msg = "Error message should mention directoryScan.parallelism. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidExcludedConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        directoryScan: {excludedDirectories: ["archive[unclosed"]}
+    };
+    listenerResult = new (invalidExcludedConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError when creating listener with an invalid excluded directory pattern");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("Invalid regex pattern"),
+            msg = "Error message should indicate invalid regex pattern. Got: " + listenerResult.message());
+        test:assertTrue(listenerResult.message().includes("directoryScan.excludedDirectories"),
+            msg = "Error message should mention directoryScan.excludedDirectories field");
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidCheckpoint() returns error? {
+    ListenerConfiguration databaseWithoutCoordinationConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        checkpoint: {name: "orders", store: DATABASE}
+    };
+    Listener|Error listenerResult = new (databaseWithoutCoordinationConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a DATABASE checkpoint store without coordination");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("coordination"),
+            msg = "Error message should mention the coordination configuration. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidThresholdConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        checkpoint: {name: "orders", compactionThreshold: 0}
+    };
+    listenerResult = new (invalidThresholdConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a checkpoint compactionThreshold of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("checkpoint.compactionThreshold"),
+            msg = "Error message should mention checkpoint.compactionThreshold. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidStability() returns error? {
+    ListenerConfiguration invalidObservationsConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        stability: {observations: 0}
+    };
+    Listener|Error listenerResult = new (invalidObservationsConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for stability observations of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("stability.observations"),
+            msg = "Error message should mention stability.observations. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidQuietPeriodConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        stability: {quietPeriod: -5}
+    };
+    listenerResult = new (invalidQuietPeriodConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a negative stability quietPeriod");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("stability.quietPeriod"),
+            msg = "Error message should mention stability.quietPeriod. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidAdaptivePolling() returns error? {
+    ListenerConfiguration invalidMinIntervalConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        adaptivePolling: {minInterval: 0}
+    };
+    Listener|Error listenerResult = new (invalidMinIntervalConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for an adaptive polling minInterval of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("adaptivePolling.minInterval"),
+            msg = "Error message should mention adaptivePolling.minInterval. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidMaxIntervalConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        adaptivePolling: {minInterval: 10, maxInterval: 5}
+    };
+    listenerResult = new (invalidMaxIntervalConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for an adaptive polling maxInterval below minInterval");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("adaptivePolling.maxInterval"),
+            msg = "Error message should mention adaptivePolling.maxInterval. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidJitterConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        adaptivePolling: {jitter: 1.5}
+    };
+    listenerResult = new (invalidJitterConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for an adaptive polling jitter above 1");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("adaptivePolling.jitter"),
+            msg = "Error message should mention adaptivePolling.jitter. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidPollBatch() returns error? {
+    ListenerConfiguration invalidConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        pollBatch: {maxFilesPerPoll: 0}
+    };
+    Listener|Error listenerResult = new (invalidConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a maxFilesPerPoll of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("pollBatch.maxFilesPerPoll"),
+            msg = "Error message should mention pollBatch.maxFilesPerPoll. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithPartitionedCoordinationWithoutDatabaseCheckpoint() returns error? {
+    ListenerConfiguration invalidConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        checkpoint: {name: "partitioned", directory: "build/checkpoints"},
+        coordination: {
+            mode: PARTITIONED,
+            memberId: "node-1",
+            coordinationGroup: "partitioned-group"
+        }
+    };
+    Listener|Error listenerResult = new (invalidConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for the PARTITIONED mode with a LOCAL_FILE checkpoint");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("coordination.mode PARTITIONED"),
+            msg = "Error message should mention coordination.mode PARTITIONED. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerWithInvalidDispatch() returns error? {
+    ListenerConfiguration invalidMaxInFlightConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        dispatch: {maxInFlight: 0}
+    };
+    Listener|Error listenerResult = new (invalidMaxInFlightConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a dispatch maxInFlight of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("dispatch.maxInFlight"),
+            msg = "Error message should mention dispatch.maxInFlight. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidQueueCapacityConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        dispatch: {queueCapacity: -1, overflowPolicy: DROP}
+    };
+    listenerResult = new (invalidQueueCapacityConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a negative dispatch queueCapacity");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("dispatch.queueCapacity"),
+            msg = "Error message should mention dispatch.queueCapacity. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidPrefetchWindowConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        dispatch: {prefetchWindow: 0}
+    };
+    listenerResult = new (invalidPrefetchWindowConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for a dispatch prefetchWindow of 0");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("dispatch.prefetchWindow"),
+            msg = "Error message should mention dispatch.prefetchWindow. Got: " + listenerResult.message());
+    }
+
+    ListenerConfiguration invalidOrderingKeyConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        dispatch: {order: BY_NAME, orderingKey: "^(order-[0-9+"}
+    };
+    listenerResult = new (invalidOrderingKeyConfig);
+    test:assertTrue(listenerResult is InvalidConfigError,
+        msg = "Expected InvalidConfigError for an invalid dispatch orderingKey");
+    if listenerResult is InvalidConfigError {
+        test:assertTrue(listenerResult.message().includes("dispatch.orderingKey"),
+            msg = "Error message should mention dispatch.orderingKey. Got: " + listenerResult.message());
+    }
+}
+
+@test:Config {}
+public function testListenerDispatchMetricsBeforeAttach() returns error? {
+    Listener dispatchListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        pollingInterval: 2,
+        dispatch: {maxInFlight: 4, queueCapacity: 0, overflowPolicy: DEFER}
+    });
+    DispatchMetrics metrics = dispatchListener.getDispatchMetrics();
+    test:assertEquals(metrics, {
+        queuedCallbacks: 0,
+        inFlightCallbacks: 0,
+        completedCallbacks: 0,
+        deferredCallbacks: 0,
+        droppedCallbacks: 0
+    });
+}
+
 @test:Config {}
 public function testListenerWithInvalidDependencyTargetPattern() returns error? {
     ListenerConfiguration invalidDependencyConfig = {
@@ -255,6 +255,60 @@ public function testPutCompressedFileContent() returns error? {
     }
 }
 
+@test:Config {
+    dependsOn: [testPutCompressedFileContent]
+}
+public function testPutGzipCompressedFileContent() returns error? {
+    stream<io:Block, io:Error?> bStream = check io:fileReadBlocksAsStream(putFilePath, 5);
+
+    check (<Client>clientEp)->put("/home/in/test3.txt", bStream, compressionType = GZIP, compressionLevel = 9,
+            compressionBufferSize = 16);
+
+    byte[] compressed = check (<Client>clientEp)->getBytes("/home/in/test3.txt.gz");
+    test:assertTrue(compressed.length() > 2, msg = "Compressed file should not be empty");
+    test:assertEquals(compressed[0], 0x1f, msg = "Compressed file should start with the GZIP magic number");
+    test:assertEquals(compressed[1], 0x8b, msg = "Compressed file should start with the GZIP magic number");
+}
+
+@test:Config {
+    dependsOn: [testPutFileContent]
+}
+public function testPutCompressedWithInvalidLevel() {
+    Error? response = (<Client>clientEp)->put("/home/in/test3.txt", "content", compressionType = GZIP,
+            compressionLevel = 10);
+    test:assertTrue(response is InvalidConfigError, msg = "Compression level 10 should be rejected");
+}
+
+@test:Config {
+    dependsOn: [testPutFileContent]
+}
+public function testGetDecompressedContent() returns error? {
+    Client decompressingClient = check new ({...config, decompressContent: true});
+    check (<Client>clientEp)->put("/home/in/orders.csv", "id,item\n1,apple\n2,pear", compressionType = GZIP);
+    check (<Client>clientEp)->put("/home/in/orders-archive.csv", "id,item\n3,plum", compressionType = ZIP);
+
+    stream<string[], error?> rows = check decompressingClient->getCsvAsStream("/home/in/orders.csv.gz");
+    string[][] gzipRows = check from string[] row in rows select row;
+    test:assertEquals(gzipRows, [["1", "apple"], ["2", "pear"]], msg = "GZIP content should be decompressed");
+
+    string[][] zipRows = check decompressingClient->getCsv("/home/in/orders-archive.zip");
+    test:assertEquals(zipRows, [["3", "plum"]], msg = "ZIP content should be decompressed");
+
+    byte[] parallelContent = check decompressingClient->getBytesParallel("/home/in/orders.csv.gz", segmentSize = 8,
+            parallelism = 2);
+    test:assertEquals(check string:fromBytes(parallelContent), "id,item\n1,apple\n2,pear",
+            msg = "GZIP content fetched in ranges should be decompressed");
+
+    check decompressingClient->putText("/home/in/orders-plain.csv", "id,item\n4,fig");
+    string text = check decompressingClient->getText("/home/in/orders-plain.csv");
+    test:assertEquals(text, "id,item\n4,fig", msg = "Uncompressed content should be read unchanged");
+
+    check decompressingClient->delete("/home/in/orders.csv.gz");
+    check decompressingClient->delete("/home/in/orders-archive.zip");
+    check decompressingClient->delete("/home/in/orders-plain.csv");
+    check decompressingClient->close();
+}
+
 @test:Config {dependsOn: [testPutFileContent]}
 function testPutBytes() returns error? {
     byte[] content = "hello-bytes".toBytes();
@@ -698,6 +752,32 @@ function testPutCsvAsStreamWithStringRows() returns error? {
     test:assertEquals(actual, rows.slice(1), msg = "CSV stream rows mismatch (get stream)");
 }
 
+@test:Config {dependsOn: [testPutCsvAsStreamWithStringRows]}
+function testPutCsvAsStreamPipelined() returns error? {
+    Client pipelinedClient = check new ({...config, streamUpload: {queueDepth: 1, bufferSize: 1024}});
+    string csvPath = "/home/in/csv-stream-pipelined.csv";
+    string[][] rows = [["id", "name"]];
+    foreach int i in 1 ... 500 {
+        rows.push([i.toString(), "name-" + i.toString()]);
+    }
+
+    check pipelinedClient->putCsvAsStream(csvPath, rows.toStream());
+
+    string[][] gotAll = check pipelinedClient->getCsv(csvPath);
+    test:assertEquals(gotAll, rows.slice(1), msg = "Rows spanning several upload buffers should be written in order");
+    check pipelinedClient->delete(csvPath);
+    check pipelinedClient->close();
+}
+
+@test:Config {}
+function testInvalidStreamUploadConfig() {
+    Client|Error queueDepthResult = new ({...config, streamUpload: {queueDepth: 0}});
+    test:assertTrue(queueDepthResult is InvalidConfigError, msg = "queueDepth 0 should be rejected");
+
+    Client|Error bufferSizeResult = new ({...config, streamUpload: {bufferSize: 16}});
+    test:assertTrue(bufferSizeResult is InvalidConfigError, msg = "bufferSize below 1024 should be rejected");
+}
+
 type Rec record {|
     string name;
     int age;
@@ -788,6 +868,46 @@ function testXmlTypedBinding_strict_and_lax() returns error? {
     test:assertEquals(laxVal.name, "Alice");
 }
 
+// Streaming JSON and XML parsing
+@test:Config {dependsOn: [testXmlTypedBinding_strict_and_lax]}
+function testGetJsonAndXmlStreaming() returns error? {
+    string jsonPath = "/home/in/json-streaming.json";
+    PersonStrict person = {name: "Alice", age: 32};
+    check (<Client>clientEp)->putJson(jsonPath, person);
+    PersonStrict gotPerson = check (<Client>clientEp)->getJsonStreaming(jsonPath);
+    test:assertEquals(gotPerson, person, msg = "Streamed JSON binding mismatch");
+
+    string xmlPath = "/home/in/xml-streaming.xml";
+    xml x = xml `<person><name>Alice</name><age>32</age></person>`;
+    check (<Client>clientEp)->putXml(xmlPath, x);
+    xml gotXml = check (<Client>clientEp)->getXmlStreaming(xmlPath);
+    test:assertEquals(gotXml.toString(), x.toString(), msg = "Streamed XML content mismatch");
+    XPersonStrict gotXPerson = check (<Client>clientEp)->getXmlStreaming(xmlPath);
+    test:assertEquals(gotXPerson.name, "Alice");
+
+    check (<Client>clientEp)->delete(jsonPath);
+    check (<Client>clientEp)->delete(xmlPath);
+}
+
+// Test that streamed JSON parsing reports binding failures without the content
+@test:Config {dependsOn: [testGetJsonAndXmlStreaming]}
+function testGetJsonStreamingContentBindingError() returns error? {
+    string path = "/home/in/invalid-json-streaming.txt";
+    check (<Client>clientEp)->putText(path, "this is not valid json {{{");
+
+    json|Error result = (<Client>clientEp)->getJsonStreaming(path);
+    test:assertTrue(result is ContentBindingError, msg = "getJsonStreaming should return ContentBindingError");
+    if result is ContentBindingError {
+        test:assertTrue(result.detail().filePath is string, msg = "ContentBindingError should contain filePath");
+        test:assertTrue(result.detail().content is (), msg = "ContentBindingError should not contain content");
+    }
+
+    json|Error missing = (<Client>clientEp)->getJsonStreaming("/home/in/does-not-exist.json");
+    test:assertTrue(missing is FileNotFoundError, msg = "getJsonStreaming should error for missing file");
+
+    check (<Client>clientEp)->delete(path);
+}
+
 type CsvPersonStrict record {|
     string name;
     int age;
@@ -0,0 +1,134 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// Test client creation with a non-positive pool size
+@test:Config {}
+public function testClientWithInvalidPoolMaxActive() {
+    ClientConfiguration config = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        connectionPool: {
+            maxActive: 0
+        }
+    };
+    Client|Error poolClient = new (config);
+    test:assertTrue(poolClient is InvalidConfigError, msg = "Client creation should fail when maxActive is 0");
+    if poolClient is Error {
+        test:assertTrue(poolClient.message().includes("maxActive"), msg = "Error message should mention maxActive");
+    }
+}
+
+// Test client creation with minIdle larger than maxActive
+@test:Config {}
+public function testClientWithPoolMinIdleAboveMaxActive() {
+    ClientConfiguration config = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        connectionPool: {
+            maxActive: 2,
+            minIdle: 3
+        }
+    };
+    Client|Error poolClient = new (config);
+    test:assertTrue(poolClient is InvalidConfigError, msg = "Client creation should fail when minIdle > maxActive");
+    if poolClient is Error {
+        test:assertTrue(poolClient.message().includes("minIdle"), msg = "Error message should mention minIdle");
+    }
+}
+
+// Test that concurrent operations succeed on a pooled client
+@test:Config {}
+public function testConcurrentOperationsWithConnectionPool() returns error? {
+    ClientConfiguration config = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        connectionPool: {
+            maxActive: 2,
+            minIdle: 1
+        }
+    };
+    Client poolClient = check new (config);
+
+    future<boolean|Error> f1 = start poolClient->exists("/home/in");
+    future<boolean|Error> f2 = start poolClient->exists("/home/in");
+    future<FileInfo[]|Error> f3 = start poolClient->list("/home/in");
+
+    test:assertTrue(check wait f1, msg = "Directory should exist");
+    test:assertTrue(check wait f2, msg = "Directory should exist");
+    FileInfo[] files = check wait f3;
+    test:assertTrue(files.length() >= 0, msg = "List operation should return files array");
+
+    check poolClient->close();
+}
+
+// Test client creation with a non-positive concurrency limit
+@test:Config {}
+public function testClientWithInvalidMaxConcurrentOperations() {
+    ClientConfiguration config = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        maxConcurrentOperations: 0
+    };
+    Client|Error limitedClient = new (config);
+    test:assertTrue(limitedClient is InvalidConfigError,
+        msg = "Client creation should fail when maxConcurrentOperations is 0");
+}
+
+// Test that client metrics reflect completed operations
+@test:Config {}
+public function testClientMetricsAfterOperations() returns error? {
+    ClientConfiguration config = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        port: 21212,
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        maxConcurrentOperations: 2
+    };
+    Client metricsClient = check new (config);
+
+    future<boolean|Error> f1 = start metricsClient->exists("/home/in");
+    future<boolean|Error> f2 = start metricsClient->exists("/home/in");
+    future<boolean|Error> f3 = start metricsClient->exists("/home/in");
+    _ = check wait f1;
+    _ = check wait f2;
+    _ = check wait f3;
+
+    // An operation returns its result before the client counts it as completed, so the counters settle shortly after
+    ClientMetrics metrics = metricsClient.getMetrics();
+    int attempts = 0;
+    while (metrics.inFlightOperations > 0 || metrics.completedOperations < 3) && attempts < 50 {
+        runtime:sleep(0.1);
+        metrics = metricsClient.getMetrics();
+        attempts += 1;
+    }
+    test:assertEquals(metrics.maxConcurrentOperations, 2);
+    test:assertEquals(metrics.inFlightOperations, 0);
+    test:assertEquals(metrics.queuedOperations, 0);
+    test:assertTrue(metrics.completedOperations >= 3, msg = "All operations should be counted as completed");
+
+    check metricsClient->close();
+}
@@ -0,0 +1,118 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+final ClientConfiguration transferClientConfig = {
+    protocol: FTP,
+    host: "127.0.0.1",
+    port: 21212,
+    auth: {credentials: {username: "wso2", password: "wso2123"}},
+    connectionPool: {
+        maxActive: 4
+    }
+};
+
+final string transferRemotePath = "/home/in/parallel-download.txt";
+final string transferContent = "0123456789abcdefghijklmnopqrstuvwxyz-parallel-download-content";
+
+// Test that a segmented download returns the same content as a regular read
+@test:Config {}
+public function testGetBytesParallel() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    check transferClient->putText(transferRemotePath, transferContent);
+
+    byte[] expected = check transferClient->getBytes(transferRemotePath);
+    byte[] actual = check transferClient->getBytesParallel(transferRemotePath, segmentSize = 7, parallelism = 3);
+    test:assertEquals(actual, expected, msg = "Segmented download content mismatch");
+
+    check transferClient->close();
+}
+
+// Test that a segmented download is written to a local file
+@test:Config {dependsOn: [testGetBytesParallel]}
+public function testDownloadToFile() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    string localPath = "build/parallel-download.txt";
+
+    check transferClient->downloadToFile(transferRemotePath, localPath, segmentSize = 5, parallelism = 4);
+    string actual = check io:fileReadString(localPath);
+    test:assertEquals(actual, transferContent, msg = "Downloaded file content mismatch");
+
+    check transferClient->close();
+}
+
+// Test segmented download with an invalid parallelism
+@test:Config {}
+public function testGetBytesParallelWithInvalidParallelism() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    byte[]|Error result = transferClient->getBytesParallel("/home/in/test1.txt", parallelism = 0);
+    test:assertTrue(result is InvalidConfigError, msg = "Download should fail when parallelism is 0");
+    check transferClient->close();
+}
+
+// Test that a local file survives an upload and download round trip
+@test:Config {}
+public function testUploadAndDownloadFile() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    string remotePath = "/home/in/uploaded-file.txt";
+    string localPath = "build/downloaded-file.txt";
+
+    check transferClient->uploadFile(putFilePath, remotePath);
+    check transferClient->downloadFile(remotePath, localPath, persistCheckpoint = true);
+
+    string expected = check io:fileReadString(putFilePath);
+    string actual = check io:fileReadString(localPath);
+    test:assertEquals(actual, expected, msg = "Downloaded file content mismatch");
+
+    check transferClient->close();
+}
+
+// Test uploading a local file that does not exist
+@test:Config {}
+public function testUploadNonExistingLocalFile() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    Error? result = transferClient->uploadFile("tests/resources/datafiles/missing.txt", "/home/in/missing.txt");
+    test:assertTrue(result is FileNotFoundError, msg = "Upload should fail when the local file does not exist");
+    check transferClient->close();
+}
+
+// Test a round trip with a buffer smaller than the file
+@test:Config {}
+public function testFileTransferWithSmallBuffer() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    string remotePath = "/home/in/uploaded-small-buffer.txt";
+    string localPath = "build/downloaded-small-buffer.txt";
+
+    check transferClient->uploadFile(putFilePath, remotePath, bufferSize = 3);
+    check transferClient->downloadFile(remotePath, localPath, bufferSize = 4);
+
+    string expected = check io:fileReadString(putFilePath);
+    string actual = check io:fileReadString(localPath);
+    test:assertEquals(actual, expected, msg = "Downloaded file content mismatch");
+
+    check transferClient->close();
+}
+
+// Test a transfer with an invalid buffer size
+@test:Config {}
+public function testFileTransferWithInvalidBufferSize() returns error? {
+    Client transferClient = check new (transferClientConfig);
+    Error? result = transferClient->downloadFile("/home/in/test1.txt", "build/invalid-buffer.txt", bufferSize = 0);
+    test:assertTrue(result is InvalidConfigError, msg = "Download should fail when bufferSize is 0");
+    check transferClient->close();
+}
@@ -14,9 +14,11 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/file;
 import ballerina/lang.runtime as runtime;
 import ballerina/log;
 import ballerina/test;
+import ballerina/time;
 import ballerina/io;
 
 int addedFileCount = 0;
@@ -562,3 +564,794 @@ public function testClientPutJson() returns error? {
 
     check (<Client>clientEp)->delete(path);
 }
+
+isolated int unchangedFileEventCount = 0;
+
+@test:Config {}
+public function testUnchangedFileReportedOnce() returns error? {
+    Service unchangedFileService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                if addedFile.name == "unchanged.once" {
+                    lock {
+                        unchangedFileEventCount += 1;
+                    }
+                }
+            }
+        }
+    };
+    Listener unchangedFileListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in",
+        pollingInterval: 1,
+        fileNamePattern: "(.*).once"
+    });
+    check unchangedFileListener.attach(unchangedFileService);
+    check unchangedFileListener.'start();
+    runtime:registerListener(unchangedFileListener);
+
+    check (<Client>clientEp)->putText("/home/in/unchanged.once", "content");
+    // Several polls see the file without a change
+    runtime:sleep(5);
+
+    runtime:deregisterListener(unchangedFileListener);
+    check unchangedFileListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/unchanged.once");
+    lock {
+        test:assertEquals(unchangedFileEventCount, 1, msg = "An unchanged file should be reported only once");
+    }
+}
+
+isolated int modifiedFileEventCount = 0;
+isolated int modifiedFileSize = -1;
+
+@test:Config {}
+public function testFileModifiedCallback() returns error? {
+    Service modifiedFileService = service object {
+        remote function onFileModified(FileInfo fileInfo) {
+            if fileInfo.name == "overwritten.modified" {
+                lock {
+                    modifiedFileEventCount += 1;
+                }
+                lock {
+                    modifiedFileSize = fileInfo.size;
+                }
+            }
+        }
+    };
+    Listener modifiedFileListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in",
+        pollingInterval: 1,
+        fileNamePattern: "(.*).modified"
+    });
+    check modifiedFileListener.attach(modifiedFileService);
+    check modifiedFileListener.'start();
+    runtime:registerListener(modifiedFileListener);
+
+    check (<Client>clientEp)->putText("/home/in/overwritten.modified", "content");
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(modifiedFileEventCount, 0, msg = "A new file should not be reported as modified");
+    }
+
+    // Overwrite the file in place with longer content
+    check (<Client>clientEp)->putText("/home/in/overwritten.modified", "updated content");
+    runtime:sleep(3);
+
+    runtime:deregisterListener(modifiedFileListener);
+    check modifiedFileListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/overwritten.modified");
+    lock {
+        test:assertEquals(modifiedFileEventCount, 1, msg = "An overwritten file should be reported as modified once");
+    }
+    lock {
+        test:assertEquals(modifiedFileSize, 15, msg = "The modified file should be reported with its new size");
+    }
+}
+
+isolated FileInfo? listedFileInfo = ();
+
+@test:Config {}
+public function testFileInfoFromListing() returns error? {
+    Service listedFileService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                if addedFile.name == "attributes.listed" {
+                    lock {
+                        listedFileInfo = addedFile;
+                    }
+                }
+            }
+        }
+    };
+    Listener listedFileListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in",
+        pollingInterval: 1,
+        fileNamePattern: "(.*).listed"
+    });
+    check listedFileListener.attach(listedFileService);
+    check listedFileListener.'start();
+    runtime:registerListener(listedFileListener);
+
+    check (<Client>clientEp)->putText("/home/in/attributes.listed", "0123456789");
+    runtime:sleep(3);
+
+    runtime:deregisterListener(listedFileListener);
+    check listedFileListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/attributes.listed");
+    FileInfo? fileInfo;
+    lock {
+        fileInfo = listedFileInfo;
+    }
+    if fileInfo is () {
+        test:assertFail("The listed file should be reported");
+    }
+    test:assertEquals(fileInfo.size, 10, msg = "The size should be taken from the listing");
+    test:assertTrue(fileInfo.lastModifiedTimestamp > 0, msg = "The modification time should be taken from the listing");
+    test:assertTrue(fileInfo.isFile, msg = "The listed entry should be a file");
+    test:assertFalse(fileInfo.isFolder, msg = "The listed entry should not be a folder");
+    test:assertEquals(fileInfo.fileType, "file", msg = "The type should be taken from the listing");
+    test:assertTrue(fileInfo.isReadable, msg = "The permissions should be read while the listing is held");
+    test:assertFalse(fileInfo.isHidden, msg = "The file should not be hidden");
+    test:assertEquals(fileInfo.extension, "listed");
+}
+
+isolated int slowPathCompletedCallbacks = 0;
+isolated boolean fastPathFileReceived = false;
+
+@test:Config {}
+public function testSlowPathDoesNotDelayOtherPaths() returns error? {
+    Service slowPathService = @ServiceConfig {path: "/home/in/concurrent-poll-slow"}
+    isolated service object {
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            runtime:sleep(10);
+            lock {
+                slowPathCompletedCallbacks += 1;
+            }
+        }
+    };
+    Service fastPathService = @ServiceConfig {path: "/home/in/concurrent-poll-fast"}
+    isolated service object {
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            lock {
+                fastPathFileReceived = true;
+            }
+        }
+    };
+    // With one callback at a time and no queue, the poll of the slow path blocks on its second file
+    Listener concurrentPollListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        pollingInterval: 1,
+        dispatch: {maxInFlight: 1, queueCapacity: 0, overflowPolicy: BLOCK}
+    });
+    check concurrentPollListener.attach(slowPathService);
+    check concurrentPollListener.attach(fastPathService);
+    check concurrentPollListener.'start();
+    runtime:registerListener(concurrentPollListener);
+
+    check (<Client>clientEp)->putText("/home/in/concurrent-poll-slow/first.txt", "first");
+    check (<Client>clientEp)->putText("/home/in/concurrent-poll-slow/second.txt", "second");
+    runtime:sleep(3);
+    check (<Client>clientEp)->putText("/home/in/concurrent-poll-fast/file.txt", "fast");
+    runtime:sleep(4);
+
+    boolean fastReceived;
+    lock {
+        fastReceived = fastPathFileReceived;
+    }
+    int slowCompleted;
+    lock {
+        slowCompleted = slowPathCompletedCallbacks;
+    }
+    runtime:deregisterListener(concurrentPollListener);
+    check concurrentPollListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/concurrent-poll-slow/first.txt");
+    check (<Client>clientEp)->delete("/home/in/concurrent-poll-slow/second.txt");
+    check (<Client>clientEp)->delete("/home/in/concurrent-poll-fast/file.txt");
+    test:assertEquals(slowCompleted, 0, msg = "The poll of the slow path should still be blocked");
+    test:assertTrue(fastReceived, msg = "A blocked poll of one path should not delay the polls of another path");
+}
+
+isolated int stopBlockedPollCallbacks = 0;
+
+@test:Config {}
+public function testStopWhilePollIsBlockedOnFullQueue() returns error? {
+    Service blockedPollService = @ServiceConfig {path: "/home/in/stop-blocked-poll"}
+    isolated service object {
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            lock {
+                stopBlockedPollCallbacks += 1;
+            }
+            runtime:sleep(10);
+        }
+    };
+    // With one callback at a time and no queue, the poll blocks on the second file until the first callback completes
+    Listener blockedPollListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        pollingInterval: 1,
+        dispatch: {maxInFlight: 1, queueCapacity: 0, overflowPolicy: BLOCK}
+    });
+    check blockedPollListener.attach(blockedPollService);
+    check blockedPollListener.'start();
+    runtime:registerListener(blockedPollListener);
+
+    foreach int i in 1 ... 3 {
+        check (<Client>clientEp)->putText(string `/home/in/stop-blocked-poll/file${i}.txt`, string `content ${i}`);
+    }
+    runtime:sleep(3);
+    int startedCallbacks;
+    lock {
+        startedCallbacks = stopBlockedPollCallbacks;
+    }
+
+    decimal stopStartTime = time:monotonicNow();
+    runtime:deregisterListener(blockedPollListener);
+    check blockedPollListener.gracefulStop();
+    decimal stopDuration = time:monotonicNow() - stopStartTime;
+    foreach int i in 1 ... 3 {
+        check (<Client>clientEp)->delete(string `/home/in/stop-blocked-poll/file${i}.txt`);
+    }
+    test:assertEquals(startedCallbacks, 1, msg = "The poll should be blocked while the first callback runs");
+    test:assertTrue(stopDuration < 5d, msg = "Stopping the listener should not wait for the blocked poll");
+}
+
+isolated string[] scannedFilePaths = [];
+
+@test:Config {}
+public function testDirectoryScanDepthAndExclusions() returns error? {
+    Service scanService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                lock {
+                    scannedFilePaths.push(addedFile.pathDecoded);
+                }
+            }
+        }
+    };
+    Listener scanListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/scan-depth",
+        pollingInterval: 1,
+        directoryScan: {maxDepth: 1, parallelism: 2, excludedDirectories: ["archive"]}
+    });
+    check scanListener.attach(scanService);
+    check scanListener.'start();
+    runtime:registerListener(scanListener);
+
+    check (<Client>clientEp)->putText("/home/in/scan-depth/top.scan", "top");
+    check (<Client>clientEp)->putText("/home/in/scan-depth/level1/nested.scan", "nested");
+    check (<Client>clientEp)->putText("/home/in/scan-depth/level1/level2/deep.scan", "deep");
+    check (<Client>clientEp)->putText("/home/in/scan-depth/archive/archived.scan", "archived");
+    runtime:sleep(4);
+
+    runtime:deregisterListener(scanListener);
+    check scanListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/scan-depth/top.scan");
+    check (<Client>clientEp)->delete("/home/in/scan-depth/level1/nested.scan");
+    check (<Client>clientEp)->delete("/home/in/scan-depth/level1/level2/deep.scan");
+    check (<Client>clientEp)->delete("/home/in/scan-depth/archive/archived.scan");
+    string[] paths;
+    lock {
+        paths = scannedFilePaths.clone();
+    }
+    test:assertTrue(paths.indexOf("/home/in/scan-depth/top.scan") != (),
+            msg = "A file in the monitored directory should be reported");
+    test:assertTrue(paths.indexOf("/home/in/scan-depth/level1/nested.scan") != (),
+            msg = "A file within the maximum depth should be reported");
+    test:assertTrue(paths.indexOf("/home/in/scan-depth/level1/level2/deep.scan") is (),
+            msg = "A file below the maximum depth should not be reported");
+    test:assertTrue(paths.indexOf("/home/in/scan-depth/archive/archived.scan") is (),
+            msg = "A file in an excluded directory should not be reported");
+}
+
+isolated string[] resumedFileNames = [];
+
+@test:Config {}
+public function testCheckpointResume() returns error? {
+    string checkpointDirectory = "build/checkpoints/resume";
+    if check file:test(checkpointDirectory, file:EXISTS) {
+        check file:remove(checkpointDirectory, file:RECURSIVE);
+    }
+    ListenerConfiguration checkpointConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/checkpoint-resume",
+        pollingInterval: 1,
+        checkpoint: {name: "resume", directory: checkpointDirectory}
+    };
+    Service firstService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+        }
+    };
+    Listener firstListener = check new (checkpointConfig);
+    check firstListener.attach(firstService);
+    check firstListener.'start();
+    runtime:registerListener(firstListener);
+    check (<Client>clientEp)->putText("/home/in/checkpoint-resume/processed.txt", "processed");
+    runtime:sleep(3);
+    runtime:deregisterListener(firstListener);
+    check firstListener.gracefulStop();
+
+    Service resumedService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                lock {
+                    resumedFileNames.push(addedFile.name);
+                }
+            }
+        }
+    };
+    Listener resumedListener = check new (checkpointConfig);
+    check resumedListener.attach(resumedService);
+    check resumedListener.'start();
+    runtime:registerListener(resumedListener);
+    check (<Client>clientEp)->putText("/home/in/checkpoint-resume/new.txt", "new");
+    runtime:sleep(3);
+    runtime:deregisterListener(resumedListener);
+    check resumedListener.gracefulStop();
+
+    check (<Client>clientEp)->delete("/home/in/checkpoint-resume/processed.txt");
+    check (<Client>clientEp)->delete("/home/in/checkpoint-resume/new.txt");
+    lock {
+        test:assertEquals(resumedFileNames, ["new.txt"],
+                msg = "A restarted listener should only report the files added since the checkpoint");
+    }
+}
+
+isolated boolean interruptedCallbackStarted = false;
+isolated int redeliveredFileCount = 0;
+
+@test:Config {}
+public function testCheckpointRedeliversIncompleteCallback() returns error? {
+    string checkpointDirectory = "build/checkpoints/restart";
+    if check file:test(checkpointDirectory, file:EXISTS) {
+        check file:remove(checkpointDirectory, file:RECURSIVE);
+    }
+    ListenerConfiguration checkpointConfig = {
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/checkpoint-restart",
+        pollingInterval: 1,
+        checkpoint: {name: "restart", directory: checkpointDirectory}
+    };
+    Service interruptedService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            lock {
+                interruptedCallbackStarted = true;
+            }
+            // The listener stops while the callback is still running
+            runtime:sleep(6);
+        }
+    };
+    Listener interruptedListener = check new (checkpointConfig);
+    check interruptedListener.attach(interruptedService);
+    check interruptedListener.'start();
+    runtime:registerListener(interruptedListener);
+    check (<Client>clientEp)->putText("/home/in/checkpoint-restart/interrupted.txt", "interrupted");
+    runtime:sleep(3);
+    runtime:deregisterListener(interruptedListener);
+    check interruptedListener.gracefulStop();
+    lock {
+        test:assertTrue(interruptedCallbackStarted, msg = "The callback should have started before the stop");
+    }
+
+    Service restartedService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                if addedFile.name == "interrupted.txt" {
+                    lock {
+                        redeliveredFileCount += 1;
+                    }
+                }
+            }
+        }
+    };
+    Listener restartedListener = check new (checkpointConfig);
+    check restartedListener.attach(restartedService);
+    check restartedListener.'start();
+    runtime:registerListener(restartedListener);
+    runtime:sleep(3);
+    runtime:deregisterListener(restartedListener);
+    check restartedListener.gracefulStop();
+
+    check (<Client>clientEp)->delete("/home/in/checkpoint-restart/interrupted.txt");
+    lock {
+        test:assertEquals(redeliveredFileCount, 1,
+                msg = "A file whose callback did not complete before the stop should be reported again");
+    }
+}
+
+isolated map<int> overflowDeliveries = {};
+
+isolated function recordOverflowDelivery(string path) {
+    lock {
+        overflowDeliveries[path] = (overflowDeliveries[path] ?: 0) + 1;
+    }
+}
+
+isolated function getOverflowDeliveries(string directory) returns map<int> {
+    map<int> deliveries = {};
+    lock {
+        foreach [string, int] [path, count] in overflowDeliveries.entries() {
+            if path.startsWith(directory) {
+                deliveries[path] = count;
+            }
+        }
+    }
+    return deliveries;
+}
+
+function runOverflowPolicyListener(DispatchOverflowPolicy policy, string directory, decimal callbackTime,
+        decimal runTime) returns DispatchMetrics|error {
+    Service overflowService = service object {
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            recordOverflowDelivery(fileInfo.pathDecoded);
+            runtime:sleep(callbackTime);
+        }
+    };
+    foreach int i in 1 ... 3 {
+        check (<Client>clientEp)->putText(string `${directory}/file${i}.txt`, string `content ${i}`);
+    }
+    // One callback at a time and no queue, so the second file of a poll finds the queue full
+    Listener overflowListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: directory,
+        pollingInterval: 1,
+        dispatch: {maxInFlight: 1, queueCapacity: 0, overflowPolicy: policy}
+    });
+    check overflowListener.attach(overflowService);
+    check overflowListener.'start();
+    runtime:registerListener(overflowListener);
+    runtime:sleep(runTime);
+    DispatchMetrics metrics = overflowListener.getDispatchMetrics();
+    runtime:deregisterListener(overflowListener);
+    check overflowListener.gracefulStop();
+    foreach int i in 1 ... 3 {
+        check (<Client>clientEp)->delete(string `${directory}/file${i}.txt`);
+    }
+    return metrics;
+}
+
+@test:Config {}
+public function testBlockOverflowPolicy() returns error? {
+    DispatchMetrics metrics = check runOverflowPolicyListener(BLOCK, "/home/in/dispatch-block", 1, 6);
+    map<int> deliveries = getOverflowDeliveries("/home/in/dispatch-block");
+    test:assertEquals(deliveries.length(), 3, msg = "A blocked poll should deliver all of its files");
+    foreach int count in deliveries {
+        test:assertEquals(count, 1, msg = "Each file should be delivered once");
+    }
+    test:assertEquals(metrics.deferredCallbacks, 0);
+    test:assertEquals(metrics.droppedCallbacks, 0);
+}
+
+@test:Config {}
+public function testDeferOverflowPolicy() returns error? {
+    DispatchMetrics metrics = check runOverflowPolicyListener(DEFER, "/home/in/dispatch-defer", 2, 12);
+    map<int> deliveries = getOverflowDeliveries("/home/in/dispatch-defer");
+    test:assertEquals(deliveries.length(), 3, msg = "Deferred files should be reported again by later polls");
+    foreach int count in deliveries {
+        test:assertEquals(count, 1, msg = "Each file should be delivered once");
+    }
+    test:assertTrue(metrics.deferredCallbacks >= 2, msg = "The files that found the queue full should be deferred");
+    test:assertEquals(metrics.droppedCallbacks, 0);
+}
+
+@test:Config {}
+public function testDropOverflowPolicy() returns error? {
+    DispatchMetrics metrics = check runOverflowPolicyListener(DROP, "/home/in/dispatch-drop", 3, 6);
+    map<int> deliveries = getOverflowDeliveries("/home/in/dispatch-drop");
+    test:assertEquals(deliveries.length(), 1, msg = "The files that found the queue full should not be delivered");
+    test:assertEquals(metrics.droppedCallbacks, 2, msg = "The files that found the queue full should be dropped");
+    test:assertEquals(metrics.deferredCallbacks, 0);
+}
+
+@test:Config {}
+public function testDeferOverflowPolicyWithSharedServices() returns error? {
+    Listener sharedListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/dispatch-defer",
+        pollingInterval: 1,
+        dispatch: {overflowPolicy: DEFER}
+    });
+    Service firstService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+        }
+    };
+    Service secondService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+        }
+    };
+    check sharedListener.attach(firstService);
+    error? attachResult = sharedListener.attach(secondService);
+    check sharedListener.immediateStop();
+    if attachResult !is InvalidConfigError {
+        test:assertFail("A second service on the listener path should not be attached with the DEFER policy");
+    }
+    test:assertTrue(attachResult.message().includes("DEFER"), msg = "Unexpected error: " + attachResult.message());
+}
+
+isolated map<int> prefetchedFileDeliveries = {};
+isolated int prefetchErrorCount = 0;
+
+@test:Config {}
+public function testPrefetchedContentAndFetchFailure() returns error? {
+    Listener prefetchListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/prefetch",
+        pollingInterval: 1,
+        dispatch: {prefetchWindow: 2}
+    });
+    Service prefetchService = service object {
+        remote function onFileText(string content, FileInfo fileInfo) {
+            string name = fileInfo.name;
+            lock {
+                prefetchedFileDeliveries[name] = (prefetchedFileDeliveries[name] ?: 0) + 1;
+            }
+        }
+
+        remote function onError(Error err) {
+            lock {
+                prefetchErrorCount += 1;
+            }
+        }
+    };
+    check prefetchListener.attach(prefetchService);
+    check prefetchListener.'start();
+    runtime:registerListener(prefetchListener);
+    runtime:sleep(5);
+    runtime:deregisterListener(prefetchListener);
+    check prefetchListener.gracefulStop();
+
+    lock {
+        test:assertEquals(prefetchedFileDeliveries, {
+            "prefetched1.txt": 1,
+            "prefetched2.txt": 1,
+            "prefetched3.txt": 1,
+            "prefetched4.txt": 1
+        }, msg = "Each readable file should be delivered once when more files than the window are found");
+    }
+    lock {
+        test:assertTrue(prefetchErrorCount >= 2,
+                msg = "A file whose content cannot be fetched should reach onError and be reported again");
+    }
+}
+
+isolated map<int> stableFileSizes = {};
+isolated int stableFileReports = 0;
+
+@test:Config {}
+public function testStabilityHoldsGrowingFile() returns error? {
+    Listener stabilityListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/stability",
+        pollingInterval: 1,
+        stability: {observations: 3}
+    });
+    Service stabilityService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                lock {
+                    stableFileSizes[addedFile.name] = addedFile.size;
+                    stableFileReports += 1;
+                }
+            }
+        }
+    };
+    check stabilityListener.attach(stabilityService);
+    check stabilityListener.'start();
+    runtime:registerListener(stabilityListener);
+
+    // The size changes twice between consecutive polls, so no three polls see the same state
+    string content = "";
+    foreach int i in 1 ... 8 {
+        content += "0123456789";
+        check (<Client>clientEp)->putText("/home/in/stability/growing.txt", content);
+        runtime:sleep(0.5);
+    }
+    int reportsWhileGrowing;
+    lock {
+        reportsWhileGrowing = stableFileReports;
+    }
+    runtime:sleep(5);
+
+    runtime:deregisterListener(stabilityListener);
+    check stabilityListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/stability/growing.txt");
+    test:assertEquals(reportsWhileGrowing, 0, msg = "A file should not be reported while its size keeps changing");
+    lock {
+        test:assertEquals(stableFileSizes, {"growing.txt": 80},
+                msg = "A file should be reported with its final size once it stops changing");
+        test:assertEquals(stableFileReports, 1, msg = "A stable file should be reported once");
+    }
+}
+
+isolated string[] adaptivePolledFiles = [];
+
+function isAdaptivePolledFileReceived(string fileName) returns boolean {
+    lock {
+        return adaptivePolledFiles.indexOf(fileName) != ();
+    }
+}
+
+@test:Config {}
+public function testAdaptivePollingBackOff() returns error? {
+    Listener adaptiveListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/adaptive-polling",
+        pollingInterval: 1,
+        adaptivePolling: {minInterval: 1, maxInterval: 16, backOffFactor: 4, jitter: 0}
+    });
+    Service adaptiveService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                lock {
+                    adaptivePolledFiles.push(addedFile.name);
+                }
+            }
+        }
+    };
+    check adaptiveListener.attach(adaptiveService);
+    check adaptiveListener.'start();
+    runtime:registerListener(adaptiveListener);
+
+    // The idle polls back the interval off from 1 to 4 and then 16 seconds
+    runtime:sleep(6);
+    check (<Client>clientEp)->putText("/home/in/adaptive-polling/idle.txt", "idle");
+    runtime:sleep(5);
+    boolean receivedAfterBackOff = isAdaptivePolledFileReceived("idle.txt");
+    int waited = 0;
+    while !isAdaptivePolledFileReceived("idle.txt") && waited < 75 {
+        runtime:sleep(0.2);
+        waited += 1;
+    }
+    boolean receivedAtLongInterval = isAdaptivePolledFileReceived("idle.txt");
+
+    // The poll that found the file brings the interval back down to 1 second
+    check (<Client>clientEp)->putText("/home/in/adaptive-polling/active.txt", "active");
+    runtime:sleep(3.5);
+    boolean receivedAfterChange = isAdaptivePolledFileReceived("active.txt");
+
+    runtime:deregisterListener(adaptiveListener);
+    check adaptiveListener.gracefulStop();
+    check (<Client>clientEp)->delete("/home/in/adaptive-polling/idle.txt");
+    check (<Client>clientEp)->delete("/home/in/adaptive-polling/active.txt");
+    test:assertFalse(receivedAfterBackOff, msg = "An idle path should be polled less often than the shortest interval");
+    test:assertTrue(receivedAtLongInterval, msg = "An idle path should still be polled at the longest interval");
+    test:assertTrue(receivedAfterChange, msg = "A poll that finds changes should reset the interval of the path");
+}
+
+isolated string[][] batchedFileNames = [];
+
+@test:Config {}
+public function testPollBatchOrder() returns error? {
+    Listener batchListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/poll-batch",
+        pollingInterval: 1,
+        pollBatch: {maxFilesPerPoll: 2, order: BY_NAME}
+    });
+    Service batchService = service object {
+        remote function onFileChange(WatchEvent & readonly event) {
+            string[] names = from FileInfo addedFile in event.addedFiles
+                select addedFile.name;
+            if names.length() > 0 {
+                lock {
+                    batchedFileNames.push(names.clone());
+                }
+            }
+        }
+    };
+    check batchListener.attach(batchService);
+    check batchListener.'start();
+    runtime:registerListener(batchListener);
+    runtime:sleep(5);
+    runtime:deregisterListener(batchListener);
+    check batchListener.gracefulStop();
+
+    lock {
+        test:assertEquals(batchedFileNames, [["a.txt", "b.txt"], ["c.txt", "d.txt"], ["e.txt"]],
+                msg = "Each poll should report the next files of the batch order, in that order");
+    }
+}
+
+isolated map<string[]> orderedKeyStarts = {};
+isolated map<int> orderedKeyRunning = {};
+isolated int orderedMaxRunningPerKey = 0;
+isolated int orderedRunning = 0;
+isolated int orderedMaxRunning = 0;
+
+@test:Config {}
+public function testOrderingKeySerializesFilesOfAKey() returns error? {
+    // The keys feedA and feedB fall into different lanes of the two lanes of maxInFlight 2
+    Listener orderingListener = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/ordering-key",
+        pollingInterval: 1,
+        dispatch: {maxInFlight: 2, order: BY_NAME, orderingKey: "^(feed[A-Z])-"}
+    });
+    Service orderingService = isolated service object {
+        remote function onFileText(string content, FileInfo fileInfo) returns error? {
+            string name = fileInfo.name;
+            string key = name.substring(0, 5);
+            lock {
+                string[] starts = orderedKeyStarts[key] ?: [];
+                starts.push(name);
+                orderedKeyStarts[key] = starts;
+                int running = (orderedKeyRunning[key] ?: 0) + 1;
+                orderedKeyRunning[key] = running;
+                if running > orderedMaxRunningPerKey {
+                    orderedMaxRunningPerKey = running;
+                }
+                orderedRunning += 1;
+                if orderedRunning > orderedMaxRunning {
+                    orderedMaxRunning = orderedRunning;
+                }
+            }
+            runtime:sleep(1);
+            lock {
+                orderedKeyRunning[key] = (orderedKeyRunning[key] ?: 1) - 1;
+                orderedRunning -= 1;
+            }
+        }
+    };
+    check orderingListener.attach(orderingService);
+    check orderingListener.'start();
+    runtime:registerListener(orderingListener);
+    runtime:sleep(7);
+    runtime:deregisterListener(orderingListener);
+    check orderingListener.gracefulStop();
+
+    lock {
+        test:assertEquals(orderedKeyStarts, {
+            "feedA": ["feedA-1.txt", "feedA-2.txt", "feedA-3.txt"],
+            "feedB": ["feedB-1.txt", "feedB-2.txt", "feedB-3.txt"]
+        }, msg = "The files of a key should start in the dispatch order");
+        test:assertEquals(orderedMaxRunningPerKey, 1, msg = "The files of a key should be processed one at a time");
+        test:assertEquals(orderedMaxRunning, 2, msg = "The files of different keys should be processed in parallel");
+    }
+}
@@ -0,0 +1,123 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//    http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/task;
+import ballerina/test;
+
+isolated map<string> partitionedFileOwners = {};
+isolated string[] partitionedDuplicateFiles = [];
+
+isolated function recordPartitionedFile(string memberId, string fileName) {
+    lock {
+        if partitionedFileOwners.hasKey(fileName) {
+            partitionedDuplicateFiles.push(fileName);
+        } else {
+            partitionedFileOwners[fileName] = memberId;
+        }
+    }
+}
+
+function createPartitionedMember(string memberId) returns Listener|error {
+    Listener member = check new ({
+        protocol: FTP,
+        host: "127.0.0.1",
+        auth: {credentials: {username: "wso2", password: "wso2123"}},
+        port: 21212,
+        path: "/home/in/partitioned",
+        pollingInterval: 1,
+        checkpoint: {name: "partitioned", store: DATABASE},
+        coordination: {
+            memberId,
+            coordinationGroup: "partitioned-test",
+            mode: PARTITIONED,
+            heartbeatFrequency: 1,
+            livenessCheckInterval: 3,
+            databaseConfig: <task:MysqlConfig>{
+                host: "127.0.0.1",
+                port: 3306,
+                user: "root",
+                password: "root",
+                database: "ftp_coordination"
+            }
+        }
+    });
+    Service memberService = service object {
+        private final string memberId = memberId;
+
+        remote function onFileChange(WatchEvent & readonly event) {
+            foreach FileInfo addedFile in event.addedFiles {
+                recordPartitionedFile(self.memberId, addedFile.name);
+            }
+        }
+    };
+    check member.attach(memberService);
+    return member;
+}
+
+// Requires a MySQL server at 127.0.0.1:3306 with a `ftp_coordination` database, which the test setup does not
+// provide, so the test is enabled only where such a database is available
+@test:Config {
+    enable: false
+}
+public function testPartitionedMembersShareFiles() returns error? {
+    Listener firstMember = check createPartitionedMember("member-a");
+    Listener secondMember = check createPartitionedMember("member-b");
+    check firstMember.'start();
+    check secondMember.'start();
+    runtime:registerListener(firstMember);
+    runtime:registerListener(secondMember);
+    // Both members see each other after a heartbeat
+    runtime:sleep(2);
+
+    foreach int i in 1 ... 10 {
+        check (<Client>clientEp)->putText(string `/home/in/partitioned/shared${i}.txt`, "shared");
+    }
+    runtime:sleep(4);
+    map<string> sharedOwners;
+    lock {
+        sharedOwners = partitionedFileOwners.clone();
+    }
+
+    // A member that stops leaves the group, so the other member takes over its files at its next heartbeat
+    runtime:deregisterListener(secondMember);
+    check secondMember.gracefulStop();
+    runtime:sleep(2);
+    foreach int i in 1 ... 5 {
+        check (<Client>clientEp)->putText(string `/home/in/partitioned/remaining${i}.txt`, "remaining");
+    }
+    runtime:sleep(4);
+    runtime:deregisterListener(firstMember);
+    check firstMember.gracefulStop();
+
+    foreach int i in 1 ... 10 {
+        check (<Client>clientEp)->delete(string `/home/in/partitioned/shared${i}.txt`);
+    }
+    foreach int i in 1 ... 5 {
+        check (<Client>clientEp)->delete(string `/home/in/partitioned/remaining${i}.txt`);
+    }
+    test:assertEquals(sharedOwners.length(), 10, msg = "Each file should be reported by one of the members");
+    string[] sharedMembers = sharedOwners.toArray();
+    test:assertTrue(sharedMembers.indexOf("member-a") != () && sharedMembers.indexOf("member-b") != (),
+            msg = "The files should be shared between the members");
+    lock {
+        test:assertEquals(partitionedDuplicateFiles, [], msg = "No file should be reported by both members");
+        foreach int i in 1 ... 5 {
+            test:assertEquals(partitionedFileOwners[string `remaining${i}.txt`], "member-a",
+                    msg = "The remaining member should take over the files of the member that left");
+        }
+    }
+}
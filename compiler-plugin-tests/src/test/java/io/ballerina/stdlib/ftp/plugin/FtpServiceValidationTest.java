@@ -56,6 +56,9 @@ import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.R
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.TOO_MANY_PARAMETERS;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.TOO_MANY_PARAMETERS_ON_ERROR;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.TOO_MANY_PARAMETERS_ON_FILE_DELETED;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.INVALID_ON_FILE_MODIFIED_PARAMETER;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.ON_FILE_MODIFIED_MUST_BE_REMOTE;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.TOO_MANY_PARAMETERS_ON_FILE_MODIFIED;
 
 /**
  * Tests for FTP package compiler plugin.
@@ -110,6 +113,14 @@ public class FtpServiceValidationTest {
         Assert.assertEquals(diagnosticResult.errors().size(), 0);
     }
 
+    @Test(description = "Validation with onFileModified handlers")
+    public void testValidService7() {
+        Package currentPackage = loadPackage("valid_service_7");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 0);
+    }
+
     @Test(description = "Deprecation warning is emitted when onFileChange is used")
     public void testOnFileChangeDeprecationWarning() {
         Package currentPackage = loadPackage("valid_service_1");
@@ -193,7 +204,7 @@ public class FtpServiceValidationTest {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
         assertDiagnostic(diagnostic, NO_VALID_REMOTE_METHOD,
                 "Service must define at least one handler method: onFile, onFileText, onFileJson, " +
-                "onFileXml, onFileCsv (format-specific) or onFileDelete.");
+                "onFileXml, onFileCsv (format-specific), onFileModified or onFileDelete.");
     }
 
     @Test(description = "Validation when 2 remote functions are defined")
@@ -205,7 +216,7 @@ public class FtpServiceValidationTest {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
         assertDiagnostic(diagnostic, INVALID_REMOTE_FUNCTION,
                 "Invalid remote method. Allowed handlers: onFile, onFileText, onFileJson, " +
-                "onFileXml, onFileCsv (format-specific) or onFileDelete.");
+                "onFileXml, onFileCsv (format-specific), onFileModified or onFileDelete.");
     }
 
     @Test(description = "Validation when onFileChange function is not remote")
@@ -419,6 +430,24 @@ public class FtpServiceValidationTest {
         assertDiagnostic(diagnostic4, INVALID_WATCHEVENT_PARAMETER);
     }
 
+    @Test(description = "Validation when onFileModified handlers are invalid")
+    public void testInvalidService19() {
+        Package currentPackage = loadPackage("invalid_service_19");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 4);
+        Object[] diagnostics = diagnosticResult.errors().toArray();
+
+        Diagnostic diagnostic1 = (Diagnostic) diagnostics[0];
+        assertDiagnostic(diagnostic1, ON_FILE_MODIFIED_MUST_BE_REMOTE);
+        Diagnostic diagnostic2 = (Diagnostic) diagnostics[1];
+        assertDiagnostic(diagnostic2, INVALID_ON_FILE_MODIFIED_PARAMETER);
+        Diagnostic diagnostic3 = (Diagnostic) diagnostics[2];
+        assertDiagnostic(diagnostic3, PluginConstants.CompilationErrors.INVALID_ON_FILE_MODIFIED_CALLER_PARAMETER);
+        Diagnostic diagnostic4 = (Diagnostic) diagnostics[3];
+        assertDiagnostic(diagnostic4, TOO_MANY_PARAMETERS_ON_FILE_MODIFIED);
+    }
+
     @Test(description = "Validation when content method is not remote")
     public void testInvalidContentService1() {
         Package currentPackage = loadPackage("invalid_content_service_1");
@@ -483,7 +512,8 @@ public class FtpServiceValidationTest {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
         assertDiagnostic(diagnostic, MULTIPLE_CONTENT_METHODS,
                 "Cannot mix event-based handler (onFileChange) with " +
-                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileDelete).");
+                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileModified, " +
+                "onFileDelete).");
     }
 
     @Test(description = "Validation when onFileDeleted method is not remote")
@@ -610,7 +640,8 @@ public class FtpServiceValidationTest {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
         assertDiagnostic(diagnostic, MULTIPLE_CONTENT_METHODS,
                 "Cannot mix event-based handler (onFileChange) with " +
-                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileDelete).");
+                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileModified, " +
+                "onFileDelete).");
     }
 
     @Test(description = "Validation when onFile handler uses invalid stream type (stream<byte, error?> " +
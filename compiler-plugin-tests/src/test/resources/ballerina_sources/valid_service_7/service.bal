@@ -0,0 +1,36 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/ftp;
+
+listener ftp:Listener remoteServer = check new({
+    protocol: ftp:FTP,
+    host: "localhost",
+    port: 21213,
+    pollingInterval: 2,
+    path: "/upload/",
+    fileNamePattern: "(.*).csv"
+});
+
+service "Test1" on remoteServer {
+    remote function onFileModified(ftp:FileInfo fileInfo) returns error? {}
+}
+
+service "Test2" on remoteServer {
+    remote function onFileCsv(string[][] content, ftp:Caller caller) returns error? {}
+
+    remote function onFileModified(ftp:FileInfo fileInfo, ftp:Caller caller) returns error? {}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.plugin;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.INVALID_ON_FILE_MODIFIED_PARAMETER;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.MANDATORY_PARAMETER_NOT_FOUND;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.ON_FILE_MODIFIED_MUST_BE_REMOTE;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.CompilationErrors.TOO_MANY_PARAMETERS_ON_FILE_MODIFIED;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.FILE_INFO;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_MODIFIED_FUNC;
+import static io.ballerina.stdlib.ftp.plugin.PluginUtils.isRemoteFunction;
+import static io.ballerina.stdlib.ftp.plugin.PluginUtils.reportErrorDiagnostic;
+
+/**
+ * Validates the onFileModified remote function in FTP service.
+ */
+public class FtpFileModifiedValidator {
+
+    private final SyntaxNodeAnalysisContext context;
+    private final FunctionDefinitionNode functionDefinitionNode;
+
+    public FtpFileModifiedValidator(SyntaxNodeAnalysisContext context, FunctionDefinitionNode functionDefinitionNode) {
+        this.context = context;
+        this.functionDefinitionNode = functionDefinitionNode;
+    }
+
+    public void validate() {
+        // Check if remote
+        if (!isRemoteFunction(context, functionDefinitionNode)) {
+            reportErrorDiagnostic(context, ON_FILE_MODIFIED_MUST_BE_REMOTE, functionDefinitionNode.location());
+        }
+
+        SeparatedNodeList<ParameterNode> parameters = functionDefinitionNode.functionSignature().parameters();
+        validateParameters(parameters);
+        PluginUtils.validateReturnTypeErrorOrNil(functionDefinitionNode, context);
+    }
+
+    private void validateParameters(SeparatedNodeList<ParameterNode> parameters) {
+        if (parameters.isEmpty()) {
+            reportErrorDiagnostic(context, MANDATORY_PARAMETER_NOT_FOUND, functionDefinitionNode.location(),
+                    ON_FILE_MODIFIED_FUNC, FILE_INFO);
+            return;
+        }
+
+        if (parameters.size() > 2) {
+            reportErrorDiagnostic(context, TOO_MANY_PARAMETERS_ON_FILE_MODIFIED, functionDefinitionNode.location());
+            return;
+        }
+
+        // Validate first parameter must be FileInfo
+        ParameterNode firstParameter = parameters.get(0);
+        if (!PluginUtils.validateFileInfoParameter(firstParameter, context)) {
+            reportErrorDiagnostic(context, INVALID_ON_FILE_MODIFIED_PARAMETER, firstParameter.location());
+        }
+
+        // Validate second parameter (if exists) must be Caller
+        if (parameters.size() == 2) {
+            ParameterNode secondParameter = parameters.get(1);
+            if (!PluginUtils.validateCallerParameter(secondParameter, context)) {
+                reportErrorDiagnostic(context,
+                        PluginConstants.CompilationErrors.INVALID_ON_FILE_MODIFIED_CALLER_PARAMETER,
+                        secondParameter.location());
+            }
+        }
+    }
+}
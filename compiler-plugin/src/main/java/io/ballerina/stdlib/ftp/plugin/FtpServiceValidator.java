@@ -47,6 +47,7 @@ import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_DELETE_FUNC
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_DELETED_FUNC;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_FUNC;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_JSON_FUNC;
+import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_MODIFIED_FUNC;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_TEXT_FUNC;
 import static io.ballerina.stdlib.ftp.plugin.PluginConstants.ON_FILE_XML_FUNC;
 import static io.ballerina.stdlib.ftp.plugin.PluginUtils.getDiagnostic;
@@ -77,6 +78,7 @@ public class FtpServiceValidator {
         FunctionDefinitionNode onFileChange = null;
         FunctionDefinitionNode onFileDelete = null;
         FunctionDefinitionNode onFileDeleted = null;
+        FunctionDefinitionNode onFileModified = null;
         FunctionDefinitionNode onError = null;
         List<FunctionDefinitionNode> contentMethods = new ArrayList<>();
         List<String> contentMethodNames = new ArrayList<>();
@@ -110,6 +112,9 @@ public class FtpServiceValidator {
                 case ON_FILE_DELETED_FUNC:
                     onFileDeleted = functionDefinitionNode;
                     break;
+                case ON_FILE_MODIFIED_FUNC:
+                    onFileModified = functionDefinitionNode;
+                    break;
                 case ON_FILE_FUNC:
                 case ON_FILE_TEXT_FUNC:
                 case ON_FILE_JSON_FUNC:
@@ -140,7 +145,8 @@ public class FtpServiceValidator {
 
         // Validate method exclusivity
         if (onFileChange != null) {
-            if (!contentMethods.isEmpty() || onFileDelete != null || onFileDeleted != null) {
+            if (!contentMethods.isEmpty() || onFileDelete != null || onFileDeleted != null
+                    || onFileModified != null) {
                 context.reportDiagnostic(getDiagnostic(MULTIPLE_CONTENT_METHODS,
                         DiagnosticSeverity.ERROR, serviceDeclarationNode.location()));
                 return;
@@ -151,7 +157,7 @@ public class FtpServiceValidator {
             return;
         }
 
-        if (contentMethods.isEmpty() && onFileDelete == null && onFileDeleted == null) {
+        if (contentMethods.isEmpty() && onFileDelete == null && onFileDeleted == null && onFileModified == null) {
             context.reportDiagnostic(getDiagnostic(NO_VALID_REMOTE_METHOD, DiagnosticSeverity.ERROR,
                     serviceDeclarationNode.location()));
             return;
@@ -165,6 +171,11 @@ public class FtpServiceValidator {
             }
         }
 
+        // Validate modification handler
+        if (onFileModified != null) {
+            new FtpFileModifiedValidator(context, onFileModified).validate();
+        }
+
         // Validate deletion handlers
         if (onFileDelete != null) {
             new FtpFileDeletedValidator(context, onFileDelete,
@@ -41,6 +41,7 @@ public final class PluginConstants {
     // Event-based handler function names
     public static final String ON_FILE_DELETED_FUNC = "onFileDeleted";
     public static final String ON_FILE_DELETE_FUNC = "onFileDelete";
+    public static final String ON_FILE_MODIFIED_FUNC = "onFileModified";
 
     // Error handler function name
     public static final String ON_ERROR_FUNC = "onError";
@@ -77,7 +78,7 @@ public final class PluginConstants {
 
     public enum CompilationErrors {
         INVALID_REMOTE_FUNCTION("Invalid remote method. Allowed handlers: onFile, onFileText, onFileJson, " +
-                "onFileXml, onFileCsv (format-specific) or onFileDelete.", "FTP_101"),
+                "onFileXml, onFileCsv (format-specific), onFileModified or onFileDelete.", "FTP_101"),
         METHOD_MUST_BE_REMOTE("onFileChange method must be remote.", "FTP_102"),
         RESOURCE_FUNCTION_NOT_ALLOWED("Resource functions are not allowed for ftp services.", "FTP_103"),
         MUST_HAVE_WATCHEVENT("Missing required parameter. Use either 'WatchEvent & readonly' or 'WatchEvent' " +
@@ -93,8 +94,8 @@ public final class PluginConstants {
         TEMPLATE_CODE_GENERATION_HINT("Empty FTP service. Click to generate handler method template.",
                 "FTP_111"),
         MULTIPLE_CONTENT_METHODS("Cannot mix event-based handler (onFileChange) with " +
-                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileDelete).",
-                "FTP_112"),
+                "format-specific handlers (onFile, onFileText, onFileJson, onFileXml, onFileCsv, onFileModified, " +
+                "onFileDelete).", "FTP_112"),
         CONTENT_METHOD_MUST_BE_REMOTE("'%s' handler must be declared as remote.", "FTP_115"),
         MANDATORY_PARAMETER_NOT_FOUND("Mandatory parameter missing for '%s'. Expected '%s'.", "FTP_120"),
         INVALID_CONTENT_PARAMETER_TYPE("Invalid parameter type for handler '%s'. " +
@@ -104,7 +105,7 @@ public final class PluginConstants {
         TOO_MANY_PARAMETERS("Too many parameters for '%s'. Format-specific handlers accept at most 3 parameters: " +
                 "(content, fileInfo?, caller?).", "FTP_118"),
         NO_VALID_REMOTE_METHOD("Service must define at least one handler method: onFile, onFileText, onFileJson, " +
-                "onFileXml, onFileCsv (format-specific) or onFileDelete.", "FTP_119"),
+                "onFileXml, onFileCsv (format-specific), onFileModified or onFileDelete.", "FTP_119"),
         ON_FILE_DELETED_MUST_BE_REMOTE("onFileDeleted method must be remote.", "FTP_123"),
         INVALID_ON_FILE_DELETED_PARAMETER("Invalid parameter for onFileDeleted. First parameter must be " +
                 "'string[]' (list of deleted file paths).", "FTP_124"),
@@ -132,7 +133,14 @@ public final class PluginConstants {
         INVALID_ON_ERROR_SECOND_PARAMETER("Invalid second parameter for onError. " +
                 "Second parameter must be 'ftp:Caller'.", "FTP_136"),
         TOO_MANY_PARAMETERS_ON_ERROR("Too many parameters for onError. Accepts at most 2 parameters: " +
-                "(error, caller?).", "FTP_137");
+                "(error, caller?).", "FTP_137"),
+        ON_FILE_MODIFIED_MUST_BE_REMOTE("onFileModified method must be remote.", "FTP_138"),
+        INVALID_ON_FILE_MODIFIED_PARAMETER("Invalid parameter for onFileModified. First parameter must be " +
+                "'ftp:FileInfo' (modified file metadata).", "FTP_139"),
+        INVALID_ON_FILE_MODIFIED_CALLER_PARAMETER("Invalid second parameter for onFileModified. " +
+                "Optional second parameter must be 'Caller'.", "FTP_140"),
+        TOO_MANY_PARAMETERS_ON_FILE_MODIFIED("Too many parameters for onFileModified. Accepts at most 2 " +
+                "parameters: (fileInfo, caller?).", "FTP_141");
         private final String error;
         private final String errorCode;
 
@@ -21,8 +21,9 @@ package io.ballerina.stdlib.ftp.client;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
-import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
@@ -41,29 +42,32 @@ import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
 import io.ballerina.stdlib.ftp.transport.RemoteFileSystemConnectorFactory;
 import io.ballerina.stdlib.ftp.transport.client.connector.contract.FtpAction;
 import io.ballerina.stdlib.ftp.transport.client.connector.contract.VfsClientConnector;
+import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.ConnectionPoolConfig;
 import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.VfsClientConnectorImpl;
+import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.VfsClientConnectorImpl.ContentReader;
 import io.ballerina.stdlib.ftp.transport.impl.RemoteFileSystemConnectorFactoryImpl;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemBaseMessage;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemMessage;
 import io.ballerina.stdlib.ftp.util.BufferHolder;
 import io.ballerina.stdlib.ftp.util.CSVUtils;
+import io.ballerina.stdlib.ftp.util.CompressionFormat;
+import io.ballerina.stdlib.ftp.util.CompressionUtils;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
+import io.ballerina.stdlib.ftp.util.ModuleUtils;
 import io.ballerina.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ENDPOINT_CONFIG_PREFERRED_METHODS;
@@ -75,6 +79,8 @@ import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToCsv
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToJson;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToString;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToXml;
+import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertStreamToJson;
+import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertStreamToXml;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertToBallerinaByteArray;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.deriveFileNamePrefix;
 import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.Error;
@@ -346,6 +352,43 @@ public class FtpClient {
         ftpConfig.put(FtpConstants.URI, url);
         clientEndpoint.addNativeData(FtpConstants.PROPERTY_MAP, ftpConfig);
 
+        // Callers created for listeners reuse the listener configuration, which has no executor settings
+        Object maxConcurrentObj = config.get(StringUtils.fromString(FtpConstants.MAX_CONCURRENT_OPERATIONS));
+        int maxConcurrentOperations = maxConcurrentObj instanceof Long maxConcurrent
+                ? (int) Math.min(maxConcurrent, Integer.MAX_VALUE)
+                : FtpConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS;
+        try {
+            clientEndpoint.addNativeData(FtpConstants.CLIENT_EXECUTOR,
+                    new FtpClientExecutor(maxConcurrentOperations));
+        } catch (BallerinaFtpException e) {
+            return FtpUtil.createError(e.getMessage(), InvalidConfigError.errorType());
+        }
+
+        BMap<BString, Object> streamUploadConfig = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(FtpConstants.STREAM_UPLOAD));
+        if (streamUploadConfig != null) {
+            try {
+                clientEndpoint.addNativeData(FtpConstants.STREAM_UPLOAD,
+                        StreamUploadConfig.fromBMap(streamUploadConfig));
+            } catch (BallerinaFtpException e) {
+                return FtpUtil.createError(e.getMessage(), InvalidConfigError.errorType());
+            }
+        }
+
+        ftpConfig.put(FtpConstants.DECOMPRESS_CONTENT,
+                config.get(StringUtils.fromString(FtpConstants.DECOMPRESS_CONTENT)) instanceof Boolean decompress
+                        && decompress);
+
+        BMap<BString, Object> poolConfig = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(FtpConstants.CONNECTION_POOL));
+        if (poolConfig != null) {
+            try {
+                ftpConfig.put(FtpConstants.CONNECTION_POOL, ConnectionPoolConfig.fromBMap(poolConfig));
+            } catch (BallerinaFtpException e) {
+                return FtpUtil.createError(e.getMessage(), InvalidConfigError.errorType());
+            }
+        }
+
         RemoteFileSystemConnectorFactory fileSystemConnectorFactory = new RemoteFileSystemConnectorFactoryImpl();
         try {
             VfsClientConnector connector = fileSystemConnectorFactory.createVfsClientConnector(ftpConfig);
@@ -414,8 +457,8 @@ public class FtpClient {
             FtpClientListener connectorListener = new FtpClientListener(balFuture, false,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGetAction(remoteFileSystemBaseMessage,
                             balFuture, clientConnector));
-            connector.addListener(connectorListener);
-            connector.send(null, FtpAction.GET, filePath.getValue(), null);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, FtpAction.GET, filePath.getValue(), null, connectorListener));
             return getResult(balFuture);
         });
     }
@@ -492,6 +535,32 @@ public class FtpClient {
         );
     }
 
+    public static Object getJsonStreaming(Environment env, BObject clientConnector, BString filePath,
+                                          BTypedesc typeDesc) {
+        boolean laxDataBinding = (boolean) clientConnector.getNativeData(FtpConstants.ENDPOINT_CONFIG_LAX_DATABINDING);
+        Type targetType = typeDesc.getDescribingType();
+        return FtpRetryHelper.executeWithRetry(
+                clientConnector,
+                () -> readContent(env, clientConnector, filePath, inputStream ->
+                        convertStreamToJson(inputStream, targetType, laxDataBinding, filePath.getValue())),
+                FtpConstants.OP_GET_JSON,
+                filePath.getValue()
+        );
+    }
+
+    public static Object getXmlStreaming(Environment env, BObject clientConnector, BString filePath,
+                                         BTypedesc typeDesc) {
+        boolean laxDataBinding = (boolean) clientConnector.getNativeData(FtpConstants.ENDPOINT_CONFIG_LAX_DATABINDING);
+        Type targetType = typeDesc.getDescribingType();
+        return FtpRetryHelper.executeWithRetry(
+                clientConnector,
+                () -> readContent(env, clientConnector, filePath, inputStream ->
+                        convertStreamToXml(inputStream, targetType, laxDataBinding, filePath.getValue())),
+                FtpConstants.OP_GET_XML,
+                filePath.getValue()
+        );
+    }
+
     public static Object getCsv(Environment env, BObject clientConnector, BString filePath, BTypedesc typeDesc) {
         boolean laxDataBinding = (boolean) clientConnector.getNativeData(FtpConstants.ENDPOINT_CONFIG_LAX_DATABINDING);
         BMap<?, ?> csvFailSafe = (BMap<?, ?>) clientConnector.getNativeData(FtpConstants.ENDPOINT_CONFIG_CSV_FAIL_SAFE);
@@ -531,8 +600,8 @@ public class FtpClient {
                     remoteFileSystemBaseMessage ->
                             FtpClientHelper.executeStreamingAction(remoteFileSystemBaseMessage,
                                     balFuture, TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE), laxDataBinding));
-            connector.addListener(connectorListener);
-            connector.send(null, FtpAction.GET, filePath.getValue(), null);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, FtpAction.GET, filePath.getValue(), null, connectorListener));
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
         });
@@ -559,13 +628,118 @@ public class FtpClient {
                     remoteFileSystemBaseMessage ->
                             FtpClientHelper.executeStreamingAction(remoteFileSystemBaseMessage,
                                     balFuture, typeDesc.getDescribingType(), laxDataBinding));
-            connector.addListener(connectorListener);
-            connector.send(null, FtpAction.GET, filePath.getValue(), null);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, FtpAction.GET, filePath.getValue(), null, connectorListener));
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
         });
     }
 
+    public static Object getBytesParallel(Environment env, BObject clientConnector, BString filePath,
+                                          BMap<BString, Object> options) {
+        VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
+        if (connector == null) {
+            return FtpUtil.createError(CLIENT_CLOSED_ERROR_MESSAGE, FTP_ERROR);
+        }
+        BError cbError = getCircuitBreakerErrorIfOpen(clientConnector);
+        if (cbError != null) {
+            return cbError;
+        }
+        return env.yieldAndRun(() -> {
+            recordCircuitBreakerRequestStart(clientConnector);
+            Object result = FtpParallelDownloader.getBytes(clientConnector, connector, filePath.getValue(), options);
+            return recordCircuitBreakerOutcome(clientConnector, result);
+        });
+    }
+
+    public static Object downloadToFile(Environment env, BObject clientConnector, BString filePath,
+                                        BString localPath, BMap<BString, Object> options) {
+        VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
+        if (connector == null) {
+            return FtpUtil.createError(CLIENT_CLOSED_ERROR_MESSAGE, FTP_ERROR);
+        }
+        BError cbError = getCircuitBreakerErrorIfOpen(clientConnector);
+        if (cbError != null) {
+            return cbError;
+        }
+        return env.yieldAndRun(() -> {
+            recordCircuitBreakerRequestStart(clientConnector);
+            Object result = FtpParallelDownloader.downloadToFile(clientConnector, connector, filePath.getValue(),
+                    localPath.getValue(), options);
+            return recordCircuitBreakerOutcome(clientConnector, result);
+        });
+    }
+
+    public static Object uploadFile(Environment env, BObject clientConnector, BString localPath, BString remotePath,
+                                    BMap<BString, Object> options) {
+        VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
+        if (connector == null) {
+            return FtpUtil.createError(CLIENT_CLOSED_ERROR_MESSAGE, FTP_ERROR);
+        }
+        BError cbError = getCircuitBreakerErrorIfOpen(clientConnector);
+        if (cbError != null) {
+            return cbError;
+        }
+        return env.yieldAndRun(() -> {
+            recordCircuitBreakerRequestStart(clientConnector);
+            Object result = FtpFileTransfer.upload(clientConnector, connector, localPath.getValue(),
+                    remotePath.getValue(), options);
+            return recordCircuitBreakerOutcome(clientConnector, result);
+        });
+    }
+
+    public static Object downloadFile(Environment env, BObject clientConnector, BString remotePath,
+                                      BString localPath, BMap<BString, Object> options) {
+        VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
+        if (connector == null) {
+            return FtpUtil.createError(CLIENT_CLOSED_ERROR_MESSAGE, FTP_ERROR);
+        }
+        BError cbError = getCircuitBreakerErrorIfOpen(clientConnector);
+        if (cbError != null) {
+            return cbError;
+        }
+        return env.yieldAndRun(() -> {
+            recordCircuitBreakerRequestStart(clientConnector);
+            Object result = FtpFileTransfer.download(clientConnector, connector, remotePath.getValue(),
+                    localPath.getValue(), options);
+            return recordCircuitBreakerOutcome(clientConnector, result);
+        });
+    }
+
+    private static Object readContent(Environment env, BObject clientConnector, BString filePath,
+                                      ContentReader reader) {
+        VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
+        if (connector == null) {
+            return FtpUtil.createError(CLIENT_CLOSED_ERROR_MESSAGE, FTP_ERROR);
+        }
+
+        // Check circuit breaker before proceeding
+        BError cbError = getCircuitBreakerErrorIfOpen(clientConnector);
+        if (cbError != null) {
+            return cbError;
+        }
+
+        return env.yieldAndRun(() -> {
+            recordCircuitBreakerRequestStart(clientConnector);
+            FtpClientExecutor executor = (FtpClientExecutor) clientConnector.getNativeData(
+                    FtpConstants.CLIENT_EXECUTOR);
+            Object result;
+            try {
+                result = executor.submit(() -> connector.readContent(filePath.getValue(), reader)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = FtpUtil.createError("Interrupted while reading " + filePath.getValue(), e,
+                        Error.errorType());
+            } catch (ExecutionException e) {
+                // The executor wraps the failure of the read once
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                result = FtpUtil.createError(cause.getMessage(), findRootCause(cause),
+                        FtpUtil.getErrorTypeForException(cause));
+            }
+            return recordCircuitBreakerOutcome(clientConnector, result);
+        });
+    }
+
     private static Object getAllContent(Environment env, BObject clientConnector, BString filePath) {
         VfsClientConnectorImpl connector = (VfsClientConnectorImpl) clientConnector.getNativeData(VFS_CLIENT_CONNECTOR);
         if (connector == null) {
@@ -584,8 +758,8 @@ public class FtpClient {
             FtpClientListener connectorListener = new FtpClientListener(balFuture, false,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGetAllAction(remoteFileSystemBaseMessage,
                             balFuture));
-            connector.addListener(connectorListener);
-            connector.send(null, FtpAction.GET_ALL, filePath.getValue(), null);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, FtpAction.GET_ALL, filePath.getValue(), null, connectorListener));
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
         });
@@ -620,6 +794,16 @@ public class FtpClient {
         return null;
     }
 
+    public static Object getMetrics(BObject clientConnector) {
+        FtpClientExecutor executor = (FtpClientExecutor) clientConnector.getNativeData(FtpConstants.CLIENT_EXECUTOR);
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("queuedOperations", executor != null ? (long) executor.getQueuedOperations() : 0L);
+        metrics.put("inFlightOperations", executor != null ? (long) executor.getInFlightOperations() : 0L);
+        metrics.put("completedOperations", executor != null ? executor.getCompletedOperations() : 0L);
+        metrics.put("maxConcurrentOperations", executor != null ? (long) executor.getMaxConcurrentOperations() : 0L);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FtpConstants.CLIENT_METRICS, metrics);
+    }
+
     /**
      * @deprecated : use putBytes/putText/putJson/putXml/putCsv or the streaming variants with APPEND option.
      */
@@ -645,9 +829,10 @@ public class FtpClient {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             FtpClientListener connectorListener = new FtpClientListener(balFuture, true,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGenericAction());
-            connector.addListener(connectorListener);
-            connector.send(message, FtpAction.APPEND, (inputContent.getStringValue(StringUtils.fromString(
-                    FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue(), null);
+            String filePath = (inputContent.getStringValue(StringUtils.fromString(
+                    FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue();
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(message, FtpAction.APPEND, filePath, null, connectorListener));
             return getResult(balFuture);
         });
     }
@@ -666,17 +851,35 @@ public class FtpClient {
         boolean isFile = inputContent.getBooleanValue(StringUtils.fromString(FtpConstants.INPUT_CONTENT_IS_FILE_KEY));
         boolean compressInput = inputContent.getBooleanValue(StringUtils.fromString(
                 FtpConstants.INPUT_CONTENT_COMPRESS_INPUT_KEY));
+        CompressionFormat compressionFormat = null;
+        if (compressInput) {
+            compressionFormat = getCompressionFormat(inputContent);
+            BError compressionError = validateCompressionOptions(inputContent);
+            if (compressionError != null) {
+                return compressionError;
+            }
+        }
         InputStream stream = FtpClientHelper.getUploadStream(env, clientConnector, inputContent, isFile);
         RemoteFileSystemMessage message;
-        ByteArrayInputStream compressedStream = null;
+        InputStream compressedStream = null;
 
         if (stream != null) {
             if (compressInput) {
-                compressedStream = FtpUtil.compress(stream, (inputContent.getStringValue(StringUtils.fromString(
-                        FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue());
-                message = FtpClientHelper.getCompressedMessage(clientConnector, (inputContent.getStringValue(
-                        StringUtils.fromString(FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue(),
-                        propertyMap, compressedStream);
+                String targetFilePath = (inputContent.getStringValue(StringUtils.fromString(
+                        FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue();
+                try {
+                    compressedStream = CompressionUtils.compress(stream, new File(targetFilePath).getName(),
+                            compressionFormat,
+                            inputContent.getIntValue(StringUtils.fromString(
+                                    FtpConstants.INPUT_CONTENT_COMPRESSION_LEVEL_KEY)).intValue(),
+                            inputContent.getIntValue(StringUtils.fromString(
+                                    FtpConstants.INPUT_CONTENT_COMPRESSION_BUFFER_SIZE_KEY)).intValue());
+                } catch (IOException e) {
+                    return FtpUtil.createError("Failed to compress the content: " + e.getMessage(), e,
+                            Error.errorType());
+                }
+                message = FtpClientHelper.getCompressedMessage(clientConnector, targetFilePath, propertyMap,
+                        compressedStream, compressionFormat);
             } else {
                 try {
                     message = FtpClientHelper.getUncompressedMessage(clientConnector, (inputContent.getStringValue(
@@ -689,17 +892,16 @@ public class FtpClient {
         } else {
             return FtpUtil.createError("Error while reading a file", Error.errorType());
         }
+        CompressionFormat finalCompressionFormat = compressionFormat;
         Object result = env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             FtpClientListener connectorListener = new FtpClientListener(balFuture, true,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGenericAction());
-            connector.addListener(connectorListener);
-            String filePath = (inputContent.getStringValue(
+            String inputPath = (inputContent.getStringValue(
                     StringUtils.fromString(FtpConstants.INPUT_CONTENT_FILE_PATH_KEY))).getValue();
-            if (compressInput) {
-                filePath = FtpUtil.getCompressedFileName(filePath);
-            }
-            connector.send(message, FtpAction.PUT, filePath, null);
+            String filePath = compressInput ? finalCompressionFormat.getCompressedFileName(inputPath) : inputPath;
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(message, FtpAction.PUT, filePath, null, connectorListener));
             return getResult(balFuture);
         });
         try {
@@ -713,6 +915,28 @@ public class FtpClient {
         return result;
     }
 
+    private static CompressionFormat getCompressionFormat(BMap<Object, Object> inputContent) {
+        CompressionFormat format = CompressionFormat.fromValue(inputContent.getStringValue(
+                StringUtils.fromString(FtpConstants.INPUT_CONTENT_COMPRESSION_TYPE_KEY)).getValue());
+        // compressInput without a compression type denotes the original ZIP compression
+        return format != null ? format : CompressionFormat.ZIP;
+    }
+
+    private static BError validateCompressionOptions(BMap<Object, Object> inputContent) {
+        long level = inputContent.getIntValue(StringUtils.fromString(
+                FtpConstants.INPUT_CONTENT_COMPRESSION_LEVEL_KEY));
+        if (level < -1 || level > 9) {
+            return FtpUtil.createError("compressionLevel must be between 0 and 9, or -1 for the default level",
+                    InvalidConfigError.errorType());
+        }
+        if (inputContent.getIntValue(StringUtils.fromString(
+                FtpConstants.INPUT_CONTENT_COMPRESSION_BUFFER_SIZE_KEY)) <= 0) {
+            return FtpUtil.createError("compressionBufferSize must be greater than 0",
+                    InvalidConfigError.errorType());
+        }
+        return null;
+    }
+
     public static Object putBytes(Environment env, BObject clientConnector, BString path, BArray inputContent,
                                   BString options) {
         InputStream stream = new ByteArrayInputStream(inputContent.getBytes());
@@ -752,8 +976,9 @@ public class FtpClient {
 
     public static Object putBytesAsStream(Environment env, BObject clientConnector, BString path, BStream inputContent,
                                           BString options) {
-        try {
-            InputStream stream = createInputStreamFromIterator(env, inputContent.getIteratorObj());
+        // Closing the stream stops the producer if the upload ends before the stream is consumed
+        try (InputStream stream = createInputStreamFromIterator(env, clientConnector,
+                inputContent.getIteratorObj())) {
             RemoteFileSystemMessage message = new RemoteFileSystemMessage(stream);
             return putGenericAction(env, clientConnector, path, options, message);
         } catch (Exception e) {
@@ -763,8 +988,9 @@ public class FtpClient {
 
     public static Object putCsvAsStream(Environment env, BObject clientConnector, BString path, BStream inputContent,
                                         BString options) {
-        try {
-            InputStream stream = createInputStreamFromIterator(env, inputContent.getIteratorObj());
+        // Closing the stream stops the producer if the upload ends before the stream is consumed
+        try (InputStream stream = createInputStreamFromIterator(env, clientConnector,
+                inputContent.getIteratorObj())) {
             RemoteFileSystemMessage message = new RemoteFileSystemMessage(stream);
             return putGenericAction(env, clientConnector, path, options, message);
         } catch (Exception e) {
@@ -773,114 +999,13 @@ public class FtpClient {
     }
 
     /**
-     * Creates an InputStream from a Ballerina iterator using SequenceInputStream.
-     */
-    private static InputStream createInputStreamFromIterator(Environment environment, BObject iterator) {
-        IteratorToInputStream streamIterator = new IteratorToInputStream(environment, iterator);
-        return new SequenceInputStream(asEnumeration(streamIterator));
-    }
-
-    /**
-     * Converts an Iterator to an Enumeration for compatibility with SequenceInputStream.
+     * Creates an InputStream that pipelines the elements of a Ballerina iterator into the upload.
      */
-    private static <T> Enumeration<T> asEnumeration(Iterator<T> iterator) {
-        return new Enumeration<T>() {
-            @Override
-            public boolean hasMoreElements() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public T nextElement() {
-                return iterator.next();
-            }
-        };
-    }
-
-    /**
-     * Lightweight adapter that turns a Ballerina iterator into a sequence of InputStreams.
-     * Keeps state minimal to reduce nesting and cognitive complexity in the outer method.
-     */
-    private static final class IteratorToInputStream implements Iterator<InputStream> {
-        private final Environment env;
-        private final BObject iterator;
-        private InputStream nextStream;
-        private boolean hasChecked;
-        private boolean isFirstRow = true;
-
-        IteratorToInputStream(Environment env, BObject iterator) {
-            this.env = env;
-            this.iterator = iterator;
-        }
-
-        @Override
-        public boolean hasNext() {
-            if (hasChecked) {
-                return nextStream != null;
-            }
-            nextStream = fetchNextStream();
-            hasChecked = true;
-            return nextStream != null;
-        }
-
-        @Override
-        public InputStream next() {
-            if (!hasChecked && !hasNext()) {
-                throw new NoSuchElementException();
-            }
-            hasChecked = false;
-            InputStream result = nextStream;
-            nextStream = null;
-            return result;
-        }
-
-        private InputStream fetchNextStream() {
-            final Object next;
-            try {
-                next = env.getRuntime().callMethod(iterator, "next", null);
-            } catch (Exception e) {
-                throw FtpUtil.createError("Failed to read iterator", e, FTP_ERROR);
-            }
-            if (next == null) {
-                return null;
-            }
-            if (next instanceof BError err) {
-                throw FtpUtil.createError("Iterator error: " + err.getMessage(), FTP_ERROR);
-            }
-
-            byte[] bytes = toBytes(next);
-            if (bytes.length == 0) {
-                return null;
-            }
-            isFirstRow = false;
-            return new ByteArrayInputStream(bytes);
-        }
-
-        private byte[] toBytes(Object value) {
-            // Each element is a record with a 'value' field.
-            BMap<BString, Object> streamRecord = (BMap<BString, Object>) value;
-            Object val = streamRecord.get(FtpConstants.FIELD_VALUE);
-
-            if (val instanceof BArray array) {
-                return bytesFromArray(array);
-            }
-            BMap<BString, Object> recordValue = (BMap<BString, Object>) val;
-            return bytesFromRecord(recordValue, isFirstRow);
-        }
-
-        private static byte[] bytesFromArray(BArray array) {
-            // If it's a byte[] just return it; else it's CSV row from string[]
-            if (array.getElementType().getTag() == TypeTags.BYTE_TAG) {
-                return array.getBytes();
-            }
-            String csvRow = CSVUtils.convertArrayToCsvRow(array) + System.lineSeparator();
-            return csvRow.getBytes(StandardCharsets.UTF_8);
-        }
-
-        private static byte[] bytesFromRecord(BMap<BString, Object> balRecord, boolean includeHeader) {
-            String csvRow = CSVUtils.convertRecordToCsvRow(balRecord, includeHeader) + System.lineSeparator();
-            return csvRow.getBytes(StandardCharsets.UTF_8);
-        }
+    private static InputStream createInputStreamFromIterator(Environment environment, BObject clientConnector,
+                                                             BObject iterator) {
+        Object config = clientConnector.getNativeData(FtpConstants.STREAM_UPLOAD);
+        return new PipelinedUploadStream(environment, iterator,
+                config instanceof StreamUploadConfig uploadConfig ? uploadConfig : StreamUploadConfig.DEFAULT);
     }
 
     private static Object putGenericAction(Environment env, BObject clientConnector, BString path, BString options,
@@ -902,12 +1027,13 @@ public class FtpClient {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             FtpClientListener connectorListener = new FtpClientListener(balFuture, true,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGenericAction());
-            connector.addListener(connectorListener);
             String filePath = path.getValue();
             if (options.getValue().equals(FtpConstants.WRITE_OPTION_OVERWRITE)) {
-                connector.send(message, FtpAction.PUT, filePath, null);
+                submit(clientConnector, connectorListener,
+                        () -> connector.send(message, FtpAction.PUT, filePath, null, connectorListener));
             } else {
-                connector.send(message, FtpAction.APPEND, filePath, null);
+                submit(clientConnector, connectorListener,
+                        () -> connector.send(message, FtpAction.APPEND, filePath, null, connectorListener));
             }
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
@@ -1015,8 +1141,8 @@ public class FtpClient {
             Function<RemoteFileSystemBaseMessage, Boolean> messageHandler =
                     messageHandlerFactory.apply(balFuture);
             FtpClientListener connectorListener = new FtpClientListener(balFuture, closeInput, messageHandler);
-            connector.addListener(connectorListener);
-            connector.send(null, action, filePath.getValue(), null);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, action, filePath.getValue(), null, connectorListener));
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
         });
@@ -1056,13 +1182,31 @@ public class FtpClient {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             FtpClientListener connectorListener = new FtpClientListener(balFuture, true,
                     remoteFileSystemBaseMessage -> FtpClientHelper.executeGenericAction());
-            connector.addListener(connectorListener);
-            connector.send(null, action, sourcePath.getValue(), destinationUrl);
+            submit(clientConnector, connectorListener,
+                    () -> connector.send(null, action, sourcePath.getValue(), destinationUrl, connectorListener));
             Object result = getResult(balFuture);
             return recordCircuitBreakerOutcome(clientConnector, result);
         });
     }
 
+    /**
+     * Runs a connector operation on the client executor. The operation is still synchronous for the caller: the
+     * calling strand yields and then blocks on the completion handle of the operation until the VFS I/O finishes.
+     * Only the I/O itself is moved to the executor, which bounds the concurrent operations of the client.
+     *
+     * @param clientConnector The FTP client connector
+     * @param listener        The listener that completes the operation
+     * @param operation       The connector operation
+     */
+    private static void submit(BObject clientConnector, FtpClientListener listener, Runnable operation) {
+        FtpClientExecutor executor = (FtpClientExecutor) clientConnector.getNativeData(FtpConstants.CLIENT_EXECUTOR);
+        if (executor == null) {
+            operation.run();
+            return;
+        }
+        executor.execute(operation, listener);
+    }
+
     public static Object getResult(CompletableFuture<Object> balFuture) {
         try {
             return balFuture.get();
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.ftp.exception.BallerinaFtpException;
+import io.ballerina.stdlib.ftp.transport.listener.RemoteFileSystemListener;
+import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemBaseMessage;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the blocking VFS work of a client on virtual threads.
+ * A client always targets a single host, so the semaphore of a client bounds the concurrent operations against that
+ * host. Operations waiting for a permit are counted as queued.
+ */
+public class FtpClientExecutor {
+
+    private static final ExecutorService VFS_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ftp-client-io-", 0).factory());
+
+    private final Semaphore permits;
+    private final int maxConcurrentOperations;
+    private final AtomicInteger queuedOperations = new AtomicInteger();
+    private final AtomicInteger inFlightOperations = new AtomicInteger();
+    private final AtomicLong completedOperations = new AtomicLong();
+
+    FtpClientExecutor(int maxConcurrentOperations) throws BallerinaFtpException {
+        if (maxConcurrentOperations <= 0) {
+            throw new BallerinaFtpException("maxConcurrentOperations must be greater than 0");
+        }
+        this.maxConcurrentOperations = maxConcurrentOperations;
+        this.permits = new Semaphore(maxConcurrentOperations, true);
+    }
+
+    /**
+     * Submits an operation. The outcome is reported through the listener of the operation, which is also notified if
+     * the operation could not be started.
+     *
+     * @param operation The blocking operation
+     * @param listener  The listener of the operation
+     */
+    void execute(Runnable operation, RemoteFileSystemListener listener) {
+        execute(operation, () -> { }, listener);
+    }
+
+    private void execute(Runnable operation, Runnable completion, RemoteFileSystemListener listener) {
+        queuedOperations.incrementAndGet();
+        try {
+            VFS_EXECUTOR.execute(() -> runWithPermit(operation, completion, listener));
+        } catch (RejectedExecutionException e) {
+            queuedOperations.decrementAndGet();
+            listener.onError(e);
+        }
+    }
+
+    /**
+     * Submits an operation that produces a value. The future is completed after the operation is counted as
+     * completed, so that the metrics read by the caller include it.
+     *
+     * @param operation The blocking operation
+     * @param <T>       The type of the value
+     * @return A future that is completed with the value, or exceptionally with the failure of the operation
+     */
+    <T> CompletableFuture<T> submit(Callable<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RemoteFileSystemListener failureListener = new RemoteFileSystemListener() {
+            @Override
+            public boolean onMessage(RemoteFileSystemBaseMessage remoteFileSystemBaseMessage) {
+                return true;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public BError done() {
+                return null;
+            }
+        };
+        CompletableFuture<T> outcome = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                outcome.complete(operation.call());
+            } catch (Throwable throwable) {
+                outcome.completeExceptionally(throwable);
+            }
+        }, () -> outcome.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(value);
+            }
+        }), failureListener);
+        return future;
+    }
+
+    private void runWithPermit(Runnable operation, Runnable completion, RemoteFileSystemListener listener) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queuedOperations.decrementAndGet();
+            listener.onError(e);
+            return;
+        }
+        queuedOperations.decrementAndGet();
+        inFlightOperations.incrementAndGet();
+        try {
+            operation.run();
+        } finally {
+            inFlightOperations.decrementAndGet();
+            completedOperations.incrementAndGet();
+            permits.release();
+        }
+        completion.run();
+    }
+
+    public int getQueuedOperations() {
+        return queuedOperations.get();
+    }
+
+    public int getInFlightOperations() {
+        return inFlightOperations.get();
+    }
+
+    public long getCompletedOperations() {
+        return completedOperations.get();
+    }
+
+    public int getMaxConcurrentOperations() {
+        return maxConcurrentOperations;
+    }
+}
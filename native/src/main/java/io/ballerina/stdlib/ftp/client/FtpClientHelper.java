@@ -38,6 +38,7 @@ import io.ballerina.stdlib.ftp.transport.message.FileInfo;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemBaseMessage;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemMessage;
 import io.ballerina.stdlib.ftp.util.BufferHolder;
+import io.ballerina.stdlib.ftp.util.CompressionFormat;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
 import io.ballerina.stdlib.io.channels.base.Channel;
@@ -335,9 +336,9 @@ class FtpClientHelper {
 
     static RemoteFileSystemMessage getCompressedMessage(BObject clientConnector, String filePath,
                                                         Map<String, String> propertyMap,
-                                                        ByteArrayInputStream compressedStream) {
+                                                        InputStream compressedStream, CompressionFormat format) {
         try {
-            String compressedFilePath = FtpUtil.getCompressedFileName(filePath);
+            String compressedFilePath = format.getCompressedFileName(filePath);
             String url = FtpUtil.createUrl(clientConnector, compressedFilePath);
             propertyMap.put(FtpConstants.URI, url);
             return new RemoteFileSystemMessage(compressedStream);
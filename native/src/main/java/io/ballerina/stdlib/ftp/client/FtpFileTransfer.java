@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
+import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.VfsClientConnectorImpl;
+import io.ballerina.stdlib.ftp.transport.message.FileInfo;
+import io.ballerina.stdlib.ftp.util.FtpConstants;
+import io.ballerina.stdlib.ftp.util.FtpUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.Error;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.FileNotFoundError;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.InvalidConfigError;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.findRootCause;
+
+/**
+ * Transfers files between the local file system and the server. When resuming is enabled, a retry continues from
+ * the data that is already transferred instead of starting over: uploads append the rest of the local file after
+ * the remote size, and downloads read the rest of the remote file from the local size.
+ */
+final class FtpFileTransfer {
+
+    private static final Logger log = LoggerFactory.getLogger(FtpFileTransfer.class);
+
+    private static final BString RESUME = StringUtils.fromString("resume");
+    private static final BString PERSIST_CHECKPOINT = StringUtils.fromString("persistCheckpoint");
+    private static final BString BUFFER_SIZE = StringUtils.fromString("bufferSize");
+
+    private FtpFileTransfer() {
+        // private constructor
+    }
+
+    /**
+     * Uploads a local file to the server.
+     *
+     * @param clientConnector The FTP client connector
+     * @param connector       The VFS client connector
+     * @param localPath       The local source path
+     * @param remotePath      The remote destination path
+     * @param options         The Ballerina FileTransferConfig record
+     * @return null on success, or a BError
+     */
+    static Object upload(BObject clientConnector, VfsClientConnectorImpl connector, String localPath,
+                         String remotePath, BMap<BString, Object> options) {
+        Object sourcePath = toLocalPath(localPath);
+        if (sourcePath instanceof BError) {
+            return sourcePath;
+        }
+        Path source = (Path) sourcePath;
+        BError optionsError = validateOptions(options);
+        if (optionsError != null) {
+            return optionsError;
+        }
+        if (!Files.isRegularFile(source)) {
+            return FtpUtil.createError("Local file '" + localPath + "' not found", FileNotFoundError.errorType());
+        }
+        boolean resume = options.getBooleanValue(RESUME);
+        boolean persistCheckpoint = options.getBooleanValue(PERSIST_CHECKPOINT);
+        int bufferSize = options.getIntValue(BUFFER_SIZE).intValue();
+        TransferCheckpoint checkpoint = new TransferCheckpoint(source);
+        long sourceSize;
+        // The first attempt only resumes data written by an earlier process for the same source
+        boolean resumeFirstAttempt = false;
+        long sourceModifiedTime;
+        try {
+            sourceSize = Files.size(source);
+            sourceModifiedTime = Files.getLastModifiedTime(source).toMillis();
+        } catch (IOException e) {
+            return FtpUtil.createError("Failed to read local file '" + localPath + "': " + e.getMessage(), e,
+                    Error.errorType());
+        }
+        if (persistCheckpoint) {
+            if (checkpoint.matches(remotePath, sourceSize, sourceModifiedTime)) {
+                resumeFirstAttempt = resume;
+            } else {
+                try {
+                    checkpoint.save(remotePath, sourceSize, sourceModifiedTime);
+                } catch (IOException e) {
+                    return FtpUtil.createError("Failed to write transfer checkpoint for '" + localPath + "': "
+                            + e.getMessage(), e, Error.errorType());
+                }
+            }
+        }
+
+        AtomicBoolean resumeAttempt = new AtomicBoolean(resumeFirstAttempt);
+        Object result = FtpRetryHelper.executeWithClientRetry(clientConnector, () -> {
+            try {
+                long offset = resumeAttempt.getAndSet(resume) ? getResumeOffset(connector, remotePath, sourceSize)
+                        : 0;
+                if (offset > 0) {
+                    log.debug("Resuming upload of {} to {} at offset {}", localPath, remotePath, offset);
+                    if (offset == sourceSize) {
+                        return null;
+                    }
+                }
+                connector.write(remotePath, offset > 0,
+                        outputStream -> copyToStream(source, offset, sourceSize, bufferSize, outputStream));
+                return null;
+            } catch (RemoteFileSystemConnectorException e) {
+                return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+            }
+        }, FtpConstants.OP_UPLOAD_FILE, remotePath);
+
+        if (!(result instanceof BError)) {
+            checkpoint.delete();
+        }
+        return result;
+    }
+
+    /**
+     * Downloads a remote file to the local file system.
+     *
+     * @param clientConnector The FTP client connector
+     * @param connector       The VFS client connector
+     * @param remotePath      The remote source path
+     * @param localPath       The local destination path
+     * @param options         The Ballerina FileTransferConfig record
+     * @return null on success, or a BError
+     */
+    static Object download(BObject clientConnector, VfsClientConnectorImpl connector, String remotePath,
+                           String localPath, BMap<BString, Object> options) {
+        Object destinationPath = toLocalPath(localPath);
+        if (destinationPath instanceof BError) {
+            return destinationPath;
+        }
+        Path destination = (Path) destinationPath;
+        BError optionsError = validateOptions(options);
+        if (optionsError != null) {
+            return optionsError;
+        }
+        boolean resume = options.getBooleanValue(RESUME);
+        boolean persistCheckpoint = options.getBooleanValue(PERSIST_CHECKPOINT);
+        int bufferSize = options.getIntValue(BUFFER_SIZE).intValue();
+        TransferCheckpoint checkpoint = new TransferCheckpoint(destination);
+        FileInfo source;
+        try {
+            source = connector.stat(remotePath);
+        } catch (RemoteFileSystemConnectorException e) {
+            return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+        }
+        if (source == null) {
+            return FtpUtil.createError("Failed to read file: " + remotePath + " not found",
+                    FileNotFoundError.errorType());
+        }
+        long sourceSize = source.getFileSize();
+        // The first attempt only resumes data written by an earlier process for the same source
+        boolean resumeFirstAttempt = false;
+        if (persistCheckpoint) {
+            if (checkpoint.matches(remotePath, sourceSize, source.getLastModifiedTime())) {
+                resumeFirstAttempt = resume;
+            } else {
+                try {
+                    checkpoint.save(remotePath, sourceSize, source.getLastModifiedTime());
+                } catch (IOException e) {
+                    return FtpUtil.createError("Failed to write transfer checkpoint for '" + localPath + "': "
+                            + e.getMessage(), e, Error.errorType());
+                }
+            }
+        }
+
+        AtomicBoolean resumeAttempt = new AtomicBoolean(resumeFirstAttempt);
+        Object result = FtpRetryHelper.executeWithClientRetry(clientConnector, () -> {
+            try (FileChannel channel = FileChannel.open(destination, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                long offset = resumeAttempt.getAndSet(resume) && channel.size() <= sourceSize ? channel.size() : 0;
+                if (offset > 0) {
+                    log.debug("Resuming download of {} to {} at offset {}", remotePath, localPath, offset);
+                }
+                channel.truncate(offset);
+                if (offset < sourceSize) {
+                    connector.readRange(remotePath, offset, sourceSize - offset, bufferSize,
+                            (position, buffer, length) -> writeAt(channel, position, buffer, length));
+                }
+                return null;
+            } catch (RemoteFileSystemConnectorException e) {
+                return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+            } catch (IOException e) {
+                return FtpUtil.createError("Failed to write to local file '" + localPath + "': " + e.getMessage(),
+                        e, Error.errorType());
+            }
+        }, FtpConstants.OP_DOWNLOAD_FILE, remotePath);
+
+        if (!(result instanceof BError)) {
+            checkpoint.delete();
+        } else if (!persistCheckpoint) {
+            // Without a checkpoint the partial file cannot be resumed later
+            deletePartialFile(destination);
+        }
+        return result;
+    }
+
+    /**
+     * Streams a local file from the given offset. The file is read with positional channel reads straight into the
+     * array that is written to the remote stream, so each chunk is copied once between the two.
+     */
+    private static void copyToStream(Path source, long offset, long size, int bufferSize,
+                                     OutputStream outputStream) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            byte[] array = new byte[(int) Math.min(bufferSize, Math.max(size - offset, 1))];
+            ByteBuffer buffer = ByteBuffer.wrap(array);
+            long position = offset;
+            int n;
+            while ((n = channel.read(buffer, position)) > -1) {
+                outputStream.write(array, 0, n);
+                position += n;
+                buffer.clear();
+            }
+        }
+    }
+
+    private static void writeAt(FileChannel channel, long position, byte[] buffer, int length) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+        long writePosition = position;
+        while (byteBuffer.hasRemaining()) {
+            writePosition += channel.write(byteBuffer, writePosition);
+        }
+    }
+
+    private static BError validateOptions(BMap<BString, Object> options) {
+        if (options.getIntValue(BUFFER_SIZE) <= 0) {
+            return FtpUtil.createError("bufferSize must be greater than 0", InvalidConfigError.errorType());
+        }
+        return null;
+    }
+
+    private static long getResumeOffset(VfsClientConnectorImpl connector, String remotePath, long sourceSize)
+            throws RemoteFileSystemConnectorException {
+        FileInfo remoteFile = connector.stat(remotePath);
+        if (remoteFile == null || remoteFile.getFileSize() > sourceSize) {
+            return 0;
+        }
+        return remoteFile.getFileSize();
+    }
+
+    private static Object toLocalPath(String localPath) {
+        try {
+            return Paths.get(localPath);
+        } catch (InvalidPathException e) {
+            return FtpUtil.createError("Invalid local path '" + localPath + "': " + e.getMessage(),
+                    InvalidConfigError.errorType());
+        }
+    }
+
+    private static void deletePartialFile(Path destination) {
+        try {
+            Files.deleteIfExists(destination);
+        } catch (IOException e) {
+            log.debug("Failed to delete partially downloaded file {}: {}", destination, e.getMessage());
+        }
+    }
+}
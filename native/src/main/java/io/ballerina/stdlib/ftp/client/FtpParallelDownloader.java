@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
+import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.VfsClientConnectorImpl;
+import io.ballerina.stdlib.ftp.transport.client.connector.contractimpl.VfsClientConnectorImpl.RangeConsumer;
+import io.ballerina.stdlib.ftp.util.CompressionUtils;
+import io.ballerina.stdlib.ftp.util.FtpConstants;
+import io.ballerina.stdlib.ftp.util.FtpUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.Error;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.InvalidConfigError;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.findRootCause;
+
+/**
+ * Downloads a remote file as a set of byte ranges that are fetched concurrently and written to their position in
+ * the destination. A byte array is decompressed after all ranges are fetched when the client decompresses content,
+ * while a local file is always written as it is stored on the server.
+ */
+final class FtpParallelDownloader {
+
+    private static final Logger log = LoggerFactory.getLogger(FtpParallelDownloader.class);
+
+    private static final BString SEGMENT_SIZE = StringUtils.fromString("segmentSize");
+    private static final BString PARALLELISM = StringUtils.fromString("parallelism");
+    private static final long MAX_IN_MEMORY_SIZE = Integer.MAX_VALUE - 8;
+
+    private FtpParallelDownloader() {
+        // private constructor
+    }
+
+    /**
+     * Downloads a remote file into a byte array.
+     *
+     * @param clientConnector The FTP client connector
+     * @param connector       The VFS client connector
+     * @param filePath        The remote file path
+     * @param options         The Ballerina ParallelDownloadConfig record
+     * @return The content as a Ballerina byte array, or a BError
+     */
+    static Object getBytes(BObject clientConnector, VfsClientConnectorImpl connector, String filePath,
+                           BMap<BString, Object> options) {
+        BError optionsError = validateOptions(options);
+        if (optionsError != null) {
+            return optionsError;
+        }
+        long size;
+        try {
+            size = connector.getSize(filePath);
+        } catch (RemoteFileSystemConnectorException e) {
+            return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+        }
+        if (size > MAX_IN_MEMORY_SIZE) {
+            return FtpUtil.createError("File " + filePath + " of " + size + " bytes is too large to be read " +
+                    "into memory. Use downloadToFile instead.", Error.errorType());
+        }
+        byte[] content = new byte[(int) size];
+        Object result = fetchSegments(clientConnector, connector, filePath, size, options,
+                FtpConstants.OP_GET_BYTES_PARALLEL,
+                (position, buffer, length) -> System.arraycopy(buffer, 0, content, (int) position, length));
+        if (result instanceof BError) {
+            return result;
+        }
+        if (connector.isDecompressContent()) {
+            // The ranges of a compressed file cannot be inflated on their own, so the assembled content is inflated
+            try (InputStream decompressed = CompressionUtils.decompress(new ByteArrayInputStream(content))) {
+                return ValueCreator.createArrayValue(decompressed.readAllBytes());
+            } catch (IOException e) {
+                return FtpUtil.createError("Failed to decompress " + filePath + ": " + e.getMessage(), e,
+                        Error.errorType());
+            }
+        }
+        return ValueCreator.createArrayValue(content);
+    }
+
+    /**
+     * Downloads a remote file into a local file using positional writes.
+     *
+     * @param clientConnector The FTP client connector
+     * @param connector       The VFS client connector
+     * @param filePath        The remote file path
+     * @param localPath       The local destination path
+     * @param options         The Ballerina ParallelDownloadConfig record
+     * @return null on success, or a BError
+     */
+    static Object downloadToFile(BObject clientConnector, VfsClientConnectorImpl connector, String filePath,
+                                 String localPath, BMap<BString, Object> options) {
+        BError optionsError = validateOptions(options);
+        if (optionsError != null) {
+            return optionsError;
+        }
+        Path destination;
+        try {
+            destination = Paths.get(localPath);
+        } catch (InvalidPathException e) {
+            return FtpUtil.createError("Invalid local path '" + localPath + "': " + e.getMessage(),
+                    InvalidConfigError.errorType());
+        }
+        long size;
+        try {
+            size = connector.getSize(filePath);
+        } catch (RemoteFileSystemConnectorException e) {
+            return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+        }
+
+        Object result;
+        try (FileChannel channel = FileChannel.open(destination, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            result = fetchSegments(clientConnector, connector, filePath, size, options,
+                    FtpConstants.OP_DOWNLOAD_TO_FILE, (position, buffer, length) -> {
+                        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+                        long writePosition = position;
+                        while (byteBuffer.hasRemaining()) {
+                            writePosition += channel.write(byteBuffer, writePosition);
+                        }
+                    });
+        } catch (IOException e) {
+            result = FtpUtil.createError("Failed to write to local file '" + localPath + "': " + e.getMessage(),
+                    e, Error.errorType());
+        }
+        if (result instanceof BError) {
+            deletePartialFile(destination);
+            return result;
+        }
+        return null;
+    }
+
+    private static Object fetchSegments(BObject clientConnector, VfsClientConnectorImpl connector,
+                                        String filePath, long size, BMap<BString, Object> options,
+                                        String operationName, RangeConsumer sink) {
+        if (size == 0) {
+            return null;
+        }
+        long segmentSize = options.getIntValue(SEGMENT_SIZE);
+        int parallelism = options.getIntValue(PARALLELISM).intValue();
+        long segmentCount = (size + segmentSize - 1) / segmentSize;
+        int workerCount = (int) Math.min(parallelism, segmentCount);
+
+        FtpClientExecutor executor = (FtpClientExecutor) clientConnector.getNativeData(
+                FtpConstants.CLIENT_EXECUTOR);
+        AtomicLong nextSegment = new AtomicLong();
+        AtomicReference<Object> failure = new AtomicReference<>();
+        log.debug("Downloading {} ({} bytes) in {} segments using {} workers", filePath, size, segmentCount,
+                workerCount);
+
+        // Each worker fetches the next pending segment until all segments are done or one of them has failed
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = executor.submit(() -> {
+                long segment;
+                while (failure.get() == null && (segment = nextSegment.getAndIncrement()) < segmentCount) {
+                    long offset = segment * segmentSize;
+                    long length = Math.min(segmentSize, size - offset);
+                    Object result = fetchSegment(clientConnector, connector, filePath, offset, length,
+                            operationName, sink);
+                    if (result instanceof BError) {
+                        failure.compareAndSet(null, result);
+                    }
+                }
+                return null;
+            });
+        }
+        try {
+            CompletableFuture.allOf(workers).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, FtpUtil.createError("Interrupted while downloading " + filePath, e,
+                    Error.errorType()));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failure.compareAndSet(null, FtpUtil.createError(cause.getMessage(), cause,
+                    FtpUtil.getErrorTypeForException(cause)));
+        }
+        return failure.get();
+    }
+
+    private static Object fetchSegment(BObject clientConnector, VfsClientConnectorImpl connector, String filePath,
+                                       long offset, long length, String operationName, RangeConsumer sink) {
+        return FtpRetryHelper.executeWithClientRetry(clientConnector, () -> {
+            try {
+                connector.readRange(filePath, offset, length, sink);
+                return null;
+            } catch (RemoteFileSystemConnectorException e) {
+                return FtpUtil.createError(e.getMessage(), findRootCause(e), FtpUtil.getErrorTypeForException(e));
+            }
+        }, operationName, filePath);
+    }
+
+    private static BError validateOptions(BMap<BString, Object> options) {
+        if (options.getIntValue(SEGMENT_SIZE) <= 0) {
+            return FtpUtil.createError("segmentSize must be greater than 0", InvalidConfigError.errorType());
+        }
+        if (options.getIntValue(PARALLELISM) <= 0) {
+            return FtpUtil.createError("parallelism must be greater than 0", InvalidConfigError.errorType());
+        }
+        return null;
+    }
+
+    private static void deletePartialFile(Path destination) {
+        try {
+            Files.deleteIfExists(destination);
+        } catch (IOException e) {
+            log.debug("Failed to delete partially downloaded file {}: {}", destination, e.getMessage());
+        }
+    }
+}
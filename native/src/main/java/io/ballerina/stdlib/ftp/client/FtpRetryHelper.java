@@ -132,6 +132,24 @@ public final class FtpRetryHelper {
         return Math.min(waitTime, maxWaitTime);
     }
 
+    /**
+     * Executes a blocking operation with the retry configuration of the client.
+     * Unlike the supplier overload, this does not check the circuit breaker, which callers do once per operation.
+     */
+    static Object executeWithClientRetry(BObject clientConnector, Callable<Object> operation, String operationName,
+                                         String filePath) {
+        boolean retryEnabled = (boolean) clientConnector.getNativeData(FtpConstants.NATIVE_RETRY_ENABLED);
+        if (!retryEnabled) {
+            return executeWithRetry(operation, operationName, filePath, false, 0, 0, 0, 0);
+        }
+        long count = (long) clientConnector.getNativeData(FtpConstants.NATIVE_RETRY_COUNT);
+        double interval = (double) clientConnector.getNativeData(FtpConstants.NATIVE_RETRY_INTERVAL);
+        double backOffFactor = (double) clientConnector.getNativeData(FtpConstants.NATIVE_RETRY_BACKOFF);
+        double maxWaitInterval = (double) clientConnector.getNativeData(FtpConstants.NATIVE_RETRY_MAX_WAIT);
+        return executeWithRetry(operation, operationName, filePath, true, count, interval, backOffFactor,
+                maxWaitInterval);
+    }
+
     /**
      * Executes an operation with retry and exponential backoff for listener-side file retrieval.
      * Exceptions are caught and converted to BError, mirroring the client-side overload.
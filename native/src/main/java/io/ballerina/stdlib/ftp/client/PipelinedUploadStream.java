@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.ftp.util.CSVUtils;
+import io.ballerina.stdlib.ftp.util.FtpConstants;
+import io.ballerina.stdlib.ftp.util.FtpUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static io.ballerina.stdlib.ftp.util.FtpConstants.FTP_ERROR;
+
+/**
+ * Content of a Ballerina byte or CSV stream that is being uploaded. A producer thread pulls the elements of the
+ * stream and batches them into pooled buffers, which are passed to the reader through a bounded queue. This lets the
+ * Ballerina side produce the next chunks while the previous ones are written to the server, and the queue depth bounds
+ * how far the producer can run ahead.
+ */
+final class PipelinedUploadStream extends InputStream {
+
+    private static final Thread.Builder PRODUCER_THREADS = Thread.ofVirtual().name("ftp-upload-producer-", 0);
+    private static final Chunk END = new Chunk(new byte[0], 0, false);
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Environment env;
+    private final BObject iterator;
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final BlockingQueue<Chunk> filledChunks;
+    private final BlockingQueue<byte[]> freeBuffers;
+
+    private volatile Thread producer;
+    private volatile RuntimeException failure;
+    private volatile boolean closed;
+
+    // Reader state
+    private Chunk current;
+    private int position;
+    private boolean ended;
+
+    // Producer state
+    private int allocatedBuffers;
+    private byte[] buffer;
+    private ByteBuffer output;
+    private CharsetEncoder encoder;
+
+    PipelinedUploadStream(Environment env, BObject iterator, StreamUploadConfig config) {
+        this.env = env;
+        this.iterator = iterator;
+        this.bufferSize = config.getBufferSize();
+        // One buffer is filled by the producer and one is drained by the reader while the queue is full
+        this.maxBuffers = config.getQueueDepth() + 2;
+        this.filledChunks = new ArrayBlockingQueue<>(config.getQueueDepth());
+        this.freeBuffers = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (current == null || position == current.length()) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, current.length() - position);
+        System.arraycopy(current.buffer(), position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    private boolean nextChunk() throws IOException {
+        if (current != null && current.pooled()) {
+            freeBuffers.offer(current.buffer());
+        }
+        current = null;
+        if (!ended && producer == null) {
+            // Started on the first read so that nothing is consumed from the stream if the upload does not start
+            producer = PRODUCER_THREADS.start(this::produce);
+        }
+        while (!ended) {
+            Chunk chunk;
+            try {
+                chunk = filledChunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the upload content");
+            }
+            if (chunk == END) {
+                ended = true;
+            } else if (chunk.length() > 0) {
+                current = chunk;
+                position = 0;
+                return true;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread producerThread = producer;
+        if (producerThread != null) {
+            // Unblocks a producer that is waiting for a free buffer or for space in the queue
+            producerThread.interrupt();
+        }
+        filledChunks.clear();
+        freeBuffers.clear();
+    }
+
+    private void produce() {
+        try {
+            boolean isFirstRow = true;
+            while (!closed) {
+                Object next = fetchNext();
+                if (next == null) {
+                    break;
+                }
+                // Each element is a record with a 'value' field
+                Object value = ((BMap<BString, Object>) next).get(FtpConstants.FIELD_VALUE);
+                if (value instanceof BArray array && array.getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    byte[] bytes = array.getBytes();
+                    if (bytes.length == 0) {
+                        break;
+                    }
+                    writeBytes(bytes);
+                } else if (value instanceof BArray array) {
+                    writeText(CSVUtils.convertArrayToCsvRow(array));
+                    writeText(LINE_SEPARATOR);
+                } else {
+                    writeText(CSVUtils.convertRecordToCsvRow((BMap<BString, Object>) value, isFirstRow));
+                    writeText(LINE_SEPARATOR);
+                }
+                isFirstRow = false;
+            }
+            flushBuffer();
+            filledChunks.put(END);
+        } catch (InterruptedException e) {
+            // The reader closed the stream
+        } catch (RuntimeException e) {
+            failure = e;
+            filledChunks.clear();
+            filledChunks.offer(END);
+        }
+    }
+
+    private Object fetchNext() {
+        final Object next;
+        try {
+            next = env.getRuntime().callMethod(iterator, "next", null);
+        } catch (Exception e) {
+            throw FtpUtil.createError("Failed to read iterator", e, FTP_ERROR);
+        }
+        if (next instanceof BError err) {
+            throw FtpUtil.createError("Iterator error: " + err.getMessage(), FTP_ERROR);
+        }
+        return next;
+    }
+
+    private void writeBytes(byte[] bytes) throws InterruptedException {
+        if (bytes.length >= bufferSize) {
+            // Large chunks are passed on as they are instead of being copied into pooled buffers
+            flushBuffer();
+            filledChunks.put(new Chunk(bytes, bytes.length, false));
+            return;
+        }
+        int offset = 0;
+        while (offset < bytes.length) {
+            ByteBuffer out = currentOutput();
+            int n = Math.min(out.remaining(), bytes.length - offset);
+            out.put(bytes, offset, n);
+            offset += n;
+        }
+    }
+
+    /**
+     * Encodes text straight into the pooled buffers, without an intermediate byte array.
+     */
+    private void writeText(String text) throws InterruptedException {
+        if (encoder == null) {
+            encoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        encoder.reset();
+        CharBuffer input = CharBuffer.wrap(text);
+        while (encoder.encode(input, currentOutput(), true).isOverflow()) {
+            // The next character does not fit into the rest of the buffer
+            flushBuffer();
+        }
+        while (encoder.flush(currentOutput()).isOverflow()) {
+            flushBuffer();
+        }
+    }
+
+    private ByteBuffer currentOutput() throws InterruptedException {
+        if (output != null && !output.hasRemaining()) {
+            flushBuffer();
+        }
+        if (output == null) {
+            buffer = acquireBuffer();
+            output = ByteBuffer.wrap(buffer);
+        }
+        return output;
+    }
+
+    private byte[] acquireBuffer() throws InterruptedException {
+        byte[] free = freeBuffers.poll();
+        if (free != null) {
+            return free;
+        }
+        if (allocatedBuffers < maxBuffers) {
+            allocatedBuffers++;
+            return new byte[bufferSize];
+        }
+        return freeBuffers.take();
+    }
+
+    private void flushBuffer() throws InterruptedException {
+        if (output != null && output.position() > 0) {
+            filledChunks.put(new Chunk(buffer, output.position(), true));
+            buffer = null;
+            output = null;
+        }
+    }
+
+    private record Chunk(byte[] buffer, int length, boolean pooled) {
+    }
+}
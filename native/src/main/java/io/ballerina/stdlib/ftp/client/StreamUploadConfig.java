@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.ftp.exception.BallerinaFtpException;
+
+/**
+ * Configuration for pipelined streaming uploads.
+ * Parsed from Ballerina StreamUploadConfig record.
+ */
+public class StreamUploadConfig {
+
+    private static final int MIN_BUFFER_SIZE = 1024;
+
+    static final StreamUploadConfig DEFAULT = new StreamUploadConfig(4, 65536);
+
+    private final int queueDepth;
+    private final int bufferSize;
+
+    // Ballerina field names
+    private static final BString QUEUE_DEPTH = StringUtils.fromString("queueDepth");
+    private static final BString BUFFER_SIZE = StringUtils.fromString("bufferSize");
+
+    private StreamUploadConfig(int queueDepth, int bufferSize) {
+        this.queueDepth = queueDepth;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Creates a StreamUploadConfig from a Ballerina BMap.
+     *
+     * @param config The Ballerina StreamUploadConfig record
+     * @return A new StreamUploadConfig instance
+     * @throws BallerinaFtpException if the configuration is invalid
+     */
+    public static StreamUploadConfig fromBMap(BMap<BString, Object> config) throws BallerinaFtpException {
+        long queueDepth = config.getIntValue(QUEUE_DEPTH);
+        long bufferSize = config.getIntValue(BUFFER_SIZE);
+
+        validate(queueDepth, bufferSize);
+
+        return new StreamUploadConfig((int) queueDepth, (int) bufferSize);
+    }
+
+    private static void validate(long queueDepth, long bufferSize) throws BallerinaFtpException {
+        if (queueDepth <= 0 || queueDepth > Integer.MAX_VALUE) {
+            throw new BallerinaFtpException("Stream upload queueDepth must be greater than 0");
+        }
+        if (bufferSize < MIN_BUFFER_SIZE || bufferSize > Integer.MAX_VALUE) {
+            throw new BallerinaFtpException("Stream upload bufferSize must be at least " + MIN_BUFFER_SIZE);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
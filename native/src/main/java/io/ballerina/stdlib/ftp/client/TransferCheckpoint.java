@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Sidecar file that records which source a partially transferred file belongs to, so that a transfer interrupted by
+ * a process restart can be resumed. The checkpoint is kept next to the local file of the transfer.
+ */
+final class TransferCheckpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferCheckpoint.class);
+
+    private static final String SUFFIX = ".ftp-checkpoint";
+    private static final String REMOTE_PATH = "remotePath";
+    private static final String SOURCE_SIZE = "sourceSize";
+    private static final String SOURCE_MODIFIED_TIME = "sourceModifiedTime";
+
+    private final Path checkpointFile;
+
+    TransferCheckpoint(Path localFile) {
+        this.checkpointFile = localFile.resolveSibling(localFile.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Checks whether the checkpoint was written for the same remote path and an unchanged source.
+     *
+     * @param remotePath         The remote path of the transfer
+     * @param sourceSize         The current size of the source
+     * @param sourceModifiedTime The current modification time of the source
+     * @return true if the partially transferred data can be resumed
+     */
+    boolean matches(String remotePath, long sourceSize, long sourceModifiedTime) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(checkpointFile)) {
+            properties.load(inputStream);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable transfer checkpoint {}: {}", checkpointFile, e.getMessage());
+            return false;
+        }
+        return remotePath.equals(properties.getProperty(REMOTE_PATH))
+                && String.valueOf(sourceSize).equals(properties.getProperty(SOURCE_SIZE))
+                && String.valueOf(sourceModifiedTime).equals(properties.getProperty(SOURCE_MODIFIED_TIME));
+    }
+
+    void save(String remotePath, long sourceSize, long sourceModifiedTime) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(REMOTE_PATH, remotePath);
+        properties.setProperty(SOURCE_SIZE, String.valueOf(sourceSize));
+        properties.setProperty(SOURCE_MODIFIED_TIME, String.valueOf(sourceModifiedTime));
+        try (OutputStream outputStream = Files.newOutputStream(checkpointFile)) {
+            properties.store(outputStream, null);
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            log.debug("Failed to delete transfer checkpoint {}: {}", checkpointFile, e.getMessage());
+        }
+    }
+}
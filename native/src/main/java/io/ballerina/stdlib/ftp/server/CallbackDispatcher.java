@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.server;
+
+import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the callbacks of a service on virtual threads with a bound on the callbacks that run at the same time and on
+ * the callbacks that wait for them. A callback first reserves a slot, which applies the overflow policy when all slots
+ * are taken, and is then submitted to run. Slots are freed as callbacks complete, which lets a blocked poll continue.
+ * Before a slot is freed, the event of the callback is told whether the callback succeeded, so that its files are
+ * only recorded as processed once they are handled.
+ * <p>
+ * With an ordering key, the callback of a file whose name matches the key pattern runs only after the callbacks of
+ * the earlier files with the same key have completed, in the order in which their slots were reserved. The keys are
+ * spread over a fixed number of stripes that each run one callback at a time, so that the ordering state does not
+ * grow with the number of keys, while callbacks of keys on different stripes run in parallel.
+ */
+public class CallbackDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(CallbackDispatcher.class);
+
+    private static final int MAX_STRIPES = 1024;
+    private static final ExecutorService DISPATCH_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ftp-listener-dispatch-", 0).factory());
+
+    /**
+     * Policies for a callback that is dispatched while the queue of the service is full. Mirrors the Ballerina
+     * DispatchOverflowPolicy enum.
+     */
+    public enum OverflowPolicy {
+        BLOCK,
+        DEFER,
+        DROP
+    }
+
+    /**
+     * Slot reserved for a callback. Slots of callbacks without an ordering key have no stripe.
+     */
+    static final class Slot {
+
+        private final Stripe stripe;
+        private final RemoteFileSystemEvent event;
+        private final Collection<String> files;
+        private Runnable callback;
+        private boolean started;
+        private boolean released;
+
+        private Slot(Stripe stripe, RemoteFileSystemEvent event, Collection<String> files) {
+            this.stripe = stripe;
+            this.event = event;
+            this.files = files;
+        }
+    }
+
+    /**
+     * Slots of the keys of a stripe in the order of their reservation. The first slot is the one that runs next.
+     */
+    private static final class Stripe {
+
+        private final Queue<Slot> slots = new ArrayDeque<>();
+    }
+
+    private final int maxInFlight;
+    private final int maxPending;
+    private final OverflowPolicy overflowPolicy;
+    private final Pattern orderingKey;
+    private final Stripe[] stripes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    // Callbacks that hold a slot, whether reserved, queued or running
+    private int pending;
+    private int running;
+    private final AtomicLong completedCallbacks = new AtomicLong();
+    private final AtomicLong deferredCallbacks = new AtomicLong();
+    private final AtomicLong droppedCallbacks = new AtomicLong();
+
+    public CallbackDispatcher(int maxInFlight, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this(maxInFlight, queueCapacity, overflowPolicy, null);
+    }
+
+    /**
+     * Creates a dispatcher that runs the callbacks of files with the same ordering key one at a time.
+     *
+     * @param maxInFlight    The maximum number of callbacks that run at the same time
+     * @param queueCapacity  The maximum number of callbacks that wait for a running callback
+     * @param overflowPolicy The policy for a callback while the queue is full
+     * @param orderingKey    The pattern whose first capturing group, or whole match if it has no groups, gives the
+     *                       ordering key of a file name, or null to run all callbacks in parallel
+     */
+    public CallbackDispatcher(int maxInFlight, int queueCapacity, OverflowPolicy overflowPolicy,
+                              Pattern orderingKey) {
+        this.maxInFlight = maxInFlight;
+        this.maxPending = (int) Math.min((long) maxInFlight + queueCapacity, Integer.MAX_VALUE);
+        this.overflowPolicy = overflowPolicy;
+        this.orderingKey = orderingKey;
+        if (orderingKey != null) {
+            this.stripes = new Stripe[Math.min(maxInFlight, MAX_STRIPES)];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe();
+            }
+        } else {
+            this.stripes = null;
+        }
+    }
+
+    /**
+     * Reserves a slot for the callback of some files. When all slots are taken, the BLOCK policy waits for a callback
+     * to complete, while the DEFER and DROP policies give up and count the callback. Deferred files are recorded in
+     * the event, so that the poll reports them again.
+     *
+     * A callback of a single file takes its place in the order of its ordering key when the slot is reserved.
+     *
+     * @param event The event that reports the files
+     * @param files The URIs of the added or modified files, or the deleted paths, handled by the callback
+     * @return The reserved slot, to which the callback must be submitted or which must be released, or null if no
+     * slot is reserved
+     */
+    Slot reserve(RemoteFileSystemEvent event, Collection<String> files) {
+        Stripe stripe = files.size() == 1 ? getStripe(files.iterator().next()) : null;
+        lock.lock();
+        try {
+            while (pending >= maxPending) {
+                if (overflowPolicy == OverflowPolicy.DROP) {
+                    droppedCallbacks.incrementAndGet();
+                    return null;
+                }
+                if (overflowPolicy == OverflowPolicy.DEFER) {
+                    defer(event, files);
+                    return null;
+                }
+                try {
+                    slotFreed.await();
+                } catch (InterruptedException e) {
+                    // The listener is stopping, so the callback is left for the next poll
+                    Thread.currentThread().interrupt();
+                    defer(event, files);
+                    return null;
+                }
+            }
+            pending++;
+            // The lists of the event may change once it is dispatched, while the callback still runs
+            Slot slot = new Slot(stripe, event, List.copyOf(files));
+            if (stripe != null) {
+                stripe.slots.add(slot);
+            }
+            event.callbackReserved(slot.files);
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Submits a callback to the slot reserved for it. The callback runs once the callbacks of the earlier slots with
+     * the same ordering key have completed and fewer than the maximum number of callbacks are running.
+     *
+     * @param slot     The reserved slot
+     * @param callback The callback, which returns whether it succeeded
+     */
+    void submit(Slot slot, BooleanSupplier callback) {
+        Runnable completingCallback = () -> {
+            boolean succeeded = false;
+            try {
+                succeeded = callback.getAsBoolean();
+            } finally {
+                slot.event.callbackCompleted(slot.files, succeeded);
+            }
+        };
+        if (slot.stripe == null) {
+            start(completingCallback);
+            return;
+        }
+        Runnable next;
+        lock.lock();
+        try {
+            slot.callback = completingCallback;
+            next = takeNext(slot.stripe);
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    private void start(Runnable callback) {
+        lock.lock();
+        try {
+            if (running >= maxInFlight) {
+                queue.add(callback);
+                return;
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        DISPATCH_EXECUTOR.execute(() -> runCallbacks(callback));
+    }
+
+    /**
+     * Releases a reserved slot without running a callback. The files of the slot are not recorded as processed.
+     *
+     * @param slot The reserved slot
+     */
+    void release(Slot slot) {
+        slot.event.callbackCompleted(slot.files, false);
+        Runnable next = null;
+        lock.lock();
+        try {
+            pending--;
+            if (slot.stripe != null) {
+                slot.released = true;
+                next = takeNext(slot.stripe);
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    /**
+     * Gives the callback of the first slot of a stripe if it is submitted and no callback of the stripe is running.
+     * Released slots at the front of the stripe are skipped. Must be called while holding the lock.
+     */
+    private Runnable takeNext(Stripe stripe) {
+        Slot first = stripe.slots.peek();
+        while (first != null && first.released) {
+            stripe.slots.poll();
+            first = stripe.slots.peek();
+        }
+        if (first == null || first.started || first.callback == null) {
+            return null;
+        }
+        first.started = true;
+        Runnable callback = first.callback;
+        return () -> {
+            try {
+                callback.run();
+            } finally {
+                Runnable next;
+                lock.lock();
+                try {
+                    stripe.slots.poll();
+                    next = takeNext(stripe);
+                } finally {
+                    lock.unlock();
+                }
+                if (next != null) {
+                    start(next);
+                }
+            }
+        };
+    }
+
+    private Stripe getStripe(String file) {
+        if (orderingKey == null) {
+            return null;
+        }
+        Matcher matcher = orderingKey.matcher(file.substring(file.lastIndexOf('/') + 1));
+        if (!matcher.find()) {
+            return null;
+        }
+        String key = matcher.groupCount() > 0 ? matcher.group(1) : matcher.group();
+        return key == null ? null : stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    /**
+     * Reserves a slot for the callback of some files and submits the callback to it.
+     *
+     * @param event    The event that reports the files
+     * @param files    The URIs of the added or modified files, or the deleted paths, handled by the callback
+     * @param callback The callback, which returns whether it succeeded
+     */
+    void dispatch(RemoteFileSystemEvent event, Collection<String> files, BooleanSupplier callback) {
+        Slot slot = reserve(event, files);
+        if (slot != null) {
+            submit(slot, callback);
+        }
+    }
+
+    /**
+     * Checks whether a poll can proceed. With the DEFER policy, a poll while the queue is full would only defer the
+     * files it finds, so the poll waits until callbacks complete.
+     *
+     * @return false if the queue is full and callbacks are deferred
+     */
+    boolean isReady() {
+        if (overflowPolicy != OverflowPolicy.DEFER) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return pending < maxPending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void defer(RemoteFileSystemEvent event, Collection<String> files) {
+        deferredCallbacks.incrementAndGet();
+        for (String file : files) {
+            event.deferFile(file);
+        }
+    }
+
+    /**
+     * Runs a callback, and then the queued callbacks, on the thread of a running slot.
+     */
+    private void runCallbacks(Runnable first) {
+        Runnable callback = first;
+        while (callback != null) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.error("Error while running a listener callback", e);
+            }
+            completedCallbacks.incrementAndGet();
+            lock.lock();
+            try {
+                pending--;
+                callback = queue.poll();
+                if (callback == null) {
+                    running--;
+                }
+                slotFreed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int getQueuedCallbacks() {
+        lock.lock();
+        try {
+            return pending - running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlightCallbacks() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCompletedCallbacks() {
+        return completedCallbacks.get();
+    }
+
+    public long getDeferredCallbacks() {
+        return deferredCallbacks.get();
+    }
+
+    public long getDroppedCallbacks() {
+        return droppedCallbacks.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+}
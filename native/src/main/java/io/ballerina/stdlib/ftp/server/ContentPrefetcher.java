@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fetches and converts the content of files for the content methods of a service on virtual threads, so that the
+ * poll does not wait for each round trip. The window bounds the fetches of a service that run at the same time, and
+ * the poll waits for a free place in the window before it starts the next fetch.
+ */
+public class ContentPrefetcher {
+
+    private static final ExecutorService PREFETCH_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ftp-listener-prefetch-", 0).factory());
+
+    private final Semaphore window;
+
+    public ContentPrefetcher(int windowSize) {
+        this.window = new Semaphore(windowSize, true);
+    }
+
+    /**
+     * Starts a fetch once there is a free place in the window.
+     *
+     * @param fetch The fetch, which hands the content to the dispatcher
+     * @return true if the fetch is started, or false if the thread was interrupted while waiting for the window
+     */
+    boolean submit(Runnable fetch) {
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            PREFETCH_EXECUTOR.execute(() -> {
+                try {
+                    fetch.run();
+                } finally {
+                    window.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            window.release();
+            throw e;
+        }
+        return true;
+    }
+}
@@ -28,6 +28,8 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.ftp.exception.FtpInvalidConfigException;
 import io.ballerina.stdlib.ftp.transport.message.FileInfo;
+import io.ballerina.stdlib.ftp.util.CompressionFormat;
+import io.ballerina.stdlib.ftp.util.FileNameMatcher;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpFileExtensionMapper;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
@@ -35,9 +37,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ANNOTATION_AFTER_ERROR;
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ANNOTATION_AFTER_PROCESS;
@@ -54,7 +56,7 @@ public class FormatMethodsHolder {
     private static final String ANNOTATION_PATTERN_FIELD = "fileNamePattern";
 
     private final BObject service;
-    private final Map<String, MethodType> annotationPatternToMethod;
+    private final Map<FileNameMatcher, MethodType> annotationPatternToMethod;
     private final Map<String, MethodType> availableContentMethods;
     private final MethodType onErrorMethod;
     private final Map<String, PostProcessAction> methodAfterProcessAction;
@@ -62,7 +64,7 @@ public class FormatMethodsHolder {
 
     public FormatMethodsHolder(BObject service) throws FtpInvalidConfigException {
         this.service = service;
-        this.annotationPatternToMethod = new HashMap<>();
+        this.annotationPatternToMethod = new LinkedHashMap<>();
         this.availableContentMethods = new HashMap<>();
         this.onErrorMethod = FtpUtil.getOnErrorMethod(service).orElse(null);
         this.methodAfterProcessAction = new HashMap<>();
@@ -88,7 +90,7 @@ public class FormatMethodsHolder {
                     String pattern = patternObj.toString();
                     FtpUtil.validateRegexPattern(pattern,
                             "@ftp:FunctionConfig.fileNamePattern for method '" + methodName + "'");
-                    annotationPatternToMethod.put(pattern, method);
+                    annotationPatternToMethod.put(FileNameMatcher.of(pattern), method);
                     log.debug("Registered annotation pattern '{}' for method '{}'", pattern, methodName);
                 }
 
@@ -163,12 +165,14 @@ public class FormatMethodsHolder {
      * Routes a file to the appropriate content handler method.
      * Priority: Annotation override > Extension mapping > Generic onFile > onFileChange fallback
      *
-     * @param fileInfo The file information
+     * @param fileInfo          The file information
+     * @param decompressContent Whether compressed files are routed by the extension of their content, so that
+     *                          {@code orders.csv.gz} is routed like {@code orders.csv}
      * @return Optional containing the MethodType to invoke, or empty if no suitable method found
      */
-    public Optional<MethodType> getMethod(FileInfo fileInfo) {
+    public Optional<MethodType> getMethod(FileInfo fileInfo, boolean decompressContent) {
         String fileName = fileInfo.getFileName().getBaseName();
-        String extension = fileInfo.getFileName().getExtension();
+        String extension = getContentExtension(fileName, fileInfo.getFileName().getExtension(), decompressContent);
 
         // Priority 1: Check for annotation-based override
         Optional<MethodType> annotatedMethod = findMethodByAnnotationPattern(fileName);
@@ -200,6 +204,19 @@ public class FormatMethodsHolder {
         return Optional.empty();
     }
 
+    private static String getContentExtension(String fileName, String extension, boolean decompressContent) {
+        if (!decompressContent) {
+            return extension;
+        }
+        CompressionFormat format = CompressionFormat.fromFileName(fileName);
+        if (format == null) {
+            return extension;
+        }
+        String contentFileName = format.getUncompressedFileName(fileName);
+        int extensionIndex = contentFileName.lastIndexOf('.');
+        return extensionIndex < 0 ? "" : contentFileName.substring(extensionIndex + 1);
+    }
+
     /**
      * Finds a method by matching the file name against annotation patterns.
      *
@@ -207,10 +224,9 @@ public class FormatMethodsHolder {
      * @return Optional containing the matching MethodType
      */
     private Optional<MethodType> findMethodByAnnotationPattern(String fileName) {
-        for (Map.Entry<String, MethodType> entry : annotationPatternToMethod.entrySet()) {
-            String pattern = entry.getKey();
+        for (Map.Entry<FileNameMatcher, MethodType> entry : annotationPatternToMethod.entrySet()) {
             // Patterns are validated during initialization, so no try-catch needed
-            if (Pattern.matches(pattern, fileName)) {
+            if (entry.getKey().matches(fileName)) {
                 return Optional.of(entry.getValue());
             }
         }
@@ -40,6 +40,7 @@ import io.ballerina.stdlib.ftp.ContentCsvStreamIteratorUtils;
 import io.ballerina.stdlib.ftp.client.FtpRetryHelper;
 import io.ballerina.stdlib.ftp.transport.message.FileInfo;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemEvent;
+import io.ballerina.stdlib.ftp.util.CompressionUtils;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpContentConverter;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
@@ -49,6 +50,7 @@ import org.apache.commons.vfs2.FileSystemOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +70,7 @@ import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToStr
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertBytesToXml;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.convertToBallerinaByteArray;
 import static io.ballerina.stdlib.ftp.util.FtpContentConverter.deriveFileNamePrefix;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.findRootCause;
 
 /**
  * Handles content-based callbacks for FTP listener.
@@ -76,26 +79,34 @@ public class FtpContentCallbackHandler {
 
     private static final Logger log = LoggerFactory.getLogger(FtpContentCallbackHandler.class);
     private final Runtime ballerinaRuntime;
+    private final CallbackDispatcher dispatcher;
+    private final ContentPrefetcher prefetcher;
     private final FileSystemManager fileSystemManager;
     private final FileSystemOptions fileSystemOptions;
     private final boolean laxDataBinding;
     private final BMap<?, ?> csvFailSafe;
+    private final boolean decompressContent;
     private final boolean retryEnabled;
     private final long retryCount;
     private final double retryInterval;
     private final double retryBackoffFactor;
     private final double retryMaxWaitInterval;
 
-    public FtpContentCallbackHandler(Runtime ballerinaRuntime, FileSystemManager fileSystemManager,
+    public FtpContentCallbackHandler(Runtime ballerinaRuntime, CallbackDispatcher dispatcher,
+                                     ContentPrefetcher prefetcher, FileSystemManager fileSystemManager,
                                      FileSystemOptions fileSystemOptions, boolean laxDataBinding,
-                                     BMap<?, ?> csvFailSafe, boolean retryEnabled, long retryCount,
+                                     BMap<?, ?> csvFailSafe, boolean decompressContent,
+                                     boolean retryEnabled, long retryCount,
                                      double retryInterval, double retryBackoffFactor,
                                      double retryMaxWaitInterval) {
         this.ballerinaRuntime = ballerinaRuntime;
+        this.dispatcher = dispatcher;
+        this.prefetcher = prefetcher;
         this.fileSystemManager = fileSystemManager;
         this.fileSystemOptions = fileSystemOptions;
         this.laxDataBinding = laxDataBinding;
         this.csvFailSafe = csvFailSafe;
+        this.decompressContent = decompressContent;
         this.retryEnabled = retryEnabled;
         this.retryCount = retryCount;
         this.retryInterval = retryInterval;
@@ -106,6 +117,9 @@ public class FtpContentCallbackHandler {
     /**
      * Processes content callbacks for added files in the event.
      * Routes each file to the appropriate content handler based on file extension and annotations.
+     * A dispatch slot is reserved before the content of a file is fetched, so that a full queue also holds back the
+     * fetches, and so that a file takes its place in the order of its ordering key before its content is fetched.
+     * The content is fetched and converted by the prefetcher, which hands it to the dispatcher.
      */
     public void processContentCallbacks(Environment env, BObject service, RemoteFileSystemEvent event,
                                         FormatMethodsHolder holder, BObject callerObject) {
@@ -113,47 +127,85 @@ public class FtpContentCallbackHandler {
         String listenerPath = event.getSourcePath();
 
         for (FileInfo fileInfo : addedFiles) {
-            try {
-                // Route file to appropriate method
-                Optional<MethodType> methodTypeOpt = holder.getMethod(fileInfo);
-
-                if (methodTypeOpt.isEmpty()) {
-                    log.warn("No content handler method found for file: {}. Skipping content processing.",
-                            fileInfo.getPath());
-                    continue;
-                }
+            // Route file to appropriate method
+            Optional<MethodType> methodTypeOpt = holder.getMethod(fileInfo, decompressContent);
 
-                String fileUri = fileInfo.getPath();
-
-                // Convert content based on method signature (retry is handled inside)
-                MethodType methodType = methodTypeOpt.get();
-                Object convertedContent = convertFileContent(env, fileUri, methodType);
+            if (methodTypeOpt.isEmpty()) {
+                log.warn("No content handler method found for file: {}. Skipping content processing.",
+                        fileInfo.getPath());
+                continue;
+            }
 
-                if (convertedContent instanceof BError bError) {
-                    if (FtpUtil.ErrorType.ContentBindingError.errorType().equals(bError.getType().getName())) {
-                        routeToOnError(service, holder, bError, callerObject, fileInfo, listenerPath);
-                    } else {
-                        bError.printStackTrace();
-                    }
-                    continue;
+            String uri = fileInfo.getFileName().getURI();
+            CallbackDispatcher.Slot slot = dispatcher.reserve(event, List.of(uri));
+            if (slot == null) {
+                continue;
+            }
+            MethodType methodType = methodTypeOpt.get();
+            boolean started = false;
+            try {
+                started = prefetcher.submit(() -> fetchAndDispatch(env, service, event, holder, callerObject,
+                        slot, fileInfo, methodType, listenerPath));
+            } finally {
+                if (!started) {
+                    // The poll is stopping, so the file is left for the next poll
+                    dispatcher.release(slot);
+                    event.deferFile(uri);
                 }
+            }
+        }
+    }
 
-                // Prepare method arguments
-                Object[] methodArguments = prepareContentMethodArguments(methodType, convertedContent,
-                        fileInfo, callerObject);
-
-                // Get post-processing actions
-                Optional<PostProcessAction> afterProcess = holder.getAfterProcessAction(methodType.getName());
-                Optional<PostProcessAction> afterError = holder.getAfterErrorAction(methodType.getName());
+    /**
+     * Fetches and converts the content of a file, and submits the content method to the slot reserved for the file.
+     * When the content cannot be fetched, the file is reported again by the next poll, and the error is passed to
+     * the onError method without its post-processing actions, as the file is not processed yet.
+     */
+    private void fetchAndDispatch(Environment env, BObject service, RemoteFileSystemEvent event,
+                                  FormatMethodsHolder holder, BObject callerObject, CallbackDispatcher.Slot slot,
+                                  FileInfo fileInfo, MethodType methodType, String listenerPath) {
+        boolean submitted = false;
+        try {
+            // Convert content based on method signature (retry is handled inside)
+            Object convertedContent;
+            try {
+                convertedContent = convertFileContent(env, fileInfo.getPath(), methodType);
+            } catch (Exception exception) {
+                convertedContent = FtpUtil.createError("Failed to fetch file: " + fileInfo.getPath() + " - "
+                        + exception.getMessage(), findRootCause(exception),
+                        FtpUtil.getErrorTypeForException(exception));
+            }
 
-                // Invoke method asynchronously with post-processing
-                invokeContentMethodAsync(service, methodType.getName(), methodArguments,
-                        fileInfo, callerObject, listenerPath, afterProcess, afterError);
+            if (convertedContent instanceof BError bError) {
+                if (FtpUtil.ErrorType.ContentBindingError.errorType().equals(bError.getType().getName())) {
+                    submitted = routeToOnError(service, holder, slot, bError, callerObject, fileInfo,
+                            listenerPath, true);
+                } else {
+                    event.retryFile(fileInfo.getFileName().getURI());
+                    submitted = routeToOnError(service, holder, slot, bError, callerObject, fileInfo,
+                            listenerPath, false);
+                }
+                return;
+            }
 
-            } catch (Exception exception) {
-                FtpUtil.createError("Failed to process file: " + fileInfo.getPath() + " - " + exception.getMessage(),
-                        exception, FtpConstants.FTP_ERROR).printStackTrace();
-                // Continue processing other files even if one fails
+            // Prepare method arguments
+            Object[] methodArguments = prepareContentMethodArguments(methodType, convertedContent,
+                    fileInfo, callerObject);
+
+            // Get post-processing actions
+            Optional<PostProcessAction> afterProcess = holder.getAfterProcessAction(methodType.getName());
+            Optional<PostProcessAction> afterError = holder.getAfterErrorAction(methodType.getName());
+
+            // Invoke method asynchronously with post-processing
+            invokeContentMethodAsync(service, slot, methodType.getName(), methodArguments,
+                    fileInfo, callerObject, listenerPath, afterProcess, afterError);
+            submitted = true;
+        } catch (Exception exception) {
+            FtpUtil.createError("Failed to process file: " + fileInfo.getPath() + " - " + exception.getMessage(),
+                    exception, FtpConstants.FTP_ERROR).printStackTrace();
+        } finally {
+            if (!submitted) {
+                dispatcher.release(slot);
             }
         }
     }
@@ -173,7 +225,7 @@ public class FtpContentCallbackHandler {
             InputStream inputStream = null;
             try {
                 fileObject = fileSystemManager.resolveFile(fileUri, fileSystemOptions);
-                inputStream = fileObject.getContent().getInputStream();
+                inputStream = openContent(fileObject);
                 return switch (methodName) {
                     case ON_FILE_REMOTE_FUNCTION -> ContentByteStreamIteratorUtils.createStream(
                             inputStream, constrainedType, laxDataBinding, fileObject);
@@ -201,7 +253,7 @@ public class FtpContentCallbackHandler {
         InputStream is = null;
         try {
             fo = fileSystemManager.resolveFile(fileUri, fileSystemOptions);
-            is = fo.getContent().getInputStream();
+            is = openContent(fo);
             byte[] fileContent = FtpContentConverter.convertInputStreamToByteArray(is);
             return switch (methodName) {
                 case ON_FILE_REMOTE_FUNCTION -> convertToBallerinaByteArray(fileContent);
@@ -222,6 +274,22 @@ public class FtpContentCallbackHandler {
         }
     }
 
+    /**
+     * Opens the content of a file. When decompression is enabled, compressed content is inflated while it is read.
+     */
+    private InputStream openContent(FileObject fileObject) throws IOException {
+        InputStream inputStream = fileObject.getContent().getInputStream();
+        if (!decompressContent) {
+            return inputStream;
+        }
+        try {
+            return CompressionUtils.decompress(inputStream);
+        } catch (IOException e) {
+            closeQuietly(inputStream, null);
+            throw e;
+        }
+    }
+
     private void closeQuietly(InputStream inputStream, FileObject fileObject) {
         if (inputStream != null) {
             try {
@@ -265,7 +333,7 @@ public class FtpContentCallbackHandler {
         return new Object[]{convertedContent};
     }
 
-    private BMap<BString, Object> createFileInfoRecord(FileInfo fileInfo) {
+    static BMap<BString, Object> createFileInfoRecord(FileInfo fileInfo) {
         Map<String, Object> fileInfoParams = new HashMap<>();
         fileInfoParams.put("path", fileInfo.getPath());
         fileInfoParams.put("size", fileInfo.getFileSize());
@@ -303,34 +371,43 @@ public class FtpContentCallbackHandler {
         );
     }
 
-    private void routeToOnError(BObject service, FormatMethodsHolder holder, BError error, BObject callerObject,
-                                FileInfo fileInfo, String listenerPath) {
+    /**
+     * Submits the onError method of the service for an error of a file.
+     *
+     * @param postProcess whether the post-processing actions of the onError method apply to the file
+     * @return true if the onError method is submitted to the reserved dispatch slot
+     */
+    private boolean routeToOnError(BObject service, FormatMethodsHolder holder, CallbackDispatcher.Slot slot,
+                                   BError error, BObject callerObject, FileInfo fileInfo, String listenerPath,
+                                   boolean postProcess) {
         if (!holder.hasOnErrorMethod()) {
             // No onError handler, error is already logged
             error.printStackTrace();
-            return;
+            return false;
         }
 
         Optional<MethodType> onErrorMethodOpt = holder.getOnErrorMethod();
         if (onErrorMethodOpt.isEmpty()) {
             error.printStackTrace();
-            return;
+            return false;
         }
 
         MethodType onErrorMethod = onErrorMethodOpt.get();
 
         Optional<PostProcessAction> onErrorAfterProcess = holder.getAfterProcessAction(onErrorMethod.getName());
         Optional<PostProcessAction> onErrorAfterError = holder.getAfterErrorAction(onErrorMethod.getName());
-        boolean hasOnErrorActions = onErrorAfterProcess.isPresent() || onErrorAfterError.isPresent();
+        boolean hasOnErrorActions = postProcess
+                && (onErrorAfterProcess.isPresent() || onErrorAfterError.isPresent());
 
         // Prepare arguments for onError method
         Object[] methodArguments = prepareOnErrorMethodArguments(onErrorMethod, error, callerObject);
 
         // Invoke onError asynchronously and apply afterProcess/afterError actions
-        invokeOnErrorMethodAsync(service, onErrorMethod.getName(), methodArguments, fileInfo, callerObject,
+        invokeOnErrorMethodAsync(service, slot, onErrorMethod.getName(), methodArguments, fileInfo, callerObject,
                 listenerPath,
                 hasOnErrorActions ? onErrorAfterProcess : Optional.empty(),
                 hasOnErrorActions ? onErrorAfterError : Optional.empty());
+        return true;
     }
 
     private Object[] prepareOnErrorMethodArguments(MethodType methodType, BError error, BObject callerObject) {
@@ -345,11 +422,11 @@ public class FtpContentCallbackHandler {
         return new Object[]{error};
     }
 
-    private void invokeOnErrorMethodAsync(BObject service, String methodName, Object[] methodArguments,
-                                          FileInfo fileInfo, BObject callerObject, String listenerPath,
-                                          Optional<PostProcessAction> afterProcess,
+    private void invokeOnErrorMethodAsync(BObject service, CallbackDispatcher.Slot slot, String methodName,
+                                          Object[] methodArguments, FileInfo fileInfo, BObject callerObject,
+                                          String listenerPath, Optional<PostProcessAction> afterProcess,
                                           Optional<PostProcessAction> afterError) {
-        Thread.startVirtualThread(() -> {
+        dispatcher.submit(slot, () -> {
             boolean isSuccess = false;
             try {
                 ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
@@ -376,14 +453,15 @@ public class FtpContentCallbackHandler {
                 afterError.ifPresent(action -> executePostProcessAction(action, fileInfo, callerObject,
                         listenerPath, "afterError"));
             }
+            return isSuccess;
         });
     }
 
-    private void invokeContentMethodAsync(BObject service, String methodName, Object[] methodArguments,
-                                          FileInfo fileInfo, BObject callerObject, String listenerPath,
-                                          Optional<PostProcessAction> afterProcess,
+    private void invokeContentMethodAsync(BObject service, CallbackDispatcher.Slot slot, String methodName,
+                                          Object[] methodArguments, FileInfo fileInfo, BObject callerObject,
+                                          String listenerPath, Optional<PostProcessAction> afterProcess,
                                           Optional<PostProcessAction> afterError) {
-        Thread.startVirtualThread(() -> {
+        dispatcher.submit(slot, () -> {
             boolean isSuccess = false;
             try {
                 ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
@@ -418,6 +496,7 @@ public class FtpContentCallbackHandler {
                 afterProcess.ifPresent(action -> executePostProcessAction(action, fileInfo, callerObject,
                         listenerPath, "afterProcess"));
             }
+            return isSuccess;
         });
     }
 
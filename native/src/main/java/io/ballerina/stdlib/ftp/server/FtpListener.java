@@ -44,6 +44,7 @@ import io.ballerina.stdlib.ftp.transport.message.FileInfo;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemBaseMessage;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemEvent;
 import io.ballerina.stdlib.ftp.transport.server.connector.contract.RemoteFileSystemServerConnector;
+import io.ballerina.stdlib.ftp.util.FileOrder;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
 import org.apache.commons.vfs2.FileSystemException;
@@ -53,6 +54,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +63,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.api.types.TypeTags.OBJECT_TYPE_TAG;
 import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
@@ -69,10 +73,12 @@ import static io.ballerina.stdlib.ftp.util.FtpConstants.FTP_WATCHEVENT_DELETED_F
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ON_FILE_CHANGE_REMOTE_FUNCTION;
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ON_FILE_DELETE_REMOTE_FUNCTION;
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ON_FILE_DELETED_REMOTE_FUNCTION;
+import static io.ballerina.stdlib.ftp.util.FtpConstants.ON_FILE_MODIFIED_REMOTE_FUNCTION;
 import static io.ballerina.stdlib.ftp.util.FtpUtil.ErrorType.Error;
 import static io.ballerina.stdlib.ftp.util.FtpUtil.findRootCause;
 import static io.ballerina.stdlib.ftp.util.FtpUtil.getOnFileChangeMethod;
 import static io.ballerina.stdlib.ftp.util.FtpUtil.getOnFileDeletedMethod;
+import static io.ballerina.stdlib.ftp.util.FtpUtil.getOnFileModifiedMethod;
 
 /**
  * FTP File System connector listener for Ballerina.
@@ -91,11 +97,18 @@ public class FtpListener implements RemoteFileSystemListener {
     private boolean laxDataBinding;
     private String legacyListenerPath;
     private BMap<?, ?> csvFailSafe = ValueCreator.createMapValue();
+    private boolean decompressContent;
     private boolean retryEnabled = false;
     private long retryCount = 0;
     private double retryInterval = 0;
     private double retryBackoffFactor = 0;
     private double retryMaxWaitInterval = 0;
+    private int dispatchMaxInFlight = FtpConstants.DEFAULT_DISPATCH_MAX_IN_FLIGHT;
+    private int dispatchQueueCapacity = FtpConstants.DEFAULT_DISPATCH_QUEUE_CAPACITY;
+    private CallbackDispatcher.OverflowPolicy dispatchOverflowPolicy = CallbackDispatcher.OverflowPolicy.BLOCK;
+    private int prefetchWindow = FtpConstants.DEFAULT_DISPATCH_PREFETCH_WINDOW;
+    private FileOrder dispatchOrder;
+    private Pattern dispatchOrderingKey;
 
     FtpListener(Runtime runtime) {
         this.runtime = runtime;
@@ -122,6 +135,10 @@ public class FtpListener implements RemoteFileSystemListener {
         this.csvFailSafe = csvFailSafe;
     }
 
+    public void setDecompressContent(boolean decompressContent) {
+        this.decompressContent = decompressContent;
+    }
+
     public void setRetryConfig(boolean retryEnabled, long retryCount, double retryInterval,
                                double retryBackoffFactor, double retryMaxWaitInterval) {
         this.retryEnabled = retryEnabled;
@@ -131,10 +148,77 @@ public class FtpListener implements RemoteFileSystemListener {
         this.retryMaxWaitInterval = retryMaxWaitInterval;
     }
 
+    public void setDispatchConfig(int maxInFlight, int queueCapacity,
+                                  CallbackDispatcher.OverflowPolicy overflowPolicy, int prefetchWindow) {
+        this.dispatchMaxInFlight = maxInFlight;
+        this.dispatchQueueCapacity = queueCapacity;
+        this.dispatchOverflowPolicy = overflowPolicy;
+        this.prefetchWindow = prefetchWindow;
+    }
+
+    public CallbackDispatcher.OverflowPolicy getDispatchOverflowPolicy() {
+        return dispatchOverflowPolicy;
+    }
+
+    /**
+     * Sets the order in which the files of an event are dispatched, and the pattern that gives the ordering key of
+     * a file.
+     *
+     * @param order       The order of the files, or null to dispatch them in the order of the listing
+     * @param orderingKey The pattern of the ordering key, or null to run the callbacks of all files in parallel
+     */
+    public void setDispatchOrdering(FileOrder order, Pattern orderingKey) {
+        this.dispatchOrder = order;
+        this.dispatchOrderingKey = orderingKey;
+    }
+
+    /**
+     * Creates the dispatcher of the callbacks of a service, with the dispatch configuration of the listener.
+     *
+     * @return The dispatcher
+     */
+    public CallbackDispatcher createCallbackDispatcher() {
+        return new CallbackDispatcher(dispatchMaxInFlight, dispatchQueueCapacity, dispatchOverflowPolicy,
+                dispatchOrderingKey);
+    }
+
+    /**
+     * Creates the prefetcher of the content of the files of a service, with the prefetch window of the listener.
+     *
+     * @return The prefetcher
+     */
+    public ContentPrefetcher createContentPrefetcher() {
+        return new ContentPrefetcher(prefetchWindow);
+    }
+
+    @Override
+    public boolean isReady() {
+        for (ServiceContext context : serviceContexts.values()) {
+            if (!context.getDispatcher().isReady()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the service monitoring a path can take the events of a poll.
+     *
+     * @param path The monitored path
+     * @return false if the dispatch queue of the service is full and its callbacks are deferred
+     */
+    public boolean isReady(String path) {
+        ServiceContext context = pathToServiceContext.get(path);
+        return context == null || context.getDispatcher().isReady();
+    }
+
     @Override
     public boolean onMessage(RemoteFileSystemBaseMessage remoteFileSystemBaseMessage) {
         if (remoteFileSystemBaseMessage instanceof RemoteFileSystemEvent) {
             RemoteFileSystemEvent event = (RemoteFileSystemEvent) remoteFileSystemBaseMessage;
+            if (dispatchOrder != null) {
+                event = sortFiles(event);
+            }
 
             if (runtime != null) {
                 if (usesServiceLevelConfig.get() && event.getSourcePath() != null) {
@@ -159,9 +243,29 @@ public class FtpListener implements RemoteFileSystemListener {
         return true;
     }
 
+    /**
+     * Gives an event that reports the files of an event in the dispatch order. The lists of the event are shared with
+     * the consumer, so the files are sorted in copies. Deleted files only have a path, so they are sorted by name.
+     */
+    private RemoteFileSystemEvent sortFiles(RemoteFileSystemEvent event) {
+        Comparator<FileInfo> order = dispatchOrder.comparator(FileInfo::getLastModifiedTime, FileInfo::getFileSize,
+                FileInfo::getPath);
+        List<FileInfo> addedFiles = new ArrayList<>(event.getAddedFiles());
+        addedFiles.sort(order);
+        List<FileInfo> modifiedFiles = new ArrayList<>(event.getModifiedFiles());
+        modifiedFiles.sort(order);
+        List<String> deletedFiles = event.getDeletedFiles();
+        if (dispatchOrder == FileOrder.BY_NAME) {
+            deletedFiles = new ArrayList<>(deletedFiles);
+            deletedFiles.sort(Comparator.naturalOrder());
+        }
+        return event.derive(addedFiles, modifiedFiles, deletedFiles);
+    }
+
     private void dispatchFileEventToService(Environment env, ServiceContext context, RemoteFileSystemEvent event) {
         BObject service = context.getService();
         BObject caller = context.getCaller();
+        CallbackDispatcher dispatcher = context.getDispatcher();
         FormatMethodsHolder formatMethodHolder = context.getFormatMethodsHolder();
         if (formatMethodHolder == null) {
             try {
@@ -175,17 +279,60 @@ public class FtpListener implements RemoteFileSystemListener {
         }
         Optional<MethodType> onFileDeletedMethodType = getOnFileDeletedMethod(service);
 
+        // Modified files go to onFileModified when the service has it, and are otherwise handled as added files
+        Optional<MethodType> onFileModifiedMethodType = getOnFileModifiedMethod(service);
+        RemoteFileSystemEvent fileEvent = event;
+        if (onFileModifiedMethodType.isPresent()) {
+            if (!event.getModifiedFiles().isEmpty()) {
+                processModificationCallback(dispatcher, service, event, onFileModifiedMethodType.get(), caller);
+            }
+        } else if (!event.getModifiedFiles().isEmpty()) {
+            fileEvent = mergeModifiedIntoAdded(event);
+        }
+
         // Dispatch Strategy: Check handler availability in order
         if (formatMethodHolder.hasContentMethods()) {
-            processContentBasedCallbacks(env, service, event, formatMethodHolder, caller);
+            processContentBasedCallbacks(env, context, fileEvent, formatMethodHolder);
         } else if (onFileDeletedMethodType.isPresent()) {
-            if (!event.getDeletedFiles().isEmpty()) {
-                processDeletionCallback(service, event, onFileDeletedMethodType.get(), caller);
+            if (!fileEvent.getDeletedFiles().isEmpty()) {
+                processDeletionCallback(dispatcher, service, fileEvent, onFileDeletedMethodType.get(), caller);
             }
         } else {
             // Strategy 3: Fall back to legacy onFileChange handler
             Optional<MethodType> onFileChangeMethodType = getOnFileChangeMethod(service);
-            processMetadataOnlyCallbacks(service, event, onFileChangeMethodType.get(), caller);
+            if (onFileChangeMethodType.isPresent()) {
+                processMetadataOnlyCallbacks(dispatcher, service, fileEvent, onFileChangeMethodType.get(), caller);
+            }
+        }
+    }
+
+    /**
+     * Gives an event that reports the modified files as added files, for services that do not have onFileModified.
+     */
+    private RemoteFileSystemEvent mergeModifiedIntoAdded(RemoteFileSystemEvent event) {
+        List<FileInfo> addedFiles = new ArrayList<>(event.getAddedFiles());
+        addedFiles.addAll(event.getModifiedFiles());
+        if (dispatchOrder != null) {
+            addedFiles.sort(dispatchOrder.comparator(FileInfo::getLastModifiedTime, FileInfo::getFileSize,
+                    FileInfo::getPath));
+        }
+        return event.derive(addedFiles, Collections.emptyList(), event.getDeletedFiles());
+    }
+
+    /**
+     * Processes file modification callback for onFileModified method.
+     * Calls the method once per modified file with the file metadata.
+     */
+    private void processModificationCallback(CallbackDispatcher dispatcher, BObject service,
+                                             RemoteFileSystemEvent event, MethodType methodType, BObject caller) {
+        Parameter[] params = methodType.getParameters();
+        for (FileInfo modifiedFile : event.getModifiedFiles()) {
+            BMap<BString, Object> fileInfo = FtpContentCallbackHandler.createFileInfoRecord(modifiedFile);
+            Object[] args = getOnFileModifiedMethodArguments(params, fileInfo, caller);
+            if (args != null) {
+                dispatcher.dispatch(event, List.of(modifiedFile.getFileName().getURI()),
+                        () -> invokeOnFileModified(service, args));
+            }
         }
     }
 
@@ -194,8 +341,11 @@ public class FtpListener implements RemoteFileSystemListener {
      * Uses ContentMethodRouter to dispatch files to appropriate handlers.
      * Also handles file deletion events via onFileDeleted method if available.
      */
-    private void processContentBasedCallbacks(Environment env, BObject service, RemoteFileSystemEvent event,
-                                              FormatMethodsHolder holder, BObject caller) {
+    private void processContentBasedCallbacks(Environment env, ServiceContext context, RemoteFileSystemEvent event,
+                                              FormatMethodsHolder holder) {
+        BObject service = context.getService();
+        BObject caller = context.getCaller();
+        CallbackDispatcher dispatcher = context.getDispatcher();
         // Process added files with content methods
         if (!event.getAddedFiles().isEmpty()) {
             if (fileSystemManager == null || fileSystemOptions == null) {
@@ -204,8 +354,9 @@ public class FtpListener implements RemoteFileSystemListener {
             } else {
                 try {
                     FtpContentCallbackHandler contentHandler = new FtpContentCallbackHandler(
-                            runtime, fileSystemManager, fileSystemOptions, laxDataBinding, csvFailSafe,
-                            retryEnabled, retryCount, retryInterval, retryBackoffFactor, retryMaxWaitInterval);
+                            runtime, dispatcher, context.getPrefetcher(), fileSystemManager, fileSystemOptions,
+                            laxDataBinding, csvFailSafe, decompressContent, retryEnabled, retryCount, retryInterval,
+                            retryBackoffFactor, retryMaxWaitInterval);
                     contentHandler.processContentCallbacks(env, service, event, holder, caller);
                 } catch (Exception e) {
                     FtpUtil.createError("Error in content callback processing for added files: " + e.getMessage(),
@@ -218,7 +369,7 @@ public class FtpListener implements RemoteFileSystemListener {
         if (!event.getDeletedFiles().isEmpty()) {
             Optional<MethodType> onFileDeletedMethodType = getOnFileDeletedMethod(service);
             if (onFileDeletedMethodType.isPresent()) {
-                processDeletionCallback(service, event, onFileDeletedMethodType.get(), caller);
+                processDeletionCallback(dispatcher, service, event, onFileDeletedMethodType.get(), caller);
             } else {
                 log.debug("No onFileDeleted method found. Skipping deletion event processing for {} deleted files.",
                         event.getDeletedFiles().size());
@@ -226,8 +377,8 @@ public class FtpListener implements RemoteFileSystemListener {
         }
     }
 
-    private void processDeletionCallback(BObject service, RemoteFileSystemEvent event,
-                                        MethodType methodType, BObject caller) {
+    private void processDeletionCallback(CallbackDispatcher dispatcher, BObject service,
+                                         RemoteFileSystemEvent event, MethodType methodType, BObject caller) {
         Parameter[] params = methodType.getParameters();
 
         // Check first parameter type to determine method variant
@@ -236,10 +387,10 @@ public class FtpListener implements RemoteFileSystemListener {
 
         if (isArrayType) {
             // onFileDeleted(string[] deletedFiles) - call once with all files
-            processFileDeletedCallback(service, event, methodType, caller);
+            processFileDeletedCallback(dispatcher, service, event, methodType, caller);
         } else {
             // onFileDelete(string deletedFile) - call once per file
-            processFileDeleteCallback(service, event, methodType, caller);
+            processFileDeleteCallback(dispatcher, service, event, methodType, caller);
         }
     }
 
@@ -247,8 +398,8 @@ public class FtpListener implements RemoteFileSystemListener {
      * Processes file deletion callback for onFileDelete method.
      * Calls the method once per deleted file with a single string parameter.
      */
-    private void processFileDeleteCallback(BObject service, RemoteFileSystemEvent event,
-                                          MethodType methodType, BObject caller) {
+    private void processFileDeleteCallback(CallbackDispatcher dispatcher, BObject service,
+                                           RemoteFileSystemEvent event, MethodType methodType, BObject caller) {
         List<String> deletedFilesList = event.getDeletedFiles();
         Parameter[] params = methodType.getParameters();
 
@@ -257,7 +408,7 @@ public class FtpListener implements RemoteFileSystemListener {
             BString deletedFileBString = StringUtils.fromString(deletedFile);
             Object[] args = getOnFileDeleteMethodArguments(params, deletedFileBString, caller);
             if (args != null) {
-                invokeOnFileDeleteAsync(service, args);
+                dispatcher.dispatch(event, List.of(deletedFile), () -> invokeOnFileDelete(service, args));
             }
         }
     }
@@ -265,8 +416,8 @@ public class FtpListener implements RemoteFileSystemListener {
     /**
      * Processes file deletion callback for onFileDeleted method (deprecated).
      */
-    private void processFileDeletedCallback(BObject service, RemoteFileSystemEvent event,
-                                           MethodType methodType, BObject caller) {
+    private void processFileDeletedCallback(CallbackDispatcher dispatcher, BObject service,
+                                            RemoteFileSystemEvent event, MethodType methodType, BObject caller) {
         List<String> deletedFilesList = event.getDeletedFiles();
         BString[] deletedFilesBStringArray = new BString[deletedFilesList.size()];
         for (int i = 0; i < deletedFilesList.size(); i++) {
@@ -279,20 +430,25 @@ public class FtpListener implements RemoteFileSystemListener {
         Parameter[] params = methodType.getParameters();
         Object[] args = getOnFileDeletedMethodArguments(params, deletedFilesArray, caller);
         if (args != null) {
-            invokeOnFileDeletedAsync(service, args);
+            dispatcher.dispatch(event, deletedFilesList, () -> invokeOnFileDeleted(service, args));
         }
     }
 
     /**
      * Processes metadata-only callbacks for the traditional onFileChange method.
      */
-    private void processMetadataOnlyCallbacks(BObject service, RemoteFileSystemEvent event,
-                                              MethodType methodType, BObject caller) {
+    private void processMetadataOnlyCallbacks(CallbackDispatcher dispatcher, BObject service,
+                                              RemoteFileSystemEvent event, MethodType methodType, BObject caller) {
         Map<String, Object> watchEventParamValues = processWatchEventParamValues(event);
         Parameter[] params = methodType.getParameters();
         Object[] args = getMethodArguments(params, watchEventParamValues, caller);
         if (args != null) {
-            invokeMethodAsync(service, args);
+            List<String> files = new ArrayList<>(event.getAddedFiles().size() + event.getDeletedFiles().size());
+            for (FileInfo addedFile : event.getAddedFiles()) {
+                files.add(addedFile.getFileName().getURI());
+            }
+            files.addAll(event.getDeletedFiles());
+            dispatcher.dispatch(event, files, () -> invokeMethod(service, args));
         }
     }
 
@@ -334,56 +490,88 @@ public class FtpListener implements RemoteFileSystemListener {
         return null;
     }
 
-    private void invokeOnFileDeleteAsync(BObject service, Object ...args) {
-        Thread.startVirtualThread(() -> {
-            try {
-                ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-                boolean isConcurrentSafe = serviceType.isIsolated() &&
-                        serviceType.isIsolated(ON_FILE_DELETE_REMOTE_FUNCTION);
-                StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
-                Object result = runtime.callMethod(service, ON_FILE_DELETE_REMOTE_FUNCTION, strandMetadata, args);
-                if (result instanceof BError) {
-                    ((BError) result).printStackTrace();
-                }
-            } catch (BError error) {
-                error.printStackTrace();
+    private Object[] getOnFileModifiedMethodArguments(Parameter[] params, BMap<BString, Object> fileInfo,
+                                                      BObject caller) {
+        if (params.length == 1) {
+            // Only fileInfo parameter
+            return new Object[] {fileInfo};
+        } else if (params.length == 2) {
+            // fileInfo and caller parameters
+            return new Object[] {fileInfo, caller};
+        }
+        return null;
+    }
+
+    private boolean invokeOnFileModified(BObject service, Object ...args) {
+        try {
+            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+            boolean isConcurrentSafe = serviceType.isIsolated() &&
+                    serviceType.isIsolated(ON_FILE_MODIFIED_REMOTE_FUNCTION);
+            StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
+            Object result = runtime.callMethod(service, ON_FILE_MODIFIED_REMOTE_FUNCTION, strandMetadata, args);
+            if (result instanceof BError) {
+                ((BError) result).printStackTrace();
+                return false;
             }
-        });
+            return true;
+        } catch (BError error) {
+            error.printStackTrace();
+            return false;
+        }
     }
 
-    private void invokeOnFileDeletedAsync(BObject service, Object ...args) {
-        Thread.startVirtualThread(() -> {
-            try {
-                ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-                boolean isConcurrentSafe = serviceType.isIsolated() &&
-                        serviceType.isIsolated(ON_FILE_DELETED_REMOTE_FUNCTION);
-                StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
-                Object result = runtime.callMethod(service, ON_FILE_DELETED_REMOTE_FUNCTION, strandMetadata, args);
-                if (result instanceof BError) {
-                    ((BError) result).printStackTrace();
-                }
-            } catch (BError error) {
-                error.printStackTrace();
+    private boolean invokeOnFileDelete(BObject service, Object ...args) {
+        try {
+            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+            boolean isConcurrentSafe = serviceType.isIsolated() &&
+                    serviceType.isIsolated(ON_FILE_DELETE_REMOTE_FUNCTION);
+            StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
+            Object result = runtime.callMethod(service, ON_FILE_DELETE_REMOTE_FUNCTION, strandMetadata, args);
+            if (result instanceof BError) {
+                ((BError) result).printStackTrace();
+                return false;
             }
-        });
+            return true;
+        } catch (BError error) {
+            error.printStackTrace();
+            return false;
+        }
     }
 
-    private void invokeMethodAsync(BObject service, Object ...args) {
-        Thread.startVirtualThread(() -> {
-            try {
-                ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-                boolean isConcurrentSafe = serviceType.isIsolated() &&
-                        serviceType.isIsolated(ON_FILE_CHANGE_REMOTE_FUNCTION);
-                StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
-                Object result = runtime.callMethod(service, ON_FILE_CHANGE_REMOTE_FUNCTION, strandMetadata, args);
-                if (result instanceof BError) {
-                    ((BError) result).printStackTrace();
-                }
-            } catch (BError error) {
-                error.printStackTrace();
+    private boolean invokeOnFileDeleted(BObject service, Object ...args) {
+        try {
+            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+            boolean isConcurrentSafe = serviceType.isIsolated() &&
+                    serviceType.isIsolated(ON_FILE_DELETED_REMOTE_FUNCTION);
+            StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
+            Object result = runtime.callMethod(service, ON_FILE_DELETED_REMOTE_FUNCTION, strandMetadata, args);
+            if (result instanceof BError) {
+                ((BError) result).printStackTrace();
+                return false;
             }
-        });
+            return true;
+        } catch (BError error) {
+            error.printStackTrace();
+            return false;
+        }
+    }
 
+    private boolean invokeMethod(BObject service, Object ...args) {
+        try {
+            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+            boolean isConcurrentSafe = serviceType.isIsolated() &&
+                    serviceType.isIsolated(ON_FILE_CHANGE_REMOTE_FUNCTION);
+            StrandMetadata strandMetadata = new StrandMetadata(isConcurrentSafe, null);
+            Object result = runtime.callMethod(service, ON_FILE_CHANGE_REMOTE_FUNCTION, strandMetadata, args);
+            if (result instanceof BError) {
+                ((BError) result).printStackTrace();
+                return false;
+            }
+            return true;
+        } catch (BError error) {
+            error.printStackTrace();
+            return false;
+        }
     }
 
     private BMap<BString, Object> getWatchEvent(Parameter parameter, Map<String, Object> parameters) {
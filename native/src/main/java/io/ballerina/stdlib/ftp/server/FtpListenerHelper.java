@@ -39,20 +39,30 @@ import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
 import io.ballerina.stdlib.ftp.transport.RemoteFileSystemConnectorFactory;
 import io.ballerina.stdlib.ftp.transport.impl.RemoteFileSystemConnectorFactoryImpl;
 import io.ballerina.stdlib.ftp.transport.server.FileDependencyCondition;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.JdbcProcessedFileStore;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.LocalProcessedFileStore;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.ProcessedFileStore;
 import io.ballerina.stdlib.ftp.transport.server.connector.contract.RemoteFileSystemServerConnector;
 import io.ballerina.stdlib.ftp.transport.server.connector.contractimpl.MultiPathServerConnector;
 import io.ballerina.stdlib.ftp.transport.server.connector.contractimpl.RemoteFileSystemServerConnectorImpl;
+import io.ballerina.stdlib.ftp.transport.server.coordination.JdbcPartitionMembership;
+import io.ballerina.stdlib.ftp.transport.server.coordination.PartitionMembership;
+import io.ballerina.stdlib.ftp.util.FileOrder;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
 import io.ballerina.stdlib.ftp.util.FtpUtil;
 import io.ballerina.stdlib.ftp.util.ModuleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ENDPOINT_CONFIG_PREFERRED_METHODS;
 import static io.ballerina.stdlib.ftp.util.FtpConstants.FTP_CALLER;
@@ -99,6 +109,7 @@ public class FtpListenerHelper {
      * @param serviceEndpointConfig FTP server endpoint configuration
      */
     public static Object init(Environment env, BObject ftpListener, BMap<BString, Object> serviceEndpointConfig) {
+        boolean initialized = false;
         try {
             Map<String, Object> paramMap = getServerConnectorParamMap(serviceEndpointConfig);
             final FtpListener listener = new FtpListener(env);
@@ -110,6 +121,9 @@ public class FtpListenerHelper {
             BMap<?, ?> csvFailSafe = serviceEndpointConfig.getMapValue(CSV_FAIL_SAFE);
             listener.setCsvFailSafeConfigs(csvFailSafe);
 
+            listener.setDecompressContent(serviceEndpointConfig.getBooleanValue(
+                    StringUtils.fromString(FtpConstants.DECOMPRESS_CONTENT)));
+
             // Extract retry config if present
             BMap<?, ?> retryConfig = serviceEndpointConfig.getMapValue(
                     StringUtils.fromString(FtpConstants.RETRY_CONFIG));
@@ -128,11 +142,51 @@ public class FtpListenerHelper {
                 listener.setRetryConfig(true, count, interval, backOffFactor, maxWaitInterval);
             }
 
+            long maxConcurrentPolls = serviceEndpointConfig.getIntValue(
+                    StringUtils.fromString(FtpConstants.MAX_CONCURRENT_POLLS));
+            if (maxConcurrentPolls <= 0) {
+                return FtpUtil.createError("maxConcurrentPolls must be greater than 0", null,
+                        InvalidConfigError.errorType());
+            }
+            paramMap.put(FtpConstants.MAX_CONCURRENT_POLLS, (int) Math.min(maxConcurrentPolls, Integer.MAX_VALUE));
+            configureDispatch(serviceEndpointConfig, listener);
+
+            BMap<?, ?> checkpoint = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.CHECKPOINT));
+            BMap<?, ?> coordination = serviceEndpointConfig.getMapValue(
+                    StringUtils.fromString(FtpConstants.COORDINATION));
+            boolean partitioned = coordination != null && FtpConstants.COORDINATION_MODE_PARTITIONED.equals(
+                    coordination.getStringValue(StringUtils.fromString(FtpConstants.COORDINATION_MODE)).getValue());
+            if (partitioned) {
+                validatePartitionedCoordination(coordination, checkpoint);
+            }
+            if (checkpoint != null) {
+                ProcessedFileStore processedFileStore = createProcessedFileStore(checkpoint, serviceEndpointConfig);
+                ftpListener.addNativeData(FtpConstants.PROCESSED_FILE_STORE, processedFileStore);
+                paramMap.put(FtpConstants.PROCESSED_FILE_STORE, processedFileStore);
+                paramMap.put(FtpConstants.CHECKPOINT_NAME,
+                        checkpoint.getStringValue(StringUtils.fromString(FtpConstants.CHECKPOINT_NAME)).getValue());
+                // A member that has not polled for two intervals may have been on standby, so it reloads the state
+                BDecimal pollingInterval = (BDecimal) serviceEndpointConfig.get(
+                        StringUtils.fromString(FtpConstants.ENDPOINT_CONFIG_POLLING_INTERVAL));
+                long reloadInterval = (long) (pollingInterval.floatValue() * 2000);
+                if (paramMap.get(FtpConstants.ADAPTIVE_POLLING_MAX_INTERVAL) instanceof Long maxInterval) {
+                    // An idle path may not be polled for up to the longest interval while the member stays active
+                    reloadInterval = Math.max(reloadInterval, maxInterval * 2);
+                }
+                paramMap.put(FtpConstants.CHECKPOINT_RELOAD_INTERVAL, reloadInterval);
+            }
+            if (partitioned) {
+                PartitionMembership partitionMembership = createPartitionMembership(coordination);
+                paramMap.put(FtpConstants.PARTITION_MEMBERSHIP, partitionMembership);
+                ftpListener.addNativeData(FtpConstants.PARTITION_MEMBERSHIP, partitionMembership);
+            }
+
             // Store all necessary data for connector creation during first service registration
             ftpListener.addNativeData(BASE_PARAMS_KEY, paramMap);
             ftpListener.addNativeData(FTP_LISTENER_KEY, listener);
             ftpListener.addNativeData(FTP_SERVICE_ENDPOINT_CONFIG, serviceEndpointConfig);
             // No connector created yet - deferred to register()
+            initialized = true;
             return null;
         } catch (FtpInvalidConfigException e) {
             return FtpUtil.createError(e.getMessage(), findRootCause(e), InvalidConfigError.errorType());
@@ -140,7 +194,32 @@ public class FtpListenerHelper {
             return FtpUtil.createError(e.getMessage(), findRootCause(e), Error.errorType());
         } catch (BError e) {
             return e;
+        } finally {
+            if (!initialized) {
+                // The listener is not created, so the resources of the steps that succeeded are released
+                leaveCoordinationGroup(ftpListener);
+                closeProcessedFileStore(ftpListener);
+            }
+        }
+    }
+
+    /**
+     * Joins the coordination group of a listener that shares the files of the monitored directories with the other
+     * members, before the listener starts polling. The listener leaves the group when it stops.
+     *
+     * @param ftpListener The listener
+     * @return null on success, or a BError
+     */
+    public static Object joinCoordinationGroup(BObject ftpListener) {
+        if (ftpListener.getNativeData(FtpConstants.PARTITION_MEMBERSHIP) instanceof PartitionMembership membership) {
+            try {
+                membership.start();
+            } catch (IOException e) {
+                return FtpUtil.createError("Failed to join the coordination group: " + e.getMessage(),
+                        findRootCause(e), Error.errorType());
+            }
         }
+        return null;
     }
 
     public static Object register(BObject ftpListener, BObject service) {
@@ -219,6 +298,13 @@ public class FtpListenerHelper {
                           "service uses it. The new service is missing the annotation.";
                 return FtpUtil.createError(errorMsg, null, InvalidConfigError.errorType());
             }
+            // Services without @ftp:ServiceConfig share the events of the listener path, so a deferral by one
+            // service would report the files again to all of them
+            if (!currentUsesConfig && listener.getDispatchOverflowPolicy() == CallbackDispatcher.OverflowPolicy.DEFER) {
+                return FtpUtil.createError("The DEFER dispatch overflow policy supports only one service per " +
+                        "monitored path. Attach the services with @ftp:ServiceConfig annotations on distinct paths, " +
+                        "or use the BLOCK or DROP policy.", null, InvalidConfigError.errorType());
+            }
 
             // If service has @ftp:ServiceConfig, add its configuration and path consumer
             if (serviceConfigAnnotation.isPresent()) {
@@ -297,12 +383,19 @@ public class FtpListenerHelper {
             }
         }
 
+        // Also check for onFileModified method that might need caller
+        Optional<MethodType> onFileModifiedMethod = FtpUtil.getOnFileModifiedMethod(service);
+        if (onFileModifiedMethod.isPresent() && onFileModifiedMethod.get().getParameters().length >= 2) {
+            needsCaller = true;
+        }
+
         // Post-processing actions require a caller even if the handler doesn't accept one
         if (!needsCaller && formatMethodsHolder.hasPostProcessingActions()) {
             needsCaller = true;
         }
 
-        ServiceContext context = new ServiceContext(service, serviceConfiguration, formatMethodsHolder, null);
+        ServiceContext context = new ServiceContext(service, serviceConfiguration, formatMethodsHolder, null,
+                listener.createCallbackDispatcher(), listener.createContentPrefetcher());
         if (!listener.addServiceContext(context)) {
             if (serviceConfiguration != null) {
                 return FtpUtil.createError(
@@ -597,6 +690,10 @@ public class FtpListenerHelper {
         configureServerAuthentication(serviceEndpointConfig, protocol, params);
         applyDefaultServerParams(serviceEndpointConfig, params);
         addFileAgeFilterParams(serviceEndpointConfig, params);
+        addDirectoryScanParams(serviceEndpointConfig, params);
+        addStabilityParams(serviceEndpointConfig, params);
+        addAdaptivePollingParams(serviceEndpointConfig, params);
+        addPollBatchParams(serviceEndpointConfig, params);
         extractServerVfsConfigurations(serviceEndpointConfig, params);
         
         return params;
@@ -751,6 +848,237 @@ public class FtpListenerHelper {
         }
     }
 
+    private static void addDirectoryScanParams(BMap serviceEndpointConfig, Map<String, Object> params)
+            throws FtpInvalidConfigException {
+        BMap directoryScan = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.DIRECTORY_SCAN));
+        if (directoryScan == null) {
+            return;
+        }
+        long maxDepth = directoryScan.getIntValue(StringUtils.fromString(FtpConstants.DIRECTORY_SCAN_MAX_DEPTH));
+        if (maxDepth < -1) {
+            throw new FtpInvalidConfigException("directoryScan.maxDepth must be -1 or greater");
+        }
+        long parallelism = directoryScan.getIntValue(
+                StringUtils.fromString(FtpConstants.DIRECTORY_SCAN_PARALLELISM));
+        if (parallelism <= 0) {
+            throw new FtpInvalidConfigException("directoryScan.parallelism must be greater than 0");
+        }
+        BArray excludedArray = directoryScan.getArrayValue(
+                StringUtils.fromString(FtpConstants.DIRECTORY_SCAN_EXCLUDED_DIRECTORIES));
+        List<String> excludedDirectories = new ArrayList<>();
+        for (int i = 0; i < excludedArray.size(); i++) {
+            String excludedPattern = ((BString) excludedArray.get(i)).getValue();
+            FtpUtil.validateRegexPattern(excludedPattern, "directoryScan.excludedDirectories[" + i + "]");
+            excludedDirectories.add(excludedPattern);
+        }
+        params.put(FtpConstants.DIRECTORY_SCAN_MAX_DEPTH, (int) Math.min(maxDepth, Integer.MAX_VALUE));
+        params.put(FtpConstants.DIRECTORY_SCAN_PARALLELISM, (int) Math.min(parallelism, Integer.MAX_VALUE));
+        params.put(FtpConstants.DIRECTORY_SCAN_EXCLUDED_DIRECTORIES, excludedDirectories);
+    }
+
+    private static void addStabilityParams(BMap serviceEndpointConfig, Map<String, Object> params)
+            throws FtpInvalidConfigException {
+        BMap stability = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.STABILITY));
+        if (stability == null) {
+            return;
+        }
+        long observations = stability.getIntValue(StringUtils.fromString(FtpConstants.STABILITY_OBSERVATIONS));
+        if (observations <= 0) {
+            throw new FtpInvalidConfigException("stability.observations must be greater than 0");
+        }
+        params.put(FtpConstants.STABILITY_OBSERVATIONS, (int) Math.min(observations, Integer.MAX_VALUE));
+        Object quietPeriod = stability.get(StringUtils.fromString(FtpConstants.STABILITY_QUIET_PERIOD));
+        if (quietPeriod != null) {
+            double quietPeriodSeconds = ((BDecimal) quietPeriod).floatValue();
+            if (quietPeriodSeconds < 0) {
+                throw new FtpInvalidConfigException("stability.quietPeriod must be 0 or greater");
+            }
+            params.put(FtpConstants.STABILITY_QUIET_PERIOD, (long) (quietPeriodSeconds * 1000));
+        }
+    }
+
+    private static void addAdaptivePollingParams(BMap serviceEndpointConfig, Map<String, Object> params)
+            throws FtpInvalidConfigException {
+        BMap adaptivePolling = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.ADAPTIVE_POLLING));
+        if (adaptivePolling == null) {
+            return;
+        }
+        double minInterval = ((BDecimal) adaptivePolling.get(
+                StringUtils.fromString(FtpConstants.ADAPTIVE_POLLING_MIN_INTERVAL))).floatValue();
+        if (minInterval <= 0) {
+            throw new FtpInvalidConfigException("adaptivePolling.minInterval must be greater than 0");
+        }
+        double maxInterval = ((BDecimal) adaptivePolling.get(
+                StringUtils.fromString(FtpConstants.ADAPTIVE_POLLING_MAX_INTERVAL))).floatValue();
+        if (maxInterval < minInterval) {
+            throw new FtpInvalidConfigException("adaptivePolling.maxInterval must not be less than minInterval");
+        }
+        double backOffFactor = ((BDecimal) adaptivePolling.get(
+                StringUtils.fromString(FtpConstants.ADAPTIVE_POLLING_BACKOFF_FACTOR))).floatValue();
+        if (backOffFactor < 1) {
+            throw new FtpInvalidConfigException("adaptivePolling.backOffFactor must be 1 or greater");
+        }
+        double jitter = ((BDecimal) adaptivePolling.get(
+                StringUtils.fromString(FtpConstants.ADAPTIVE_POLLING_JITTER))).floatValue();
+        if (jitter < 0 || jitter > 1) {
+            throw new FtpInvalidConfigException("adaptivePolling.jitter must be between 0 and 1");
+        }
+        double pollingInterval = ((BDecimal) serviceEndpointConfig.get(
+                StringUtils.fromString(FtpConstants.ENDPOINT_CONFIG_POLLING_INTERVAL))).floatValue();
+        params.put(FtpConstants.ADAPTIVE_POLLING_MIN_INTERVAL, (long) (minInterval * 1000));
+        params.put(FtpConstants.ADAPTIVE_POLLING_MAX_INTERVAL, (long) (maxInterval * 1000));
+        params.put(FtpConstants.ADAPTIVE_POLLING_BACKOFF_FACTOR, backOffFactor);
+        params.put(FtpConstants.ADAPTIVE_POLLING_JITTER, jitter);
+        params.put(FtpConstants.ADAPTIVE_POLLING_INITIAL_INTERVAL, (long) (pollingInterval * 1000));
+    }
+
+    private static void addPollBatchParams(BMap serviceEndpointConfig, Map<String, Object> params)
+            throws FtpInvalidConfigException {
+        BMap pollBatch = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.POLL_BATCH));
+        if (pollBatch == null) {
+            return;
+        }
+        long maxFilesPerPoll = pollBatch.getIntValue(StringUtils.fromString(FtpConstants.POLL_BATCH_MAX_FILES));
+        if (maxFilesPerPoll <= 0) {
+            throw new FtpInvalidConfigException("pollBatch.maxFilesPerPoll must be greater than 0");
+        }
+        params.put(FtpConstants.POLL_BATCH_MAX_FILES, (int) Math.min(maxFilesPerPoll, Integer.MAX_VALUE));
+        params.put(FtpConstants.POLL_BATCH_ORDER,
+                pollBatch.getStringValue(StringUtils.fromString(FtpConstants.POLL_BATCH_ORDER)).getValue());
+    }
+
+    private static void configureDispatch(BMap<BString, Object> serviceEndpointConfig, FtpListener listener)
+            throws FtpInvalidConfigException {
+        BMap<?, ?> dispatch = serviceEndpointConfig.getMapValue(StringUtils.fromString(FtpConstants.DISPATCH));
+        if (dispatch == null) {
+            return;
+        }
+        long maxInFlight = dispatch.getIntValue(StringUtils.fromString(FtpConstants.DISPATCH_MAX_IN_FLIGHT));
+        if (maxInFlight <= 0) {
+            throw new FtpInvalidConfigException("dispatch.maxInFlight must be greater than 0");
+        }
+        long queueCapacity = dispatch.getIntValue(StringUtils.fromString(FtpConstants.DISPATCH_QUEUE_CAPACITY));
+        if (queueCapacity < 0) {
+            throw new FtpInvalidConfigException("dispatch.queueCapacity must be 0 or greater");
+        }
+        String overflowPolicy = dispatch.getStringValue(
+                StringUtils.fromString(FtpConstants.DISPATCH_OVERFLOW_POLICY)).getValue();
+        long prefetchWindow = dispatch.getIntValue(StringUtils.fromString(FtpConstants.DISPATCH_PREFETCH_WINDOW));
+        if (prefetchWindow <= 0) {
+            throw new FtpInvalidConfigException("dispatch.prefetchWindow must be greater than 0");
+        }
+        listener.setDispatchConfig((int) Math.min(maxInFlight, Integer.MAX_VALUE),
+                (int) Math.min(queueCapacity, Integer.MAX_VALUE),
+                CallbackDispatcher.OverflowPolicy.valueOf(overflowPolicy),
+                (int) Math.min(prefetchWindow, Integer.MAX_VALUE));
+        BString order = dispatch.getStringValue(StringUtils.fromString(FtpConstants.DISPATCH_ORDER));
+        BString orderingKey = dispatch.getStringValue(StringUtils.fromString(FtpConstants.DISPATCH_ORDERING_KEY));
+        Pattern orderingKeyPattern = null;
+        if (orderingKey != null) {
+            if (orderingKey.getValue().isEmpty()) {
+                throw new FtpInvalidConfigException("dispatch.orderingKey must not be empty");
+            }
+            FtpUtil.validateRegexPattern(orderingKey.getValue(), "dispatch.orderingKey");
+            orderingKeyPattern = Pattern.compile(orderingKey.getValue());
+        }
+        listener.setDispatchOrdering(order != null ? FileOrder.fromValue(order.getValue()) : null,
+                orderingKeyPattern);
+    }
+
+    /**
+     * Validates a coordination group whose members share the files. The checkpoints must be in the coordination
+     * database, so that a member that takes over files from another member does not report them again.
+     */
+    private static void validatePartitionedCoordination(BMap<?, ?> coordination, BMap<?, ?> checkpoint)
+            throws FtpInvalidConfigException {
+        if (checkpoint == null || !FtpConstants.CHECKPOINT_STORE_DATABASE.equals(
+                checkpoint.getStringValue(StringUtils.fromString(FtpConstants.CHECKPOINT_STORE)).getValue())) {
+            throw new FtpInvalidConfigException("coordination.mode PARTITIONED requires a checkpoint with the "
+                    + "DATABASE store");
+        }
+        if (coordination.getStringValue(StringUtils.fromString(FtpConstants.COORDINATION_MEMBER_ID)).getValue()
+                .isEmpty()) {
+            throw new FtpInvalidConfigException("coordination.memberId must not be empty");
+        }
+        long heartbeatFrequency = coordination.getIntValue(
+                StringUtils.fromString(FtpConstants.COORDINATION_HEARTBEAT_FREQUENCY));
+        if (heartbeatFrequency <= 0) {
+            throw new FtpInvalidConfigException("coordination.heartbeatFrequency must be greater than 0");
+        }
+        if (coordination.getIntValue(StringUtils.fromString(FtpConstants.COORDINATION_LIVENESS_CHECK_INTERVAL))
+                <= heartbeatFrequency) {
+            throw new FtpInvalidConfigException("coordination.livenessCheckInterval must be greater than "
+                    + "coordination.heartbeatFrequency");
+        }
+    }
+
+    private static PartitionMembership createPartitionMembership(BMap<?, ?> coordination) {
+        BMap<?, ?> databaseConfig = coordination.getMapValue(
+                StringUtils.fromString(FtpConstants.COORDINATION_DATABASE_CONFIG));
+        JdbcProcessedFileStore.Dialect dialect = getDialect(databaseConfig);
+        return new JdbcPartitionMembership(dialect, getDatabaseUrl(dialect, databaseConfig),
+                getDatabaseString(databaseConfig, FtpConstants.DATABASE_USER),
+                getDatabaseString(databaseConfig, FtpConstants.DATABASE_PASSWORD),
+                coordination.getStringValue(StringUtils.fromString(FtpConstants.COORDINATION_GROUP)).getValue(),
+                coordination.getStringValue(StringUtils.fromString(FtpConstants.COORDINATION_MEMBER_ID)).getValue(),
+                coordination.getIntValue(StringUtils.fromString(FtpConstants.COORDINATION_HEARTBEAT_FREQUENCY))
+                        * 1000,
+                coordination.getIntValue(StringUtils.fromString(FtpConstants.COORDINATION_LIVENESS_CHECK_INTERVAL))
+                        * 1000);
+    }
+
+    private static ProcessedFileStore createProcessedFileStore(BMap<?, ?> checkpoint,
+                                                               BMap<BString, Object> serviceEndpointConfig)
+            throws BallerinaFtpException {
+        if (checkpoint.getStringValue(StringUtils.fromString(FtpConstants.CHECKPOINT_NAME)).getValue().isEmpty()) {
+            throw new FtpInvalidConfigException("checkpoint.name must not be empty");
+        }
+        long compactionThreshold = checkpoint.getIntValue(
+                StringUtils.fromString(FtpConstants.CHECKPOINT_COMPACTION_THRESHOLD));
+        if (compactionThreshold <= 0) {
+            throw new FtpInvalidConfigException("checkpoint.compactionThreshold must be greater than 0");
+        }
+        String store = checkpoint.getStringValue(StringUtils.fromString(FtpConstants.CHECKPOINT_STORE)).getValue();
+        try {
+            if (!FtpConstants.CHECKPOINT_STORE_DATABASE.equals(store)) {
+                String directory = checkpoint.getStringValue(
+                        StringUtils.fromString(FtpConstants.CHECKPOINT_DIRECTORY)).getValue();
+                return new LocalProcessedFileStore(Paths.get(directory), (int) Math.min(compactionThreshold,
+                        Integer.MAX_VALUE));
+            }
+            BMap<?, ?> coordination = serviceEndpointConfig.getMapValue(
+                    StringUtils.fromString(FtpConstants.COORDINATION));
+            if (coordination == null) {
+                throw new FtpInvalidConfigException("checkpoint.store DATABASE requires the coordination "
+                        + "configuration, whose database holds the checkpoints");
+            }
+            BMap<?, ?> databaseConfig = coordination.getMapValue(
+                    StringUtils.fromString(FtpConstants.COORDINATION_DATABASE_CONFIG));
+            JdbcProcessedFileStore.Dialect dialect = getDialect(databaseConfig);
+            return new JdbcProcessedFileStore(dialect, getDatabaseUrl(dialect, databaseConfig),
+                    getDatabaseString(databaseConfig, FtpConstants.DATABASE_USER),
+                    getDatabaseString(databaseConfig, FtpConstants.DATABASE_PASSWORD));
+        } catch (IOException | InvalidPathException e) {
+            throw new BallerinaFtpException("Failed to open the checkpoint store: " + e.getMessage(), e);
+        }
+    }
+
+    private static JdbcProcessedFileStore.Dialect getDialect(BMap<?, ?> databaseConfig) {
+        return FtpConstants.POSTGRESQL_CONFIG.equals(TypeUtils.getType(databaseConfig).getName())
+                ? JdbcProcessedFileStore.Dialect.POSTGRESQL : JdbcProcessedFileStore.Dialect.MYSQL;
+    }
+
+    private static String getDatabaseUrl(JdbcProcessedFileStore.Dialect dialect, BMap<?, ?> databaseConfig) {
+        return dialect.getUrl(getDatabaseString(databaseConfig, FtpConstants.DATABASE_HOST),
+                databaseConfig.getIntValue(StringUtils.fromString(FtpConstants.DATABASE_PORT)),
+                getDatabaseString(databaseConfig, FtpConstants.DATABASE_NAME));
+    }
+
+    private static String getDatabaseString(BMap<?, ?> databaseConfig, String key) {
+        Object value = databaseConfig.get(StringUtils.fromString(key));
+        return value instanceof BString stringValue ? stringValue.getValue() : null;
+    }
+
     private static List<FileDependencyCondition> parseFileDependencyConditions(
             BMap<BString, Object> serviceEndpointConfig) throws FtpInvalidConfigException {
         List<FileDependencyCondition> conditions = new ArrayList<>();
@@ -824,6 +1152,32 @@ public class FtpListenerHelper {
         return null;
     }
 
+    public static Object getDispatchMetrics(BObject ftpListener) {
+        FtpListener listener = (FtpListener) ftpListener.getNativeData(FTP_LISTENER_KEY);
+        long queuedCallbacks = 0;
+        long inFlightCallbacks = 0;
+        long completedCallbacks = 0;
+        long deferredCallbacks = 0;
+        long droppedCallbacks = 0;
+        if (listener != null) {
+            for (ServiceContext context : listener.getServiceContexts()) {
+                CallbackDispatcher dispatcher = context.getDispatcher();
+                queuedCallbacks += dispatcher.getQueuedCallbacks();
+                inFlightCallbacks += dispatcher.getInFlightCallbacks();
+                completedCallbacks += dispatcher.getCompletedCallbacks();
+                deferredCallbacks += dispatcher.getDeferredCallbacks();
+                droppedCallbacks += dispatcher.getDroppedCallbacks();
+            }
+        }
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("queuedCallbacks", queuedCallbacks);
+        metrics.put("inFlightCallbacks", inFlightCallbacks);
+        metrics.put("completedCallbacks", completedCallbacks);
+        metrics.put("deferredCallbacks", deferredCallbacks);
+        metrics.put("droppedCallbacks", droppedCallbacks);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FtpConstants.DISPATCH_METRICS, metrics);
+    }
+
     public static Object deregister(BObject ftpListener, BObject service) {
         try {
             Object serverConnectorObject = ftpListener.getNativeData(FtpConstants.FTP_SERVER_CONNECTOR);
@@ -919,7 +1273,31 @@ public class FtpListenerHelper {
             if (listener != null) {
                 listener.cleanup();
             }
+            // Leaves the group first, so that the other members take over the files of this member
+            leaveCoordinationGroup(ftpListener);
+            closeProcessedFileStore(ftpListener);
         }
         return null;
     }
+
+    private static void leaveCoordinationGroup(BObject ftpListener) {
+        if (ftpListener.getNativeData(FtpConstants.PARTITION_MEMBERSHIP) instanceof PartitionMembership membership) {
+            try {
+                membership.close();
+            } catch (IOException e) {
+                log.warn("Failed to leave the coordination group: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void closeProcessedFileStore(BObject ftpListener) {
+        Object processedFileStore = ftpListener.getNativeData(FtpConstants.PROCESSED_FILE_STORE);
+        if (processedFileStore instanceof ProcessedFileStore store) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                log.warn("Failed to close the checkpoint store: {}", e.getMessage());
+            }
+        }
+    }
 }
@@ -28,14 +28,19 @@ public class ServiceContext {
     private final BObject service;
     private final ServiceConfiguration configuration;
     private final FormatMethodsHolder formatMethodsHolder;
+    private final CallbackDispatcher dispatcher;
+    private final ContentPrefetcher prefetcher;
     private volatile BObject caller;
 
     public ServiceContext(BObject service, ServiceConfiguration configuration,
-                          FormatMethodsHolder formatMethodsHolder, BObject caller) {
+                          FormatMethodsHolder formatMethodsHolder, BObject caller, CallbackDispatcher dispatcher,
+                          ContentPrefetcher prefetcher) {
         this.service = service;
         this.configuration = configuration;
         this.formatMethodsHolder = formatMethodsHolder;
         this.caller = caller;
+        this.dispatcher = dispatcher;
+        this.prefetcher = prefetcher;
     }
 
     public BObject getService() {
@@ -50,6 +55,14 @@ public class ServiceContext {
         return formatMethodsHolder;
     }
 
+    public CallbackDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public ContentPrefetcher getPrefetcher() {
+        return prefetcher;
+    }
+
     public BObject getCaller() {
         return caller;
     }
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.ftp.transport.client.connector.contract;
 
+import io.ballerina.stdlib.ftp.transport.listener.RemoteFileSystemListener;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemMessage;
 
 /**
@@ -33,6 +34,9 @@ public interface VfsClientConnector {
      * @param action FTP action that need to perform.
      * @param filePath path of the file or the directory to be invoked on.
      * @param destination path of the file or the directory after getting changed if applicable.
+     * @param listener listener that receives the outcome of this invocation. Each invocation must use its own
+     *                 listener so that concurrent invocations on the same connector do not complete each other.
      */
-    void send(RemoteFileSystemMessage message, FtpAction action, String filePath, String destination);
+    void send(RemoteFileSystemMessage message, FtpAction action, String filePath, String destination,
+              RemoteFileSystemListener listener);
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.client.connector.contractimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.ftp.exception.BallerinaFtpException;
+
+/**
+ * Configuration for the client session pool.
+ * Parsed from Ballerina ConnectionPoolConfig record.
+ */
+public class ConnectionPoolConfig {
+    private final int maxActive;
+    private final int minIdle;
+    private final long maxIdleTimeMillis;
+    private final long maxWaitTimeMillis;
+    private final boolean testOnBorrow;
+
+    // Ballerina field names
+    private static final BString MAX_ACTIVE = StringUtils.fromString("maxActive");
+    private static final BString MIN_IDLE = StringUtils.fromString("minIdle");
+    private static final BString MAX_IDLE_TIME = StringUtils.fromString("maxIdleTime");
+    private static final BString MAX_WAIT_TIME = StringUtils.fromString("maxWaitTime");
+    private static final BString TEST_ON_BORROW = StringUtils.fromString("testOnBorrow");
+
+    private ConnectionPoolConfig(int maxActive, int minIdle, long maxIdleTimeMillis, long maxWaitTimeMillis,
+                                 boolean testOnBorrow) {
+        this.maxActive = maxActive;
+        this.minIdle = minIdle;
+        this.maxIdleTimeMillis = maxIdleTimeMillis;
+        this.maxWaitTimeMillis = maxWaitTimeMillis;
+        this.testOnBorrow = testOnBorrow;
+    }
+
+    /**
+     * Creates a ConnectionPoolConfig from a Ballerina BMap.
+     *
+     * @param config The Ballerina ConnectionPoolConfig record
+     * @return A new ConnectionPoolConfig instance
+     * @throws BallerinaFtpException if the configuration is invalid
+     */
+    public static ConnectionPoolConfig fromBMap(BMap<BString, Object> config) throws BallerinaFtpException {
+        int maxActive = config.getIntValue(MAX_ACTIVE).intValue();
+        int minIdle = config.getIntValue(MIN_IDLE).intValue();
+        long maxIdleTimeMillis = decimalToMillis(config.get(MAX_IDLE_TIME));
+        long maxWaitTimeMillis = decimalToMillis(config.get(MAX_WAIT_TIME));
+        boolean testOnBorrow = config.getBooleanValue(TEST_ON_BORROW);
+
+        validate(maxActive, minIdle, maxIdleTimeMillis, maxWaitTimeMillis);
+
+        return new ConnectionPoolConfig(maxActive, minIdle, maxIdleTimeMillis, maxWaitTimeMillis, testOnBorrow);
+    }
+
+    private static long decimalToMillis(Object value) {
+        if (value instanceof BDecimal decimalValue) {
+            return (long) (decimalValue.floatValue() * 1000);
+        }
+        return (long) (((Number) value).doubleValue() * 1000);
+    }
+
+    private static void validate(int maxActive, int minIdle, long maxIdleTimeMillis, long maxWaitTimeMillis)
+            throws BallerinaFtpException {
+        if (maxActive <= 0) {
+            throw new BallerinaFtpException("Connection pool maxActive must be greater than 0");
+        }
+        if (minIdle < 0) {
+            throw new BallerinaFtpException("Connection pool minIdle must not be negative");
+        }
+        if (minIdle > maxActive) {
+            throw new BallerinaFtpException("Connection pool minIdle must be less than or equal to maxActive");
+        }
+        if (maxIdleTimeMillis <= 0) {
+            throw new BallerinaFtpException("Connection pool maxIdleTime must be greater than 0");
+        }
+        if (maxWaitTimeMillis < 0) {
+            throw new BallerinaFtpException("Connection pool maxWaitTime must not be negative");
+        }
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public long getMaxIdleTimeMillis() {
+        return maxIdleTimeMillis;
+    }
+
+    public long getMaxWaitTimeMillis() {
+        return maxWaitTimeMillis;
+    }
+
+    public boolean isTestOnBorrow() {
+        return testOnBorrow;
+    }
+}
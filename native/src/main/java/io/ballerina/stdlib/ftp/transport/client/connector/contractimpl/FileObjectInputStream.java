@@ -23,6 +23,7 @@ import org.apache.commons.vfs2.util.MonitorInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class will wrapped the original InputStream along with the FileObject. This will allow to close both stream
@@ -31,25 +32,47 @@ import java.io.InputStream;
 public class FileObjectInputStream extends MonitorInputStream {
 
     private FileObject path;
+    private final Runnable releaseAction;
+    private final AtomicBoolean released = new AtomicBoolean(false);
 
     FileObjectInputStream(InputStream originalInputStream, FileObject path) {
+        this(originalInputStream, path, null);
+    }
+
+    FileObjectInputStream(InputStream originalInputStream, FileObject path, Runnable releaseAction) {
         super(originalInputStream);
         this.path = path;
+        this.releaseAction = releaseAction;
     }
 
     @Override
     public void close() throws IOException {
-        super.close();
-        if (path != null) {
-            path.close();
+        try {
+            super.close();
+            if (path != null) {
+                path.close();
+            }
+        } finally {
+            release();
         }
     }
 
     @Override
     protected void onClose() throws IOException {
-        super.onClose();
-        if (path != null) {
-            path.close();
+        try {
+            super.onClose();
+            if (path != null) {
+                path.close();
+            }
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        // close() and onClose() can both run for the same stream, so the session must be handed back only once
+        if (releaseAction != null && released.compareAndSet(false, true)) {
+            releaseAction.run();
         }
     }
 }
@@ -19,10 +19,8 @@
 package io.ballerina.stdlib.ftp.transport.client.connector.contractimpl;
 
 import io.ballerina.stdlib.ftp.exception.BallerinaFtpException;
-import io.ballerina.stdlib.ftp.exception.FtpConnectionException;
 import io.ballerina.stdlib.ftp.exception.FtpFileAlreadyExistsException;
 import io.ballerina.stdlib.ftp.exception.FtpFileNotFoundException;
-import io.ballerina.stdlib.ftp.exception.FtpServiceUnavailableException;
 import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
 import io.ballerina.stdlib.ftp.transport.client.connector.contract.FtpAction;
 import io.ballerina.stdlib.ftp.transport.client.connector.contract.VfsClientConnector;
@@ -30,18 +28,20 @@ import io.ballerina.stdlib.ftp.transport.listener.RemoteFileSystemListener;
 import io.ballerina.stdlib.ftp.transport.message.FileInfo;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemMessage;
 import io.ballerina.stdlib.ftp.transport.server.util.FileTransportUtils;
+import io.ballerina.stdlib.ftp.util.CompressionUtils;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
-import io.ballerina.stdlib.ftp.util.FtpErrorCodeAnalyzer;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileSystemManager;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.Selectors;
-import org.apache.commons.vfs2.VFS;
+import org.apache.commons.vfs2.util.RandomAccessMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -58,63 +58,93 @@ public class VfsClientConnectorImpl implements VfsClientConnector {
 
     private static final Logger logger = LoggerFactory.getLogger(
             VfsClientConnectorImpl.class);
+    private static final int RANGE_BUFFER_SIZE = 65536;
 
     private Map<String, Object> connectorConfig;
-    private RemoteFileSystemListener remoteFileSystemListener;
     private FileSystemOptions opts;
-    private FileObject path;
-    private FileSystemManager fsManager;
+    private final boolean decompressContent;
+    private volatile VfsSession sharedSession;
+    private volatile VfsSessionPool sessionPool;
 
     public VfsClientConnectorImpl(Map<String, Object> config)
             throws RemoteFileSystemConnectorException {
         this.connectorConfig = config;
+        this.decompressContent = Boolean.TRUE.equals(config.get(FtpConstants.DECOMPRESS_CONTENT));
         opts = FileTransportUtils.attachFileSystemOptions(config);
-        String fileURI = null;
-        try {
-            fsManager = VFS.getManager();
-            Object uri = connectorConfig.get(FtpConstants.URI);
-            fileURI = (uri != null) ? uri.toString() : null;
-            path = fsManager.resolveFile(fileURI, opts);
-        } catch (FileSystemException e) {
-            String safeUri = maskUrlPassword(fileURI);
-            String rootCauseMessage = (e.getCause() != null && e.getCause().getMessage() != null)
-                    ? e.getCause().getMessage() : e.getMessage();
-            String errorMessage = "Error while connecting to the FTP server with URL: "
-                    + (safeUri != null ? safeUri : "") + ". " + rootCauseMessage;
-
-            // Analyze exception for specific FTP error codes
-            String fullMessage = FtpErrorCodeAnalyzer.getFullErrorMessage(e);
-            if (FtpErrorCodeAnalyzer.isServiceUnavailable(fullMessage)) {
-                int ftpCode = FtpErrorCodeAnalyzer.extractFtpCodeFromException(e).orElse(0);
-                throw new FtpServiceUnavailableException(errorMessage, ftpCode, e.getCause());
-            }
-
-            throw new FtpConnectionException(errorMessage, e.getCause());
+        Object uri = connectorConfig.get(FtpConstants.URI);
+        String fileURI = (uri != null) ? uri.toString() : null;
+        Object poolConfig = connectorConfig.get(FtpConstants.CONNECTION_POOL);
+        if (poolConfig instanceof ConnectionPoolConfig connectionPoolConfig) {
+            sessionPool = new VfsSessionPool(fileURI, opts, connectionPoolConfig);
+        } else {
+            sharedSession = VfsSession.openShared(fileURI, opts);
         }
     }
 
-    public void addListener(RemoteFileSystemListener listener) {
-        this.remoteFileSystemListener = listener;
+    /**
+     * Checks whether the client decompresses compressed content while it is read.
+     *
+     * @return true if compressed content is decompressed
+     */
+    public boolean isDecompressContent() {
+        return decompressContent;
     }
 
     public void close() throws FileSystemException {
-        if (path == null) {
+        if (sessionPool != null) {
+            try {
+                sessionPool.close();
+            } finally {
+                sessionPool = null;
+            }
+            return;
+        }
+        if (sharedSession == null) {
             return;
         }
         try {
-            path.close();
+            sharedSession.getRoot().close();
         } finally {
-            path = null;
+            sharedSession = null;
+        }
+    }
+
+    private VfsSession acquireSession() throws RemoteFileSystemConnectorException {
+        if (sessionPool != null) {
+            return sessionPool.borrow();
+        }
+        return sharedSession;
+    }
+
+    private void releaseSession(VfsSession session, boolean broken) {
+        if (sessionPool == null) {
+            return;
+        }
+        if (broken) {
+            sessionPool.invalidate(session);
+        } else {
+            sessionPool.release(session);
         }
     }
 
     @Override
-    public void send(RemoteFileSystemMessage message, FtpAction action, String filePath, String destination) {
+    public void send(RemoteFileSystemMessage message, FtpAction action, String filePath, String destination,
+                     RemoteFileSystemListener remoteFileSystemListener) {
         InputStream inputStream;
         OutputStream outputStream = null;
         ByteBuffer byteBuffer;
         FileObject fileObject = null;
         boolean pathClose = true;
+        boolean sessionBroken = false;
+        VfsSession session;
+        try {
+            session = acquireSession();
+        } catch (RemoteFileSystemConnectorException e) {
+            remoteFileSystemListener.onError(e);
+            return;
+        }
+        FileObject path = session.getRoot();
+        FileSystemManager fsManager = session.getManager();
         try {
             try {
                 fileObject = path.resolveFile(filePath);
@@ -211,13 +241,15 @@ public class VfsClientConnectorImpl implements VfsClientConnector {
                 case GET:
                     if (fileObject.exists()) {
                         inputStream = fileObject.getContent().getInputStream();
-                        FileObjectInputStream objectInputStream = new FileObjectInputStream(inputStream, fileObject);
-                        RemoteFileSystemMessage fileContent = new RemoteFileSystemMessage(objectInputStream);
-                        remoteFileSystemListener.onMessage(fileContent);
+                        FileObjectInputStream objectInputStream = new FileObjectInputStream(inputStream, fileObject,
+                                () -> releaseSession(session, false));
                         // We can't close the FileObject or InputStream at the end. This InputStream will pass to upper
                         // layer and stream need to close from there once the usage is done. Along with that need to
                         // close the FileObject. If we close the FileObject now then InputStream will not get any data.
                         pathClose = false;
+                        RemoteFileSystemMessage fileContent = new RemoteFileSystemMessage(
+                                decompressIfEnabled(objectInputStream));
+                        remoteFileSystemListener.onMessage(fileContent);
                     } else {
                         throw new FtpFileNotFoundException(
                                 "Failed to read file: " + maskUrlPassword(fileObject.getName().getURI())
@@ -226,7 +258,11 @@ public class VfsClientConnectorImpl implements VfsClientConnector {
                     break;
                 case GET_ALL:
                     if (fileObject.exists()) {
-                        byte[] content = fileObject.getContent().getByteArray();
+                        byte[] content;
+                        try (InputStream contentStream = decompressIfEnabled(
+                                fileObject.getContent().getInputStream())) {
+                            content = contentStream.readAllBytes();
+                        }
                         remoteFileSystemListener.onMessage(new RemoteFileSystemMessage(content));
                     } else {
                         throw new FtpFileNotFoundException(
@@ -283,6 +319,8 @@ public class VfsClientConnectorImpl implements VfsClientConnector {
             }
             remoteFileSystemListener.done();
         } catch (BallerinaFtpException | RemoteFileSystemConnectorException | IOException e) {
+            // I/O failures may leave the underlying connection unusable, so such sessions are not reused
+            sessionBroken = e instanceof IOException;
             remoteFileSystemListener.onError(e);
         } catch (Throwable throwable) {
             remoteFileSystemListener.onError(throwable); // This is to handle other runtime exceptions
@@ -295,6 +333,297 @@ public class VfsClientConnectorImpl implements VfsClientConnector {
                 }
             }
             closeQuietly(outputStream);
+            if (pathClose) {
+                // For GET the session is released once the returned stream is closed
+                releaseSession(session, sessionBroken);
+            }
+        }
+    }
+
+    /**
+     * Returns the size of a remote file.
+     *
+     * @param filePath path of the file
+     * @return the size of the file in bytes
+     * @throws RemoteFileSystemConnectorException if the file does not exist or cannot be queried
+     */
+    public long getSize(String filePath) throws RemoteFileSystemConnectorException {
+        VfsSession session = acquireSession();
+        boolean sessionBroken = false;
+        try (FileObject fileObject = session.getRoot().resolveFile(filePath)) {
+            if (!fileObject.exists()) {
+                throw new FtpFileNotFoundException("Failed to read file: "
+                        + maskUrlPassword(fileObject.getName().getURI()) + " not found");
+            }
+            return fileObject.getContent().getSize();
+        } catch (FileSystemException e) {
+            sessionBroken = true;
+            throw new RemoteFileSystemConnectorException(e.getMessage(), e);
+        } finally {
+            releaseSession(session, sessionBroken);
+        }
+    }
+
+    /**
+     * Returns the size and modification time of a remote file, bypassing any attributes cached by VFS.
+     *
+     * @param filePath path of the file
+     * @return the file attributes, or null if the file does not exist
+     * @throws RemoteFileSystemConnectorException if the file cannot be queried
+     */
+    public FileInfo stat(String filePath) throws RemoteFileSystemConnectorException {
+        VfsSession session = acquireSession();
+        boolean sessionBroken = false;
+        try (FileObject fileObject = session.getRoot().resolveFile(filePath)) {
+            fileObject.refresh();
+            if (!fileObject.exists()) {
+                return null;
+            }
+            FileInfo fileInfo = new FileInfo(filePath);
+            fileInfo.setFileSize(fileObject.getContent().getSize());
+            fileInfo.setLastModifiedTime(fileObject.getContent().getLastModifiedTime());
+            return fileInfo;
+        } catch (FileSystemException e) {
+            sessionBroken = true;
+            throw new RemoteFileSystemConnectorException(e.getMessage(), e);
+        } finally {
+            releaseSession(session, sessionBroken);
+        }
+    }
+
+    /**
+     * Reads a remote file by handing its content stream to the given reader, so that the content can be consumed
+     * incrementally instead of being loaded into memory first.
+     *
+     * @param filePath path of the file
+     * @param reader   consumes the content stream, which is closed by the connector
+     * @return the value produced by the reader
+     * @throws RemoteFileSystemConnectorException if the file does not exist or cannot be read
+     */
+    public Object readContent(String filePath, ContentReader reader) throws RemoteFileSystemConnectorException {
+        VfsSession session = acquireSession();
+        boolean sessionBroken = false;
+        try (FileObject fileObject = session.getRoot().resolveFile(filePath)) {
+            if (!fileObject.exists()) {
+                throw new FtpFileNotFoundException("Failed to read file: "
+                        + maskUrlPassword(fileObject.getName().getURI()) + " not found");
+            }
+            try (org.apache.commons.vfs2.FileContent content = fileObject.getContent();
+                 FailureTrackingInputStream inputStream = new FailureTrackingInputStream(content.getInputStream());
+                 InputStream contentStream = decompressIfEnabled(inputStream)) {
+                Object result = reader.read(contentStream);
+                // Parsers may report a failed read as a content error, so transfer failures are checked separately
+                if (inputStream.getFailure() != null) {
+                    throw inputStream.getFailure();
+                }
+                return result;
+            }
+        } catch (IOException e) {
+            sessionBroken = true;
+            throw new RemoteFileSystemConnectorException("Failed to read file " + filePath + ": " + e.getMessage(),
+                    e);
+        } finally {
+            releaseSession(session, sessionBroken);
+        }
+    }
+
+    /**
+     * Writes to a remote file. In append mode the data is added after the existing content, which maps to APPE on
+     * FTP and to an append-mode put on SFTP.
+     *
+     * @param filePath path of the file
+     * @param append   whether to append to the existing content instead of replacing it
+     * @param writer   writes the data to the remote output stream
+     * @throws RemoteFileSystemConnectorException if the data cannot be written completely
+     */
+    public void write(String filePath, boolean append, ContentWriter writer)
+            throws RemoteFileSystemConnectorException {
+        VfsSession session = acquireSession();
+        boolean sessionBroken = false;
+        try (FileObject fileObject = session.getRoot().resolveFile(filePath)) {
+            if (!fileObject.exists()) {
+                fileObject.createFile();
+                fileObject.refresh();
+            }
+            try (org.apache.commons.vfs2.FileContent content = fileObject.getContent();
+                 OutputStream outputStream = content.getOutputStream(append)) {
+                writer.writeTo(outputStream);
+            }
+        } catch (IOException e) {
+            sessionBroken = true;
+            throw new RemoteFileSystemConnectorException("Failed to write " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            releaseSession(session, sessionBroken);
+        }
+    }
+
+    /**
+     * Reads a byte range of a remote file using random access, which maps to REST + RETR on FTP and to an offset
+     * read on SFTP. When pooling is enabled the range is read on its own session.
+     *
+     * @param filePath path of the file
+     * @param offset   position of the first byte to read
+     * @param length   number of bytes to read
+     * @param consumer receives the bytes in order, together with their position in the file
+     * @throws RemoteFileSystemConnectorException if the range cannot be read completely
+     */
+    public void readRange(String filePath, long offset, long length, RangeConsumer consumer)
+            throws RemoteFileSystemConnectorException {
+        readRange(filePath, offset, length, RANGE_BUFFER_SIZE, consumer);
+    }
+
+    /**
+     * Reads a byte range of a remote file, handing the bytes to the consumer in chunks of up to the given size.
+     *
+     * @param filePath   path of the file
+     * @param offset     position of the first byte to read
+     * @param length     number of bytes to read
+     * @param bufferSize maximum number of bytes passed to the consumer at a time
+     * @param consumer   receives the bytes in order, together with their position in the file
+     * @throws RemoteFileSystemConnectorException if the range cannot be read completely
+     */
+    public void readRange(String filePath, long offset, long length, int bufferSize, RangeConsumer consumer)
+            throws RemoteFileSystemConnectorException {
+        VfsSession session = acquireSession();
+        boolean sessionBroken = false;
+        try (FileObject fileObject = session.getRoot().resolveFile(filePath)) {
+            RandomAccessContent content = fileObject.getContent().getRandomAccessContent(RandomAccessMode.READ);
+            try {
+                content.seek(offset);
+                InputStream inputStream = content.getInputStream();
+                byte[] buffer = new byte[(int) Math.min(bufferSize, Math.max(length, 1))];
+                long position = offset;
+                long remaining = length;
+                while (remaining > 0) {
+                    int n = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (n < 0) {
+                        throw new RemoteFileSystemConnectorException("Unexpected end of file "
+                                + maskUrlPassword(fileObject.getName().getURI()) + " at offset " + position);
+                    }
+                    consumer.accept(position, buffer, n);
+                    position += n;
+                    remaining -= n;
+                }
+            } finally {
+                try {
+                    // Closing before the end of the file aborts the transfer on the server
+                    content.close();
+                } catch (IOException e) {
+                    sessionBroken = true;
+                    logger.debug("Error while closing the ranged read: {}", e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            sessionBroken = true;
+            throw new RemoteFileSystemConnectorException("Failed to read bytes " + offset + "-"
+                    + (offset + length - 1) + " of " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            releaseSession(session, sessionBroken);
+        }
+    }
+
+    /**
+     * Receives the bytes of a ranged read.
+     */
+    @FunctionalInterface
+    public interface RangeConsumer {
+
+        /**
+         * Consumes a chunk of the range. The buffer is reused after this method returns.
+         *
+         * @param position position of the first byte of the chunk in the file
+         * @param buffer   buffer holding the chunk
+         * @param length   number of valid bytes in the buffer
+         * @throws IOException if the chunk cannot be written to its destination
+         */
+        void accept(long position, byte[] buffer, int length) throws IOException;
+    }
+
+    /**
+     * Consumes the content of a remote read.
+     */
+    @FunctionalInterface
+    public interface ContentReader {
+
+        /**
+         * Reads the content of the remote file.
+         *
+         * @param inputStream stream of the remote file, which is closed by the connector
+         * @return the value produced from the content
+         * @throws IOException if the content cannot be read
+         */
+        Object read(InputStream inputStream) throws IOException;
+    }
+
+    /**
+     * Remembers the first I/O failure of the wrapped stream.
+     */
+    private static class FailureTrackingInputStream extends FilterInputStream {
+
+        private IOException failure;
+
+        FailureTrackingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw track(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                throw track(e);
+            }
+        }
+
+        private IOException track(IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+            return e;
+        }
+
+        IOException getFailure() {
+            return failure;
+        }
+    }
+
+    /**
+     * Produces the data of a remote write.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the data to the remote file.
+         *
+         * @param outputStream stream to the remote file, which is closed by the connector
+         * @throws IOException if the data cannot be read or written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Wraps a content stream so that compressed content is inflated while it is read, when the client is configured
+     * to decompress content. The stream is closed if the compression header cannot be read.
+     */
+    private InputStream decompressIfEnabled(InputStream inputStream) throws IOException {
+        if (!decompressContent) {
+            return inputStream;
+        }
+        try {
+            return CompressionUtils.decompress(inputStream);
+        } catch (IOException e) {
+            closeQuietly(inputStream);
+            throw e;
         }
     }
 
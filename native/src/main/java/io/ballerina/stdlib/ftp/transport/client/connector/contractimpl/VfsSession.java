@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.client.connector.contractimpl;
+
+import io.ballerina.stdlib.ftp.exception.FtpConnectionException;
+import io.ballerina.stdlib.ftp.exception.FtpServiceUnavailableException;
+import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
+import io.ballerina.stdlib.ftp.util.FtpErrorCodeAnalyzer;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.VFS;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.ballerina.stdlib.ftp.transport.server.util.FileTransportUtils.maskUrlPassword;
+
+/**
+ * A connected session to the remote server, made up of a file system manager and the resolved root.
+ * Pooled sessions own a dedicated manager so that each one keeps its own underlying connection.
+ */
+class VfsSession {
+
+    private static final Logger log = LoggerFactory.getLogger(VfsSession.class);
+
+    private final FileSystemManager manager;
+    private final FileObject root;
+    private final boolean ownsManager;
+    private volatile long lastReturnedTime;
+
+    private VfsSession(FileSystemManager manager, FileObject root, boolean ownsManager) {
+        this.manager = manager;
+        this.root = root;
+        this.ownsManager = ownsManager;
+        this.lastReturnedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Opens a session that shares the global VFS manager.
+     *
+     * @param uri  The root URI of the session
+     * @param opts The file system options
+     * @return The connected session
+     * @throws RemoteFileSystemConnectorException if the connection cannot be established
+     */
+    static VfsSession openShared(String uri, FileSystemOptions opts) throws RemoteFileSystemConnectorException {
+        try {
+            return new VfsSession(VFS.getManager(), resolveRoot(VFS.getManager(), uri, opts), false);
+        } catch (FileSystemException e) {
+            throw toConnectorException(uri, e);
+        }
+    }
+
+    /**
+     * Opens a session backed by its own VFS manager.
+     *
+     * @param uri  The root URI of the session
+     * @param opts The file system options
+     * @return The connected session
+     * @throws RemoteFileSystemConnectorException if the connection cannot be established
+     */
+    static VfsSession openDedicated(String uri, FileSystemOptions opts) throws RemoteFileSystemConnectorException {
+        StandardFileSystemManager manager = new StandardFileSystemManager();
+        try {
+            manager.init();
+            return new VfsSession(manager, resolveRoot(manager, uri, opts), true);
+        } catch (FileSystemException e) {
+            manager.close();
+            throw toConnectorException(uri, e);
+        }
+    }
+
+    private static FileObject resolveRoot(FileSystemManager manager, String uri, FileSystemOptions opts)
+            throws FileSystemException {
+        return manager.resolveFile(uri, opts);
+    }
+
+    private static RemoteFileSystemConnectorException toConnectorException(String fileURI, FileSystemException e) {
+        String safeUri = maskUrlPassword(fileURI);
+        String rootCauseMessage = (e.getCause() != null && e.getCause().getMessage() != null)
+                ? e.getCause().getMessage() : e.getMessage();
+        String errorMessage = "Error while connecting to the FTP server with URL: "
+                + (safeUri != null ? safeUri : "") + ". " + rootCauseMessage;
+
+        // Analyze exception for specific FTP error codes
+        String fullMessage = FtpErrorCodeAnalyzer.getFullErrorMessage(e);
+        if (FtpErrorCodeAnalyzer.isServiceUnavailable(fullMessage)) {
+            int ftpCode = FtpErrorCodeAnalyzer.extractFtpCodeFromException(e).orElse(0);
+            return new FtpServiceUnavailableException(errorMessage, ftpCode, e.getCause());
+        }
+        return new FtpConnectionException(errorMessage, e.getCause());
+    }
+
+    FileSystemManager getManager() {
+        return manager;
+    }
+
+    FileObject getRoot() {
+        return root;
+    }
+
+    long getLastReturnedTime() {
+        return lastReturnedTime;
+    }
+
+    void markReturned() {
+        this.lastReturnedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Checks that the session can still talk to the server by refreshing and querying the root.
+     * For SFTP this results in a stat round trip, which also acts as a keep-alive.
+     *
+     * @return true if the session is usable
+     */
+    boolean isValid() {
+        try {
+            root.refresh();
+            return root.exists();
+        } catch (FileSystemException e) {
+            log.debug("Session validation failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    void close() {
+        try {
+            root.close();
+        } catch (FileSystemException e) {
+            log.debug("Error while closing the session root: {}", e.getMessage());
+        } finally {
+            if (ownsManager && manager instanceof StandardFileSystemManager standardManager) {
+                standardManager.close();
+            }
+        }
+    }
+}
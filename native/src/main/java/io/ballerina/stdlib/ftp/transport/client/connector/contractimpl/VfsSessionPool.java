@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.client.connector.contractimpl;
+
+import io.ballerina.stdlib.ftp.exception.FtpConnectionException;
+import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of {@link VfsSession}s for a single client.
+ * Idle sessions are reused in LIFO order so that the least recently used ones age out and get evicted.
+ */
+class VfsSessionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(VfsSessionPool.class);
+
+    private final String uri;
+    private final FileSystemOptions opts;
+    private final ConnectionPoolConfig config;
+    private final Semaphore permits;
+    private final Deque<VfsSession> idleSessions = new ArrayDeque<>();
+    private volatile boolean closed = false;
+
+    VfsSessionPool(String uri, FileSystemOptions opts, ConnectionPoolConfig config)
+            throws RemoteFileSystemConnectorException {
+        this.uri = uri;
+        this.opts = opts;
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxActive(), true);
+        try {
+            // Open at least one session eagerly so that connection problems surface during client init
+            for (int i = 0; i < Math.max(1, config.getMinIdle()); i++) {
+                idleSessions.push(VfsSession.openDedicated(uri, opts));
+            }
+        } catch (RemoteFileSystemConnectorException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows a session, waiting up to the configured maximum wait time if all sessions are in use.
+     *
+     * @return A usable session
+     * @throws RemoteFileSystemConnectorException if no session becomes available in time or a new session
+     *                                            cannot be opened
+     */
+    VfsSession borrow() throws RemoteFileSystemConnectorException {
+        if (closed) {
+            throw new FtpConnectionException("Connection pool is closed");
+        }
+        acquirePermit();
+        try {
+            evictIdleSessions();
+            VfsSession session;
+            while ((session = pollIdleSession()) != null) {
+                if (!config.isTestOnBorrow() || session.isValid()) {
+                    return session;
+                }
+                log.debug("Discarding pooled session that failed validation");
+                session.close();
+            }
+            return VfsSession.openDedicated(uri, opts);
+        } catch (RemoteFileSystemConnectorException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a healthy session to the pool.
+     *
+     * @param session The borrowed session
+     */
+    void release(VfsSession session) {
+        session.markReturned();
+        boolean discard;
+        synchronized (this) {
+            discard = closed;
+            if (!discard) {
+                idleSessions.push(session);
+            }
+        }
+        if (discard) {
+            session.close();
+        }
+        permits.release();
+        evictIdleSessions();
+    }
+
+    /**
+     * Closes a borrowed session that is no longer usable instead of returning it to the pool.
+     *
+     * @param session The borrowed session
+     */
+    void invalidate(VfsSession session) {
+        session.close();
+        permits.release();
+    }
+
+    void close() {
+        closed = true;
+        List<VfsSession> sessions;
+        synchronized (this) {
+            sessions = new ArrayList<>(idleSessions);
+            idleSessions.clear();
+        }
+        sessions.forEach(VfsSession::close);
+    }
+
+    private void acquirePermit() throws FtpConnectionException {
+        long maxWait = config.getMaxWaitTimeMillis();
+        try {
+            if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+                throw new FtpConnectionException("Timed out after " + maxWait + "ms waiting for a pooled " +
+                        "connection. All " + config.getMaxActive() + " connections are in use.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FtpConnectionException("Interrupted while waiting for a pooled connection", e);
+        }
+    }
+
+    private synchronized VfsSession pollIdleSession() {
+        return idleSessions.pollFirst();
+    }
+
+    private void evictIdleSessions() {
+        List<VfsSession> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Iterator<VfsSession> oldestFirst = idleSessions.descendingIterator();
+            while (oldestFirst.hasNext() && idleSessions.size() > config.getMinIdle()) {
+                VfsSession session = oldestFirst.next();
+                if (now - session.getLastReturnedTime() < config.getMaxIdleTimeMillis()) {
+                    break;
+                }
+                oldestFirst.remove();
+                expired.add(session);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.debug("Evicting {} idle pooled session(s)", expired.size());
+            expired.forEach(VfsSession::close);
+        }
+    }
+}
@@ -34,6 +34,16 @@ public interface RemoteFileSystemListener {
      */
     boolean onMessage(RemoteFileSystemBaseMessage remoteFileSystemMessage);
 
+    /**
+     * Checks whether the listener can take the events of a poll. A poll is skipped while the listener is not ready,
+     * so that files are not listed only to have their callbacks deferred.
+     *
+     * @return whether the next poll can proceed.
+     */
+    default boolean isReady() {
+        return true;
+    }
+
     /**
      * Notify error event triggered by transport to the listener.
      *
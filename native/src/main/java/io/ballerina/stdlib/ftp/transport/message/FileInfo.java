@@ -113,9 +113,9 @@ public class FileInfo {
         this.fileName = fileObject.getName();
         this.path = fileName.getPath();
         this.publicURIString = fileObject.getPublicURIString();
-        this.isFolder = fileObject.isFolder();
-        this.isFile = fileObject.isFile();
         this.fileType = fileObject.getType();
+        this.isFolder = fileType == FileType.FOLDER;
+        this.isFile = fileType == FileType.FILE;
         this.isAttached = fileObject.isAttached();
         this.url = fileObject.getURL();
         this.isContentOpen = fileObject.isContentOpen();
@@ -129,6 +129,39 @@ public class FileInfo {
         }
     }
 
+    /**
+     * Creates the details of a file found in a directory listing. The size and modification time are the ones already
+     * read from the listing. The type, flags and permissions are read while the poll still holds the listing, from
+     * the attributes that the listing cached on the file, so they do not need further requests to the server. Every
+     * dispatched file needs them for its Ballerina record, so they are not deferred to the dispatch threads, which
+     * run after the poll has released the listing.
+     *
+     * @param fileObject       The listed file
+     * @param fileSize         The size of the file from the listing
+     * @param lastModifiedTime The modification time of the file from the listing
+     * @return The file details
+     * @throws FileSystemException if the attributes of the file cannot be determined
+     */
+    public static FileInfo fromListing(FileObject fileObject, long fileSize, long lastModifiedTime)
+            throws FileSystemException {
+        FileInfo info = new FileInfo(fileObject.getName().getURI());
+        info.fileName = fileObject.getName();
+        info.fileSize = fileSize;
+        info.lastModifiedTime = lastModifiedTime;
+        info.fileType = fileObject.getType();
+        info.isFolder = info.fileType == FileType.FOLDER;
+        info.isFile = info.fileType == FileType.FILE;
+        info.publicURIString = fileObject.getPublicURIString();
+        info.url = fileObject.getURL();
+        info.isAttached = fileObject.isAttached();
+        info.isContentOpen = fileObject.isContentOpen();
+        info.isExecutable = fileObject.isExecutable();
+        info.isHidden = fileObject.isHidden();
+        info.isReadable = fileObject.isReadable();
+        info.isWritable = fileObject.isWriteable();
+        return info;
+    }
+
     /**
      * This will return relative path from the root folder.
      *
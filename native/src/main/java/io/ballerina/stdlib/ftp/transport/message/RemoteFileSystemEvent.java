@@ -18,7 +18,14 @@
 
 package io.ballerina.stdlib.ftp.transport.message;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class represent the events that happen in remote file system.
@@ -26,18 +33,57 @@ import java.util.List;
 public class RemoteFileSystemEvent extends RemoteFileSystemBaseMessage {
 
     private List<FileInfo> addedFiles;
+    private List<FileInfo> modifiedFiles;
     private List<String> deletedFiles;
     private String sourcePath;
+    // Shared with the events derived from this event, as their callbacks handle the same files
+    private final Completion completion;
 
     public RemoteFileSystemEvent(List<FileInfo> addedFiles, List<String> deletedFiles) {
+        this(addedFiles, Collections.emptyList(), deletedFiles);
+    }
+
+    public RemoteFileSystemEvent(List<FileInfo> addedFiles, List<FileInfo> modifiedFiles, List<String> deletedFiles) {
+        this(addedFiles, modifiedFiles, deletedFiles, new Completion());
+    }
+
+    private RemoteFileSystemEvent(List<FileInfo> addedFiles, List<FileInfo> modifiedFiles, List<String> deletedFiles,
+                                  Completion completion) {
         this.addedFiles = addedFiles;
+        this.modifiedFiles = modifiedFiles;
         this.deletedFiles = deletedFiles;
+        this.completion = completion;
+    }
+
+    /**
+     * Creates an event that reports the same files in other lists, such as the modified files as added files. The
+     * deferred files and the completion of the callbacks are shared with this event.
+     *
+     * @param addedFiles    The added files
+     * @param modifiedFiles The modified files
+     * @param deletedFiles  The deleted paths
+     * @return The event
+     */
+    public RemoteFileSystemEvent derive(List<FileInfo> addedFiles, List<FileInfo> modifiedFiles,
+                                        List<String> deletedFiles) {
+        RemoteFileSystemEvent event = new RemoteFileSystemEvent(addedFiles, modifiedFiles, deletedFiles, completion);
+        event.setSourcePath(sourcePath);
+        return event;
     }
 
     public List<FileInfo> getAddedFiles() {
         return addedFiles;
     }
 
+    /**
+     * Gets the files that were reported before and whose size or modification time has changed since.
+     *
+     * @return The modified files
+     */
+    public List<FileInfo> getModifiedFiles() {
+        return modifiedFiles;
+    }
+
     public List<String> getDeletedFiles() {
         return deletedFiles;
     }
@@ -60,4 +106,185 @@ public class RemoteFileSystemEvent extends RemoteFileSystemBaseMessage {
     public void setSourcePath(String sourcePath) {
         this.sourcePath = sourcePath;
     }
+
+    /**
+     * Records that the callback of a file was deferred, so that the file is reported again by the next poll.
+     *
+     * @param uri The URI of the added or modified file, or the deleted path
+     */
+    public void deferFile(String uri) {
+        synchronized (completion) {
+            completion.deferredFiles.add(uri);
+        }
+    }
+
+    /**
+     * Gets the files whose callbacks were deferred. The set must only be read once the event is dispatched.
+     *
+     * @return The URIs of the added or modified files, and the deleted paths
+     */
+    public Set<String> getDeferredFiles() {
+        return completion.deferredFiles;
+    }
+
+    /**
+     * Records that the content of a file could not be fetched, so that the file is reported again by the next poll
+     * once its callbacks have completed.
+     *
+     * @param uri The URI of the added or modified file
+     */
+    public void retryFile(String uri) {
+        synchronized (completion) {
+            completion.retriedFiles.add(uri);
+        }
+    }
+
+    /**
+     * Sets the listener that is told about the files whose callbacks have all completed.
+     *
+     * @param listener The listener, which is called on the thread that completes the last callback of the files
+     */
+    public void setCompletionListener(CompletionListener listener) {
+        completion.listener = listener;
+    }
+
+    /**
+     * Records that a callback of some files is reserved a place to run.
+     *
+     * @param files The URIs of the added or modified files, or the deleted paths, handled by the callback
+     */
+    public void callbackReserved(Collection<String> files) {
+        synchronized (completion) {
+            for (String file : files) {
+                completion.runningCallbacks.merge(file, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Records that a reserved callback of some files has completed, or has been given up.
+     *
+     * @param files     The files handled by the callback
+     * @param succeeded Whether the callback completed successfully
+     */
+    public void callbackCompleted(Collection<String> files, boolean succeeded) {
+        Outcome outcome = new Outcome(files.size());
+        synchronized (completion) {
+            for (String file : files) {
+                Integer remaining = completion.runningCallbacks.merge(file, -1, Integer::sum);
+                if (!succeeded) {
+                    completion.failedFiles.add(file);
+                }
+                if (remaining != null && remaining <= 0) {
+                    completion.runningCallbacks.remove(file);
+                    if (completion.dispatched) {
+                        completion.addIfCompleted(file, outcome);
+                    }
+                }
+            }
+        }
+        completion.notifyListener(outcome);
+    }
+
+    /**
+     * Records that the callbacks of all services have been dispatched for the files of this event. The files whose
+     * callbacks have already completed, and the files without callbacks, are given to the completion listener.
+     */
+    public void dispatchCompleted() {
+        Outcome outcome = new Outcome(addedFiles.size() + modifiedFiles.size() + deletedFiles.size());
+        synchronized (completion) {
+            completion.dispatched = true;
+            for (FileInfo file : addedFiles) {
+                completion.addIfCompleted(file.getFileName().getURI(), outcome);
+            }
+            for (FileInfo file : modifiedFiles) {
+                completion.addIfCompleted(file.getFileName().getURI(), outcome);
+            }
+            for (String file : deletedFiles) {
+                completion.addIfCompleted(file, outcome);
+            }
+        }
+        completion.notifyListener(outcome);
+    }
+
+    /**
+     * Listener of the files of an event whose callbacks have all completed. A deferred file is left to the next poll
+     * and is not given to the listener.
+     */
+    public interface CompletionListener {
+
+        /**
+         * Called with the files whose callbacks all succeeded, including the files without callbacks.
+         *
+         * @param files The URIs of the added or modified files, and the deleted paths
+         */
+        void onCompleted(Collection<String> files);
+
+        /**
+         * Called with the files of which a callback failed or was given up.
+         *
+         * @param files The URIs of the added or modified files, and the deleted paths
+         */
+        void onFailed(Collection<String> files);
+
+        /**
+         * Called with the files whose content could not be fetched, which must be reported again.
+         *
+         * @param files The URIs of the added or modified files
+         */
+        void onRetry(Collection<String> files);
+    }
+
+    /**
+     * Files whose callbacks have all completed, by their outcome.
+     */
+    private record Outcome(List<String> completed, List<String> failed, List<String> retried) {
+
+        private Outcome(int files) {
+            this(new ArrayList<>(files), new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Callbacks of the files of an event that have not completed yet. A file is completed once all of its callbacks
+     * have completed after the event has been dispatched.
+     */
+    private static final class Completion {
+
+        private final Set<String> deferredFiles = new HashSet<>();
+        private final Map<String, Integer> runningCallbacks = new HashMap<>();
+        private final Set<String> failedFiles = new HashSet<>();
+        private final Set<String> retriedFiles = new HashSet<>();
+        private boolean dispatched;
+        private volatile CompletionListener listener;
+
+        private void addIfCompleted(String file, Outcome outcome) {
+            if (runningCallbacks.containsKey(file) || deferredFiles.contains(file)) {
+                return;
+            }
+            if (retriedFiles.contains(file)) {
+                outcome.retried().add(file);
+            } else if (failedFiles.contains(file)) {
+                outcome.failed().add(file);
+            } else {
+                outcome.completed().add(file);
+            }
+        }
+
+        private void notifyListener(Outcome outcome) {
+            CompletionListener completionListener = listener;
+            if (completionListener == null) {
+                return;
+            }
+            if (!outcome.completed().isEmpty()) {
+                completionListener.onCompleted(outcome.completed());
+            }
+            if (!outcome.failed().isEmpty()) {
+                completionListener.onFailed(outcome.failed());
+            }
+            if (!outcome.retried().isEmpty()) {
+                completionListener.onRetry(outcome.retried());
+            }
+        }
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server;
+
+import io.ballerina.stdlib.ftp.util.ExcludeCoverageFromGeneratedReport;
+import io.ballerina.stdlib.ftp.util.FileNameMatcher;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Collects the files below a monitored directory. Subdirectories deeper than the maximum depth, or whose path
+ * relative to the monitored directory matches an excluded pattern, are not listed. With a parallelism greater than 1,
+ * subdirectories are listed concurrently on virtual threads. Each concurrent listing runs over a lane with its own
+ * file system manager, so that it has its own connection to the server, and the number of lanes is bounded by the
+ * parallelism. The files of a directory come before the files of its subdirectories, which follow in the order of
+ * the listing, so the result does not depend on the order in which the listings complete.
+ */
+final class DirectoryTraversal {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectoryTraversal.class);
+
+    static final int UNLIMITED_DEPTH = -1;
+
+    private static final ExecutorService SCAN_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ftp-listener-scan-", 0).factory());
+
+    private final FileName rootName;
+    private final FileSystemOptions fileSystemOptions;
+    private final FileNameMatcher fileNameMatcher;
+    private final List<FileNameMatcher> excludedDirectories;
+    private final int maxDepth;
+    private final int parallelism;
+    private final Semaphore lanePermits;
+    private final Queue<StandardFileSystemManager> idleLanes = new ConcurrentLinkedQueue<>();
+    private final Queue<StandardFileSystemManager> lanes = new ConcurrentLinkedQueue<>();
+
+    DirectoryTraversal(FileName rootName, FileSystemOptions fileSystemOptions, FileNameMatcher fileNameMatcher,
+                       List<String> excludedDirectories, int maxDepth, int parallelism) {
+        this.rootName = rootName;
+        this.fileSystemOptions = fileSystemOptions;
+        this.fileNameMatcher = fileNameMatcher;
+        this.excludedDirectories = new ArrayList<>(excludedDirectories.size());
+        for (String excludedDirectory : excludedDirectories) {
+            this.excludedDirectories.add(FileNameMatcher.of(excludedDirectory));
+        }
+        this.maxDepth = maxDepth;
+        this.parallelism = parallelism;
+        this.lanePermits = new Semaphore(parallelism, true);
+    }
+
+    /**
+     * Collects the files among the children of the monitored directory and its scanned subdirectories.
+     *
+     * @param children The listing of the monitored directory
+     * @return The files whose names match the file name pattern
+     * @throws FileSystemException if the type of a child cannot be determined
+     */
+    List<FileObject> collectFiles(FileObject[] children) throws FileSystemException {
+        try {
+            return scan(children, 0);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FileSystemException fileSystemException) {
+                throw fileSystemException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the connections of the lanes.
+     */
+    void close() {
+        StandardFileSystemManager lane;
+        while ((lane = lanes.poll()) != null) {
+            lane.close();
+        }
+        idleLanes.clear();
+    }
+
+    private List<FileObject> scan(FileObject[] children, int depth) throws FileSystemException {
+        List<FileObject> files = new ArrayList<>();
+        List<FileObject> subdirectories = new ArrayList<>();
+        for (FileObject child : children) {
+            if (fileNameMatcher != null && !fileNameMatcher.matches(child.getName().getBaseName())) {
+                logDebugFileNamePatternNotMatched(child);
+            } else if (child.getType() == FileType.FOLDER) {
+                if (isScanned(child, depth)) {
+                    subdirectories.add(child);
+                }
+            } else {
+                files.add(child);
+            }
+        }
+        if (parallelism > 1 && subdirectories.size() > 1) {
+            List<CompletableFuture<List<FileObject>>> listings = new ArrayList<>(subdirectories.size());
+            for (FileObject subdirectory : subdirectories) {
+                listings.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return scanSubdirectory(subdirectory, depth + 1);
+                    } catch (FileSystemException e) {
+                        throw new CompletionException(e);
+                    }
+                }, SCAN_EXECUTOR));
+            }
+            for (CompletableFuture<List<FileObject>> listing : listings) {
+                files.addAll(listing.join());
+            }
+        } else {
+            for (FileObject subdirectory : subdirectories) {
+                files.addAll(scanSubdirectory(subdirectory, depth + 1));
+            }
+        }
+        return files;
+    }
+
+    private boolean isScanned(FileObject directory, int depth) throws FileSystemException {
+        if (maxDepth != UNLIMITED_DEPTH && depth >= maxDepth) {
+            return false;
+        }
+        if (!excludedDirectories.isEmpty()) {
+            String relativePath = rootName.getRelativeName(directory.getName());
+            for (FileNameMatcher excludedDirectory : excludedDirectories) {
+                if (excludedDirectory.matches(relativePath)) {
+                    logDebugDirectoryExcluded(relativePath);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<FileObject> scanSubdirectory(FileObject directory, int depth) throws FileSystemException {
+        FileObject[] children = null;
+        try {
+            children = parallelism > 1 ? listWithLane(directory) : directory.getChildren();
+        } catch (FileSystemException e) {
+            logDebugErrorWhileGetChildren(directory, e);
+        }
+        if (children == null || children.length == 0) {
+            logDebugNoChildren(directory);
+            return new ArrayList<>();
+        }
+        return scan(children, depth);
+    }
+
+    private FileObject[] listWithLane(FileObject directory) throws FileSystemException {
+        try {
+            lanePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileSystemException("Interrupted while waiting to list " + directory.getName().getFriendlyURI(),
+                    e);
+        }
+        StandardFileSystemManager lane = idleLanes.poll();
+        try {
+            if (lane == null) {
+                lane = openLane();
+            }
+            // Lanes live across polls, so the cached listing of the previous poll is discarded
+            FileObject laneDirectory = lane.resolveFile(directory.getName().getURI(), fileSystemOptions);
+            laneDirectory.refresh();
+            return laneDirectory.getChildren();
+        } finally {
+            if (lane != null) {
+                idleLanes.add(lane);
+            }
+            lanePermits.release();
+        }
+    }
+
+    private StandardFileSystemManager openLane() throws FileSystemException {
+        StandardFileSystemManager lane = new StandardFileSystemManager();
+        try {
+            lane.init();
+        } catch (FileSystemException e) {
+            lane.close();
+            throw e;
+        }
+        lanes.add(lane);
+        return lane;
+    }
+
+    @ExcludeCoverageFromGeneratedReport
+    private void logDebugFileNamePatternNotMatched(FileObject file) {
+        if (log.isDebugEnabled()) {
+            log.debug(file.getName().getFriendlyURI() + " is not processed because it did not match the specified "
+                    + "pattern: " + fileNameMatcher.getPattern().pattern());
+        }
+    }
+
+    @ExcludeCoverageFromGeneratedReport
+    private void logDebugDirectoryExcluded(String relativePath) {
+        if (log.isDebugEnabled()) {
+            log.debug("Folder " + relativePath + " is not scanned because it matched an excluded directory pattern.");
+        }
+    }
+
+    @ExcludeCoverageFromGeneratedReport
+    private void logDebugNoChildren(FileObject directory) {
+        if (log.isDebugEnabled()) {
+            log.debug("Folder at " + directory.getName().getFriendlyURI() + " is empty.");
+        }
+    }
+
+    @ExcludeCoverageFromGeneratedReport
+    private void logDebugErrorWhileGetChildren(FileObject directory, FileSystemException e) {
+        if (log.isDebugEnabled()) {
+            log.debug("The file does not exist, or is not a folder, or an error "
+                    + "has occurred when trying to list the children. File URI : "
+                    + directory.getName().getFriendlyURI(), e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server;
+
+import io.ballerina.stdlib.ftp.util.FileOrder;
+import org.apache.commons.vfs2.FileObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The files that a poll reports when the number of files per poll is limited. The batch keeps the first files in the
+ * configured order in a bounded heap, so only the reported files are held regardless of how many files are listed.
+ * A file that does not fit is handed back to the poll, which leaves it for the next polls.
+ */
+final class FileBatch {
+
+    private final int limit;
+    private final Comparator<Candidate> order;
+    private final PriorityQueue<Candidate> heap;
+
+    FileBatch(int limit, FileOrder fileOrder) {
+        this.limit = limit;
+        this.order = fileOrder.comparator(Candidate::modifiedTime, Candidate::size, Candidate::path);
+        // The heap keeps the last of the selected files on top, so that it is the one replaced by an earlier file
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+    }
+
+    /**
+     * Adds a file to the batch.
+     *
+     * @param candidate The file that is ready to be reported
+     * @return The file that does not fit in the batch, which is either the given file or one that it replaced, or
+     * null if all files fit
+     */
+    Candidate offer(Candidate candidate) {
+        if (heap.size() < limit) {
+            heap.add(candidate);
+            return null;
+        }
+        if (order.compare(candidate, heap.peek()) >= 0) {
+            return candidate;
+        }
+        Candidate replaced = heap.poll();
+        heap.add(candidate);
+        return replaced;
+    }
+
+    /**
+     * Gives the files of the batch in the configured order.
+     *
+     * @return The files to report
+     */
+    List<Candidate> drain() {
+        List<Candidate> candidates = new ArrayList<>(heap);
+        heap.clear();
+        candidates.sort(order);
+        return candidates;
+    }
+
+    /**
+     * A file that is ready to be reported, with the state seen in the listing.
+     */
+    record Candidate(FileObject file, String path, long size, long modifiedTime, boolean reported) {
+    }
+}
@@ -18,6 +18,8 @@
 
 package io.ballerina.stdlib.ftp.transport.server;
 
+import io.ballerina.stdlib.ftp.util.FileNameMatcher;
+
 import java.util.List;
 
 /**
@@ -25,6 +27,7 @@ import java.util.List;
  */
 public class FileDependencyCondition {
     private final String targetPattern;
+    private final FileNameMatcher targetMatcher;
     private final List<String> requiredFiles;
     private final String matchingMode;
     private final int requiredFileCount;
@@ -32,6 +35,7 @@ public class FileDependencyCondition {
     public FileDependencyCondition(String targetPattern, List<String> requiredFiles,
                                     String matchingMode, int requiredFileCount) {
         this.targetPattern = targetPattern;
+        this.targetMatcher = FileNameMatcher.of(targetPattern);
         this.requiredFiles = requiredFiles;
         this.matchingMode = matchingMode;
         this.requiredFileCount = requiredFileCount;
@@ -41,6 +45,10 @@ public class FileDependencyCondition {
         return targetPattern;
     }
 
+    public FileNameMatcher getTargetMatcher() {
+        return targetMatcher;
+    }
+
     public List<String> getRequiredFiles() {
         return requiredFiles;
     }
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of the files seen by a poll, keyed by path with the size and modification time of each file. The entries
+ * are kept in an open-addressing hash table backed by parallel arrays, so that a snapshot of a large directory needs
+ * only a few array allocations and every lookup costs constant time.
+ * <p>
+ * An entry is either settled, when its state was reported, or pending, when the file is still observed for stability
+ * before its state is reported. A pending entry counts the consecutive polls that saw its state and records when the
+ * state was first seen.
+ */
+final class FileSnapshot {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] paths;
+    private long[] sizes;
+    private long[] modifiedTimes;
+    private boolean[] seen;
+    private int[] observations;
+    private long[] stableSince;
+    private boolean[] reported;
+    private int size;
+
+    FileSnapshot() {
+        this(0);
+    }
+
+    /**
+     * Creates a snapshot that can hold the expected number of entries without resizing.
+     *
+     * @param expectedSize The expected number of entries
+     */
+    FileSnapshot(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the entry of a path.
+     *
+     * @param path The file path
+     * @return The index of the entry, or -1 if the path is not in the snapshot
+     */
+    int indexOf(String path) {
+        int mask = paths.length - 1;
+        for (int i = slot(path, mask); paths[i] != null; i = (i + 1) & mask) {
+            if (paths[i].equals(path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    long sizeAt(int index) {
+        return sizes[index];
+    }
+
+    long modifiedTimeAt(int index) {
+        return modifiedTimes[index];
+    }
+
+    /**
+     * Gives the number of consecutive polls that saw the state of a pending entry.
+     *
+     * @param index The index of the entry
+     * @return The number of observations, or 0 if the entry is settled
+     */
+    int observationsAt(int index) {
+        return observations[index];
+    }
+
+    long stableSinceAt(int index) {
+        return stableSince[index];
+    }
+
+    /**
+     * Checks whether the file of an entry was reported, either in its current state or, for a pending entry, in an
+     * earlier state.
+     *
+     * @param index The index of the entry
+     * @return true if the file was reported
+     */
+    boolean isReportedAt(int index) {
+        return reported[index];
+    }
+
+    /**
+     * Records that the file of an entry still exists.
+     *
+     * @param index The index of the entry
+     */
+    void markSeen(int index) {
+        seen[index] = true;
+    }
+
+    /**
+     * Adds or replaces the entry of a path with a settled entry.
+     *
+     * @param path         The file path
+     * @param fileSize     The size of the file
+     * @param modifiedTime The modification time of the file
+     */
+    void put(String path, long fileSize, long modifiedTime) {
+        int i = insert(path);
+        sizes[i] = fileSize;
+        modifiedTimes[i] = modifiedTime;
+        observations[i] = 0;
+        stableSince[i] = 0;
+        reported[i] = true;
+    }
+
+    /**
+     * Adds or replaces the entry of a path with a pending entry.
+     *
+     * @param path         The file path
+     * @param fileSize     The observed size of the file
+     * @param modifiedTime The observed modification time of the file
+     * @param count        The number of consecutive polls that saw this state
+     * @param since        The time at which this state was first seen, in milliseconds
+     * @param wasReported  Whether the file was reported in an earlier state
+     */
+    void putPending(String path, long fileSize, long modifiedTime, int count, long since, boolean wasReported) {
+        int i = insert(path);
+        sizes[i] = fileSize;
+        modifiedTimes[i] = modifiedTime;
+        observations[i] = count;
+        stableSince[i] = since;
+        reported[i] = wasReported;
+    }
+
+    /**
+     * Adds or replaces the entry of a path with a copy of an entry of another snapshot.
+     *
+     * @param path   The file path
+     * @param source The snapshot that holds the entry
+     * @param index  The index of the entry in the source
+     */
+    void putFrom(String path, FileSnapshot source, int index) {
+        putPending(path, source.sizes[index], source.modifiedTimes[index], source.observations[index],
+                source.stableSince[index], source.reported[index]);
+    }
+
+    private int insert(String path) {
+        if ((size + 1) * 2 > paths.length) {
+            resize(paths.length * 2);
+        }
+        int mask = paths.length - 1;
+        int i = slot(path, mask);
+        while (paths[i] != null && !paths[i].equals(path)) {
+            i = (i + 1) & mask;
+        }
+        if (paths[i] == null) {
+            paths[i] = path;
+            size++;
+        }
+        return i;
+    }
+
+    /**
+     * Removes the entry of a path. The entries after it in the probe sequence are shifted back, so that lookups do
+     * not need tombstones.
+     *
+     * @param path The file path
+     */
+    void remove(String path) {
+        int hole = indexOf(path);
+        if (hole < 0) {
+            return;
+        }
+        int mask = paths.length - 1;
+        for (int i = (hole + 1) & mask; paths[i] != null; i = (i + 1) & mask) {
+            int home = slot(paths[i], mask);
+            // The entry can fill the hole unless its home slot lies cyclically after the hole and up to the entry
+            boolean reachable = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+            if (!reachable) {
+                paths[hole] = paths[i];
+                sizes[hole] = sizes[i];
+                modifiedTimes[hole] = modifiedTimes[i];
+                seen[hole] = seen[i];
+                observations[hole] = observations[i];
+                stableSince[hole] = stableSince[i];
+                reported[hole] = reported[i];
+                hole = i;
+            }
+        }
+        paths[hole] = null;
+        seen[hole] = false;
+        size--;
+    }
+
+    /**
+     * Gives the paths of the reported entries that were not marked as seen, which are the reported files that no
+     * longer exist. Pending files that disappear were never reported, so they are left out.
+     *
+     * @return The unseen paths
+     */
+    List<String> getUnseenPaths() {
+        List<String> unseen = new ArrayList<>();
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i] != null && !seen[i] && reported[i]) {
+                unseen.add(paths[i]);
+            }
+        }
+        return unseen;
+    }
+
+    private void resize(int capacity) {
+        String[] oldPaths = paths;
+        long[] oldSizes = sizes;
+        long[] oldModifiedTimes = modifiedTimes;
+        boolean[] oldSeen = seen;
+        int[] oldObservations = observations;
+        long[] oldStableSince = stableSince;
+        boolean[] oldReported = reported;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldPaths.length; j++) {
+            if (oldPaths[j] != null) {
+                int i = slot(oldPaths[j], mask);
+                while (paths[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                paths[i] = oldPaths[j];
+                sizes[i] = oldSizes[j];
+                modifiedTimes[i] = oldModifiedTimes[j];
+                seen[i] = oldSeen[j];
+                observations[i] = oldObservations[j];
+                stableSince[i] = oldStableSince[j];
+                reported[i] = oldReported[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        paths = new String[capacity];
+        sizes = new long[capacity];
+        modifiedTimes = new long[capacity];
+        seen = new boolean[capacity];
+        observations = new int[capacity];
+        stableSince = new long[capacity];
+        reported = new boolean[capacity];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Keeps the load factor at or below one half, so that probe sequences stay short
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int slot(String path, int mask) {
+        int hash = path.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -23,9 +23,15 @@ import io.ballerina.stdlib.ftp.server.FtpListener;
 import io.ballerina.stdlib.ftp.transport.listener.RemoteFileSystemListener;
 import io.ballerina.stdlib.ftp.transport.message.FileInfo;
 import io.ballerina.stdlib.ftp.transport.message.RemoteFileSystemEvent;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.ProcessedFile;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.ProcessedFileStore;
+import io.ballerina.stdlib.ftp.transport.server.coordination.PartitionMembership;
 import io.ballerina.stdlib.ftp.transport.server.util.FileTransportUtils;
 import io.ballerina.stdlib.ftp.util.ExcludeCoverageFromGeneratedReport;
+import io.ballerina.stdlib.ftp.util.FileNameMatcher;
+import io.ballerina.stdlib.ftp.util.FileOrder;
 import io.ballerina.stdlib.ftp.util.FtpConstants;
+import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileSystemManager;
@@ -35,13 +41,16 @@ import org.apache.commons.vfs2.VFS;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Provides the capability to process a file and move/delete it afterwards.
@@ -54,13 +63,48 @@ public class RemoteFileSystemConsumer {
     private RemoteFileSystemListener remoteFileSystemListener;
     private String listeningDirURI;
     private FileObject listeningDir;
-    private String fileNamePattern = null;
+    private FileNameMatcher fileNameMatcher = null;
     private FileSystemManager fileSystemManager;
     private FileSystemOptions fileSystemOptions;
+    private DirectoryTraversal directoryTraversal;
 
-    private List<String> processed = new ArrayList<>();
-    private List<String> current;
+    // Files reported by the previous poll, compared with each listing to find added, changed and deleted files
+    private FileSnapshot snapshot = new FileSnapshot();
+    private FileSnapshot nextSnapshot;
     private List<FileInfo> addedFileInfo;
+    private List<FileInfo> modifiedFileInfo;
+    // Listing of the listening directory in the current poll, and the index of its files for dependency checks
+    private FileObject[] listedChildren;
+    private SiblingIndex siblingIndex;
+
+    // Persisted state of the reported files, loaded into the snapshot when polling starts or resumes. A file is
+    // recorded by the first poll after its callbacks complete, and is kept in the snapshot until it is recorded
+    private ProcessedFileStore processedFileStore;
+    private String checkpointScope;
+    private long checkpointReloadInterval;
+    private long lastPollEndTime;
+    private final Map<String, ProcessedFile> runningFiles = new ConcurrentHashMap<>();
+    private final Set<String> runningDeletions = ConcurrentHashMap.newKeySet();
+    private final Map<String, ProcessedFile> completedFiles = new ConcurrentHashMap<>();
+    private final Map<String, String> completedDeletions = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+    // Files whose content could not be fetched, which are left out of the snapshot so that the next poll reports them
+    private final Set<String> filesToRetry = ConcurrentHashMap.newKeySet();
+
+    // Work sharing: only the files owned by this member are reported, and the state is reloaded when owners change
+    private PartitionMembership partitionMembership;
+    private long membershipVersion = -1;
+
+    // Stability guard: a file is reported once the same state is seen by this many polls, or has been quiet this long
+    private int stabilityObservations = 1;
+    private long stabilityQuietPeriod = -1; // in milliseconds, -1 means disabled
+    private int pendingFileCount;
+
+    // Batch limit: a poll reports at most this many files in the given order, and leaves the rest for the next polls
+    private int maxFilesPerPoll = -1; // -1 means unlimited
+    private FileOrder fileOrder = FileOrder.OLDEST_FIRST;
+    private FileBatch fileBatch;
+    private int postponedFileCount;
 
     // Advanced file selection fields
     private double minAge = -1; // in seconds, -1 means disabled
@@ -101,7 +145,7 @@ public class RemoteFileSystemConsumer {
         }
         Object fileNamePatternObj = fileProperties.get(FtpConstants.FILE_NAME_PATTERN);
         if (fileNamePatternObj != null) {
-            fileNamePattern = fileNamePatternObj.toString();
+            fileNameMatcher = FileNameMatcher.of(fileNamePatternObj.toString());
         }
 
         // Parse file age filter configuration
@@ -132,6 +176,42 @@ public class RemoteFileSystemConsumer {
                 }
             }
         }
+        directoryTraversal = createDirectoryTraversal(fileProperties);
+        if (fileProperties.get(FtpConstants.PROCESSED_FILE_STORE) instanceof ProcessedFileStore store) {
+            processedFileStore = store;
+            checkpointScope = fileProperties.get(FtpConstants.CHECKPOINT_NAME) + ":" + listeningDir.getName().getPath();
+            Object reloadInterval = fileProperties.get(FtpConstants.CHECKPOINT_RELOAD_INTERVAL);
+            checkpointReloadInterval = reloadInterval instanceof Long interval ? interval : 0;
+        }
+        if (fileProperties.get(FtpConstants.PARTITION_MEMBERSHIP) instanceof PartitionMembership membership) {
+            partitionMembership = membership;
+        }
+        if (fileProperties.get(FtpConstants.STABILITY_OBSERVATIONS) instanceof Integer observations) {
+            stabilityObservations = observations;
+        }
+        if (fileProperties.get(FtpConstants.STABILITY_QUIET_PERIOD) instanceof Long quietPeriod) {
+            stabilityQuietPeriod = quietPeriod;
+        }
+        if (fileProperties.get(FtpConstants.POLL_BATCH_MAX_FILES) instanceof Integer maxFiles) {
+            maxFilesPerPoll = maxFiles;
+        }
+        if (fileProperties.get(FtpConstants.POLL_BATCH_ORDER) instanceof String order) {
+            fileOrder = FileOrder.fromValue(order);
+        }
+    }
+
+    private DirectoryTraversal createDirectoryTraversal(Map<String, Object> fileProperties) {
+        Object maxDepth = fileProperties.get(FtpConstants.DIRECTORY_SCAN_MAX_DEPTH);
+        Object parallelism = fileProperties.get(FtpConstants.DIRECTORY_SCAN_PARALLELISM);
+        List<String> excludedDirectories = new ArrayList<>();
+        if (fileProperties.get(FtpConstants.DIRECTORY_SCAN_EXCLUDED_DIRECTORIES) instanceof List<?> excluded) {
+            for (Object pattern : excluded) {
+                excludedDirectories.add(pattern.toString());
+            }
+        }
+        return new DirectoryTraversal(listeningDir.getName(), fileSystemOptions, fileNameMatcher, excludedDirectories,
+                maxDepth instanceof Integer depth ? depth : DirectoryTraversal.UNLIMITED_DEPTH,
+                parallelism instanceof Integer lanes ? lanes : 1);
     }
 
     public RemoteFileSystemConsumer(Map<String, Object> fileProperties,
@@ -142,14 +222,36 @@ public class RemoteFileSystemConsumer {
         this.dependencyConditions = conditions;
     }
 
+    /**
+     * Checks whether the listener can take the changes of a poll. A poll is skipped while the callbacks of the
+     * previous polls are still queued.
+     *
+     * @return true if the listener is ready for a poll
+     */
+    public boolean isReady() {
+        return remoteFileSystemListener.isReady();
+    }
+
     /**
      * Do the file processing operation for the given set of properties. Do the
      * checks and pass the control to file system processor thread/threads.
      *
+     * @return true if the poll reported changes or saw files that are not stable yet
      * @throws RemoteFileSystemConnectorException for all the error situation.
      */
-    public void consume() throws RemoteFileSystemConnectorException {
+    public boolean consume() throws RemoteFileSystemConnectorException {
+        recordCompletedFiles();
+        if (!remoteFileSystemListener.isReady()) {
+            // The callbacks of the previous polls are still queued, so listing now would only defer the files
+            if (log.isDebugEnabled()) {
+                log.debug("Skipping the poll of {} as the dispatch queue is full",
+                        FileTransportUtils.maskUrlPassword(listeningDirURI));
+            }
+            lastPollEndTime = System.currentTimeMillis();
+            return false;
+        }
         logDebugConsumeStarted();
+        boolean changesFound = false;
         try {
             boolean isFileExists; // Initially assume that the file doesn't exist
             boolean isFileReadable; // Initially assume that the file is not readable
@@ -157,40 +259,58 @@ public class RemoteFileSystemConsumer {
             isFileExists = listeningDir.exists();
             isFileReadable = listeningDir.isReadable();
             if (isFileExists && isFileReadable) {
-                current = new ArrayList<>();
+                boolean membershipChanged = hasMembershipChanged();
+                if (processedFileStore != null && (lastPollEndTime == 0
+                        || System.currentTimeMillis() - lastPollEndTime > checkpointReloadInterval
+                        || membershipChanged)) {
+                    loadCheckpoint();
+                }
+                retryFailedFiles();
+                nextSnapshot = new FileSnapshot(snapshot.size());
+                pendingFileCount = 0;
+                fileBatch = maxFilesPerPoll > 0 ? new FileBatch(maxFilesPerPoll, fileOrder) : null;
+                postponedFileCount = 0;
                 addedFileInfo = new ArrayList<>();
+                modifiedFileInfo = new ArrayList<>();
                 FileObject[] children = null;
                 try {
                     children = listeningDir.getChildren();
                 } catch (FileSystemException ignored) {
                     logDebugErrorWhileGetChildrenFromDirListener(ignored);
                 }
-                if (children == null || children.length == 0) {
+                if (children == null) {
+                    // The listing failed, so the files of the previous poll are not treated as deleted
                     logDebugNoChildrenFromDirWhileConsuming();
                 } else {
+                    if (children.length == 0) {
+                        logDebugNoChildrenFromDirWhileConsuming();
+                    }
+                    listedChildren = children;
                     handleDirectory(children);
-                    List<String> deleted = new ArrayList<>();
-                    if (processed.size() != current.size()) {
-                        final Iterator<String> it = processed.iterator();
-                        while (it.hasNext()) {
-                            String fileName = it.next();
-                            if (!current.contains(fileName)) {
-                                // File got delete between previous and this scan.
-                                deleted.add(fileName);
-                                // Remove from processed list.
-                                it.remove();
-                            }
-                        }
+                    // Files of the previous poll that were not seen in this listing got deleted in between
+                    List<String> deleted = snapshot.getUnseenPaths();
+                    if (partitionMembership != null) {
+                        removeFilesOfOtherMembers(deleted);
                     }
-                    try {
-                        if (addedFileInfo.size() > 0 || deleted.size() > 0) {
-                            RemoteFileSystemEvent message = new RemoteFileSystemEvent(addedFileInfo, deleted);
+                    FileSnapshot previousSnapshot = snapshot;
+                    snapshot = nextSnapshot;
+                    changesFound = pendingFileCount > 0;
+                    if (addedFileInfo.size() > 0 || modifiedFileInfo.size() > 0 || deleted.size() > 0) {
+                        changesFound = true;
+                        RemoteFileSystemEvent message = new RemoteFileSystemEvent(addedFileInfo,
+                                modifiedFileInfo, deleted);
+                        message.setCompletionListener(processedFileStore != null ? new CheckpointRecorder(deleted)
+                                : new RetryRecorder());
+                        try {
                             remoteFileSystemListener.onMessage(message);
+                        } catch (Exception e) {
+                            remoteFileSystemListener.onError(e);
                         }
-                    } catch (Exception e) {
-                        remoteFileSystemListener.onError(e);
+                        if (!message.getDeferredFiles().isEmpty()) {
+                            restoreDeferredFiles(previousSnapshot, message.getDeferredFiles(), deleted);
+                        }
+                        message.dispatchCompleted();
                     }
-
                 }
             } else {
                 String errorMsg = String.format("Unable to access or read file or directory :  %s. Reason: %s",
@@ -203,9 +323,212 @@ public class RemoteFileSystemConsumer {
             throw new RemoteFileSystemConnectorException(
                     "Unable to get details from remote server.", e);
         } finally {
+            listedChildren = null;
+            siblingIndex = null;
+            fileBatch = null;
+            lastPollEndTime = System.currentTimeMillis();
             closeDirectories();
         }
         logDebugConsumeStopped();
+        return changesFound;
+    }
+
+    /**
+     * Gives the files whose callbacks were deferred their state from before this poll, so that the next poll reports
+     * them again, and leaves them out of the checkpoint.
+     */
+    private void restoreDeferredFiles(FileSnapshot previousSnapshot, Set<String> deferred, List<String> deleted) {
+        for (String path : deferred) {
+            int index = previousSnapshot.indexOf(path);
+            if (index >= 0) {
+                snapshot.putFrom(path, previousSnapshot, index);
+            } else {
+                snapshot.remove(path);
+            }
+        }
+        addedFileInfo.removeIf(info -> deferred.contains(info.getFileName().getURI()));
+        modifiedFileInfo.removeIf(info -> deferred.contains(info.getFileName().getURI()));
+        deleted.removeIf(deferred::contains);
+        runningFiles.keySet().removeAll(deferred);
+        runningDeletions.removeAll(deferred);
+        if (log.isDebugEnabled()) {
+            log.debug("Deferred {} files of {} to the next poll", deferred.size(),
+                    FileTransportUtils.maskUrlPassword(listeningDirURI));
+        }
+    }
+
+    /**
+     * Removes the files whose content could not be fetched from the snapshot, so that this poll reports them again.
+     */
+    private void retryFailedFiles() {
+        if (filesToRetry.isEmpty()) {
+            return;
+        }
+        for (Iterator<String> iterator = filesToRetry.iterator(); iterator.hasNext(); ) {
+            snapshot.remove(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the files recorded in the checkpoint store, so that files that were reported before
+     * a restart, or by another member of the coordination group, are not reported again. The files whose callbacks
+     * are still running are not recorded yet, so their reported state is kept.
+     */
+    private void loadCheckpoint() {
+        try {
+            List<ProcessedFile> files = processedFileStore.load(checkpointScope);
+            FileSnapshot loaded = new FileSnapshot(files.size() + runningFiles.size());
+            FileName rootName = listeningDir.getName();
+            for (ProcessedFile file : files) {
+                loaded.put(fileSystemManager.resolveName(rootName, file.path()).getURI(), file.size(),
+                        file.modifiedTime());
+            }
+            for (Map.Entry<String, ProcessedFile> runningFile : runningFiles.entrySet()) {
+                loaded.put(runningFile.getKey(), runningFile.getValue().size(), runningFile.getValue().modifiedTime());
+            }
+            for (String deletedFile : runningDeletions) {
+                loaded.remove(deletedFile);
+            }
+            snapshot = loaded;
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded {} processed files of {} from the checkpoint store", files.size(),
+                        FileTransportUtils.maskUrlPassword(listeningDirURI));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load the processed files of " + FileTransportUtils.maskUrlPassword(listeningDirURI)
+                    + " from the checkpoint store. Existing files may be reported again.", e);
+        }
+    }
+
+    /**
+     * Writes the files whose callbacks completed since the previous poll to the checkpoint store in one update, so
+     * that the callbacks do not each wait for a write. The files are kept in the snapshot that is loaded from the
+     * store until they are written.
+     */
+    private void recordCompletedFiles() {
+        if (completedFiles.isEmpty() && completedDeletions.isEmpty()) {
+            return;
+        }
+        Map<String, ProcessedFile> processed = new HashMap<>();
+        Map<String, String> removed = new HashMap<>();
+        for (Map.Entry<String, ProcessedFile> entry : completedFiles.entrySet()) {
+            if (completedFiles.remove(entry.getKey(), entry.getValue())) {
+                processed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, String> entry : completedDeletions.entrySet()) {
+            if (completedDeletions.remove(entry.getKey(), entry.getValue())) {
+                removed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        try {
+            processedFileStore.update(checkpointScope, new ArrayList<>(processed.values()),
+                    new ArrayList<>(removed.values()));
+        } catch (IOException e) {
+            log.warn("Failed to record the processed files of " + FileTransportUtils.maskUrlPassword(listeningDirURI)
+                    + " in the checkpoint store", e);
+        } finally {
+            for (Map.Entry<String, ProcessedFile> entry : processed.entrySet()) {
+                runningFiles.remove(entry.getKey(), entry.getValue());
+            }
+            runningDeletions.removeAll(removed.keySet());
+        }
+    }
+
+    /**
+     * Reports the files whose content could not be fetched again in the next poll.
+     */
+    private class RetryRecorder implements RemoteFileSystemEvent.CompletionListener {
+
+        @Override
+        public void onCompleted(Collection<String> files) {
+        }
+
+        @Override
+        public void onFailed(Collection<String> files) {
+        }
+
+        @Override
+        public void onRetry(Collection<String> files) {
+            filesToRetry.addAll(files);
+        }
+    }
+
+    /**
+     * Queues the files reported by a poll for the checkpoint store once their callbacks complete, so that a file
+     * whose callback did not complete before a restart is reported again. The paths are stored relative to the
+     * listening directory, so that the credentials in the URI are not persisted and members with different
+     * credentials share the state. A file whose callback failed, or whose content could not be fetched, is not
+     * recorded.
+     */
+    private final class CheckpointRecorder extends RetryRecorder {
+
+        private final Map<String, ProcessedFile> processedFiles = new HashMap<>();
+        private final Map<String, String> removedFiles = new HashMap<>();
+
+        CheckpointRecorder(List<String> deleted) throws FileSystemException {
+            FileName rootName = listeningDir.getName();
+            for (FileInfo info : addedFileInfo) {
+                addProcessedFile(rootName, info);
+            }
+            for (FileInfo info : modifiedFileInfo) {
+                addProcessedFile(rootName, info);
+            }
+            for (String path : deleted) {
+                removedFiles.put(path, rootName.getRelativeName(fileSystemManager.resolveURI(path)));
+                runningDeletions.add(path);
+            }
+        }
+
+        private void addProcessedFile(FileName rootName, FileInfo info) throws FileSystemException {
+            String uri = info.getFileName().getURI();
+            ProcessedFile processedFile = new ProcessedFile(rootName.getRelativeName(info.getFileName()),
+                    info.getFileSize(), info.getLastModifiedTime());
+            processedFiles.put(uri, processedFile);
+            runningFiles.put(uri, processedFile);
+        }
+
+        @Override
+        public void onCompleted(Collection<String> files) {
+            // Callbacks that complete after the listener stopped are reported again after a restart
+            if (closed) {
+                forget(files);
+                return;
+            }
+            for (String file : files) {
+                ProcessedFile processedFile = processedFiles.get(file);
+                if (processedFile != null) {
+                    // A file that a later poll reported again is recorded once the later callbacks complete
+                    if (runningFiles.get(file) == processedFile) {
+                        completedFiles.put(file, processedFile);
+                    }
+                } else if (removedFiles.containsKey(file)) {
+                    completedDeletions.put(file, removedFiles.get(file));
+                }
+            }
+        }
+
+        @Override
+        public void onFailed(Collection<String> files) {
+            forget(files);
+        }
+
+        @Override
+        public void onRetry(Collection<String> files) {
+            forget(files);
+            super.onRetry(files);
+        }
+
+        private void forget(Collection<String> files) {
+            for (String file : files) {
+                if (processedFiles.containsKey(file)) {
+                    runningFiles.remove(file, processedFiles.get(file));
+                } else {
+                    runningDeletions.remove(file);
+                }
+            }
+        }
     }
 
     /**
@@ -214,7 +537,10 @@ public class RemoteFileSystemConsumer {
      * @throws RemoteFileSystemConnectorException for all the error situation.
      */
     public Object close() {
+        closed = true;
+        recordCompletedFiles();
         closeDirectories();
+        directoryTraversal.close();
         return remoteFileSystemListener.done();
     }
 
@@ -261,68 +587,180 @@ public class RemoteFileSystemConsumer {
      * @param children The array containing child elements of a folder
      */
     private void handleDirectory(FileObject[] children) throws FileSystemException {
-        for (FileObject child : children) {
-            if (fileNamePattern != null && !child.getName().getBaseName().matches(fileNamePattern)) {
-                logDebugFileNamePatternNotMatched(child);
-            } else {
-                FileType childType = child.getType();
-                if (childType == FileType.FOLDER) {
-                    FileObject[] childFileObject = null;
-                    try {
-                        childFileObject = child.getChildren();
-                    } catch (FileSystemException ignored) {
-                        logDebugErrorWhileGetChildrenInDirHandler(ignored);
-                    }
-                    if (childFileObject == null || childFileObject.length == 0) {
-                        logDebugNoChildrenFromDirInDirHandler(child);
-                    } else {
-                        handleDirectory(childFileObject);
-                    }
-                } else {
-                    current.add(child.getName().getURI());
-                    handleFile(child);
-                }
+        // Subdirectories may be listed concurrently, but the files are processed on the polling thread
+        for (FileObject file : directoryTraversal.collectFiles(children)) {
+            handleFile(file);
+        }
+        if (fileBatch != null) {
+            for (FileBatch.Candidate candidate : fileBatch.drain()) {
+                reportFile(candidate.file(), candidate.path(), candidate.size(), candidate.modifiedTime(),
+                        candidate.reported());
+            }
+            if (postponedFileCount > 0 && log.isDebugEnabled()) {
+                log.debug("{} files of {} are left for the next polls", postponedFileCount,
+                        FileTransportUtils.maskUrlPassword(listeningDirURI));
             }
         }
     }
 
     /**
-     * Process a single file.
+     * Process a single file. A file is reported as added when it is first seen, and as modified when its size or
+     * modification time has changed since it was reported.
      *
      * @param file A single file to be processed
      */
     private void handleFile(FileObject file) throws FileSystemException {
         String path = file.getName().getURI();
+        long fileSize = file.getContent().getSize();
+        long modifiedTime = file.getContent().getLastModifiedTime();
+
+        int index = snapshot.indexOf(path);
+        if (index >= 0) {
+            snapshot.markSeen(index);
+            if (snapshot.observationsAt(index) == 0 && snapshot.sizeAt(index) == fileSize
+                    && snapshot.modifiedTimeAt(index) == modifiedTime) {
+                nextSnapshot.put(path, fileSize, modifiedTime);
+                return;
+            }
+        }
+
+        // Step 1: Leave the files owned by other members of the coordination group to them
+        if (partitionMembership != null && !isOwned(file.getName())) {
+            keepPreviousState(index, path);
+            return;
+        }
 
-        // Step 1: Check file age filter
+        // Step 2: Check file age filter
         if (!passesAgeFilter(file)) {
             logDebugFileFilteredByAge(file);
+            keepPreviousState(index, path);
             return;
         }
 
-        // Step 2: Check file dependencies
+        // Step 3: Check file dependencies
         if (!passesDependencyCheck(file)) {
             logDebugFileFilteredByDependency(file);
+            keepPreviousState(index, path);
+            return;
+        }
+
+        // Step 4: Wait until the file stops changing
+        if (!isStable(index, path, fileSize, modifiedTime)) {
+            logDebugFileNotStable(file);
+            return;
+        }
+
+        boolean reported = index >= 0 && snapshot.isReportedAt(index);
+        if (fileBatch != null) {
+            // Step 5: Report the first files in the configured order, and leave the rest for the next polls
+            FileBatch.Candidate postponed = fileBatch.offer(
+                    new FileBatch.Candidate(file, path, fileSize, modifiedTime, reported));
+            if (postponed != null) {
+                postponeFile(postponed);
+            }
             return;
         }
+        reportFile(file, path, fileSize, modifiedTime, reported);
+    }
+
+    private void reportFile(FileObject file, String path, long fileSize, long modifiedTime, boolean reported)
+            throws FileSystemException {
+        // The size and modification time come from the listing, and the other attributes from its cached entries
+        FileInfo info = FileInfo.fromListing(file, fileSize, modifiedTime);
+        if (reported) {
+            modifiedFileInfo.add(info);
+        } else {
+            addedFileInfo.add(info);
+        }
+        nextSnapshot.put(path, fileSize, modifiedTime);
+    }
+
+    /**
+     * Keeps a file that is ready but does not fit in the batch of this poll as a pending entry that is already
+     * stable, so that a later poll reports it without observing it again. The pending entries are the continuation
+     * point of the batch: each poll selects the next files in order from them and from the files that became ready.
+     */
+    private void postponeFile(FileBatch.Candidate candidate) {
+        pendingFileCount++;
+        postponedFileCount++;
+        nextSnapshot.putPending(candidate.path(), candidate.size(), candidate.modifiedTime(),
+                Math.max(1, stabilityObservations - 1), 0, candidate.reported());
+    }
+
+    /**
+     * Carries the reported state of a file that is filtered out in this poll over to the next snapshot, so that the
+     * file is not reported as deleted and is reported again once it passes the filters with its changes.
+     */
+    private void keepPreviousState(int index, String path) {
+        if (index >= 0) {
+            nextSnapshot.putFrom(path, snapshot, index);
+        }
+    }
+
+    /**
+     * Checks whether this member of the coordination group owns a file. The ownership is decided on the path relative
+     * to the listening directory, which is the same for all members.
+     */
+    private boolean isOwned(FileName fileName) throws FileSystemException {
+        return partitionMembership.owns(listeningDir.getName().getRelativeName(fileName));
+    }
 
-        FileInfo info = new FileInfo(path);
-        info.setFileSize(file.getContent().getSize());
-        info.setLastModifiedTime(file.getContent().getLastModifiedTime());
-        info.setFileName(file.getName());
-        info.setFolder(file.isFolder());
-        info.setFile(file.isFile());
-        info.setPublicURIString(file.getPublicURIString());
-        info.setFileType(file.getType());
-        info.setAttached(file.isAttached());
-        info.setContentOpen(file.isContentOpen());
-        info.setExecutable(file.isExecutable());
-        info.setHidden(file.isHidden());
-        info.setReadable(file.isReadable());
-        info.setWritable(file.isWriteable());
-        info.setUrl(file.getURL());
-        addedFileInfo.add(info);
-        processed.add(path);
+    /**
+     * Leaves the deletions of the files owned by other members of the coordination group to them. Their entries are
+     * dropped from the snapshot, as the owners remove them from the checkpoint store.
+     */
+    private void removeFilesOfOtherMembers(List<String> deleted) throws FileSystemException {
+        Iterator<String> iterator = deleted.iterator();
+        while (iterator.hasNext()) {
+            if (!isOwned(fileSystemManager.resolveURI(iterator.next()))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the members of the coordination group changed since the previous poll. The files that this
+     * member took over may have been reported by their previous owner, so the state is then reloaded.
+     */
+    private boolean hasMembershipChanged() {
+        if (partitionMembership == null) {
+            return false;
+        }
+        long version = partitionMembership.getVersion();
+        if (version == membershipVersion) {
+            return false;
+        }
+        membershipVersion = version;
+        return true;
+    }
+
+    /**
+     * Checks whether a file has stopped changing, which is when the same size and modification time have been seen
+     * by the configured number of consecutive polls, or have not changed for the quiet period. The observations of a
+     * file that is still changing are kept in the next snapshot as a pending entry.
+     *
+     * @return true if the file can be reported
+     */
+    private boolean isStable(int index, String path, long fileSize, long modifiedTime) {
+        if (stabilityObservations <= 1 && stabilityQuietPeriod < 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        int observations = 1;
+        long stableSince = now;
+        if (index >= 0 && snapshot.observationsAt(index) > 0 && snapshot.sizeAt(index) == fileSize
+                && snapshot.modifiedTimeAt(index) == modifiedTime) {
+            observations = snapshot.observationsAt(index) + 1;
+            stableSince = snapshot.stableSinceAt(index);
+        }
+        if (observations >= stabilityObservations
+                || (stabilityQuietPeriod >= 0 && now - stableSince >= stabilityQuietPeriod)) {
+            return true;
+        }
+        pendingFileCount++;
+        nextSnapshot.putPending(path, fileSize, modifiedTime, observations, stableSince,
+                index >= 0 && snapshot.isReportedAt(index));
+        return false;
     }
 
     /**
@@ -393,14 +831,13 @@ public class RemoteFileSystemConsumer {
         // Check each dependency condition
         for (FileDependencyCondition condition : dependencyConditions) {
             // Check if this file matches the target pattern
-            if (!fileName.matches(condition.getTargetPattern())) {
+            FileNameMatcher targetMatcher = condition.getTargetMatcher();
+            if (!targetMatcher.matches(fileName)) {
                 continue;
             }
 
-            // This file matches the target pattern, check if required files exist
-            Pattern targetPatternCompiled = Pattern.compile(condition.getTargetPattern());
-            Matcher matcher = targetPatternCompiled.matcher(fileName);
-
+            // This file matches the target pattern, match again with the compiled pattern for the capture groups
+            Matcher matcher = targetMatcher.getPattern().matcher(fileName);
             if (!matcher.matches()) {
                 continue;
             }
@@ -433,36 +870,25 @@ public class RemoteFileSystemConsumer {
         String matchingMode = condition.getMatchingMode();
 
         // Substitute capture groups in required file patterns
-        List<String> resolvedPatterns = new ArrayList<>();
+        List<FileNameMatcher> resolvedPatterns = new ArrayList<>();
         for (String pattern : requiredPatterns) {
             String resolved = pattern;
             for (Map.Entry<String, String> entry : captureGroups.entrySet()) {
                 resolved = resolved.replace(entry.getKey(), entry.getValue());
             }
-            resolvedPatterns.add(resolved);
+            resolvedPatterns.add(FileNameMatcher.of(resolved));
         }
 
-        // Get all files in the listening directory (shallow, non-recursive)
-        FileObject[] siblings = listeningDir.getChildren();
-        List<String> siblingNames = new ArrayList<>();
-        for (FileObject sibling : siblings) {
-            if (sibling.getType() == FileType.FILE) {
-                siblingNames.add(sibling.getName().getBaseName());
-            }
+        // Files in the listening directory (shallow, non-recursive), indexed once from the listing of this poll
+        if (siblingIndex == null) {
+            siblingIndex = new SiblingIndex(listedChildren);
         }
 
         // Count matches based on matching mode
         if (FtpConstants.DEPENDENCY_MATCHING_MODE_ALL.equals(matchingMode)) {
             // All patterns must have at least one match
-            for (String pattern : resolvedPatterns) {
-                boolean found = false;
-                for (String siblingName : siblingNames) {
-                    if (siblingName.matches(pattern)) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
+            for (FileNameMatcher pattern : resolvedPatterns) {
+                if (siblingIndex.countMatches(pattern, 1) == 0) {
                     return false;
                 }
             }
@@ -470,11 +896,9 @@ public class RemoteFileSystemConsumer {
 
         } else if (FtpConstants.DEPENDENCY_MATCHING_MODE_ANY.equals(matchingMode)) {
             // At least one pattern must have a match
-            for (String pattern : resolvedPatterns) {
-                for (String siblingName : siblingNames) {
-                    if (siblingName.matches(pattern)) {
-                        return true;
-                    }
+            for (FileNameMatcher pattern : resolvedPatterns) {
+                if (siblingIndex.countMatches(pattern, 1) > 0) {
+                    return true;
                 }
             }
             return false;
@@ -482,12 +906,8 @@ public class RemoteFileSystemConsumer {
         } else {
             // Exact count of files must match (across all patterns)
             int matchCount = 0;
-            for (String pattern : resolvedPatterns) {
-                for (String siblingName : siblingNames) {
-                    if (siblingName.matches(pattern)) {
-                        matchCount++;
-                    }
-                }
+            for (FileNameMatcher pattern : resolvedPatterns) {
+                matchCount += siblingIndex.countMatches(pattern, Integer.MAX_VALUE);
             }
             return matchCount == condition.getRequiredFileCount();
         }
@@ -511,30 +931,6 @@ public class RemoteFileSystemConsumer {
         }
     }
 
-    @ExcludeCoverageFromGeneratedReport
-    private void logDebugFileNamePatternNotMatched(FileObject file) {
-        if (log.isDebugEnabled()) {
-            log.debug(file.getName().getFriendlyURI()
-                    + " is not processed because it did not match the specified pattern: " + fileNamePattern);
-        }
-    }
-
-    @ExcludeCoverageFromGeneratedReport
-    private void logDebugNoChildrenFromDirInDirHandler(FileObject child) {
-        if (log.isDebugEnabled()) {
-            log.debug("Folder at " + child.getName().getFriendlyURI() + " is empty.");
-        }
-    }
-
-    @ExcludeCoverageFromGeneratedReport
-    private void logDebugErrorWhileGetChildrenInDirHandler(FileSystemException ignored) {
-        if (log.isDebugEnabled()) {
-            log.debug("The file does not exist, or is not a folder, or an error "
-                    + "has occurred when trying to list the children. File URI : " + FileTransportUtils
-                    .maskUrlPassword(listeningDirURI), ignored);
-        }
-    }
-
     @ExcludeCoverageFromGeneratedReport
     private void logDebugConsumeStarted() {
         if (log.isDebugEnabled()) {
@@ -564,6 +960,14 @@ public class RemoteFileSystemConsumer {
         }
     }
 
+    @ExcludeCoverageFromGeneratedReport
+    private void logDebugFileNotStable(FileObject file) {
+        if (log.isDebugEnabled()) {
+            log.debug("File " + file.getName().getFriendlyURI() + " is still changing and is reported once it is "
+                    + "stable");
+        }
+    }
+
     @ExcludeCoverageFromGeneratedReport
     private void logDebugFileFilteredByDependency(FileObject file) {
         if (log.isDebugEnabled()) {
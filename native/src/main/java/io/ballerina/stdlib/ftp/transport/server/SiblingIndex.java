@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server;
+
+import io.ballerina.stdlib.ftp.util.FileNameMatcher;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the names of the files in a listing, used to resolve dependency conditions without listing the directory
+ * again. A pattern without wildcards is a set lookup. Other patterns are only matched against the names that share
+ * their literal prefix, found by a binary search over the sorted names, or their literal extension, whichever is
+ * fewer.
+ */
+final class SiblingIndex {
+
+    private final Set<String> names;
+    private final String[] sortedNames;
+    private final Map<String, List<String>> namesByExtension;
+
+    SiblingIndex(FileObject[] children) throws FileSystemException {
+        names = new HashSet<>();
+        namesByExtension = new HashMap<>();
+        for (FileObject child : children) {
+            if (child.getType() == FileType.FILE) {
+                String name = child.getName().getBaseName();
+                if (names.add(name)) {
+                    namesByExtension.computeIfAbsent(getExtension(name), extension -> new ArrayList<>()).add(name);
+                }
+            }
+        }
+        sortedNames = names.toArray(new String[0]);
+        Arrays.sort(sortedNames);
+    }
+
+    /**
+     * Counts the file names that match a pattern.
+     *
+     * @param matcher The pattern
+     * @param limit   The count at which to stop looking for more matches
+     * @return The number of matching names, at most the limit
+     */
+    int countMatches(FileNameMatcher matcher, int limit) {
+        String literal = matcher.getLiteral();
+        if (literal != null) {
+            return names.contains(literal) ? 1 : 0;
+        }
+
+        int from = 0;
+        int to = sortedNames.length;
+        String prefix = matcher.getLiteralPrefix();
+        if (!prefix.isEmpty()) {
+            int index = Arrays.binarySearch(sortedNames, prefix);
+            from = index < 0 ? -index - 1 : index;
+            to = from;
+            while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+                to++;
+            }
+        }
+
+        String suffix = matcher.getLiteralSuffix();
+        int extensionIndex = suffix.lastIndexOf('.');
+        if (extensionIndex >= 0) {
+            List<String> candidates = namesByExtension.getOrDefault(suffix.substring(extensionIndex + 1), List.of());
+            if (candidates.size() < to - from) {
+                return countMatches(matcher, candidates, limit);
+            }
+        }
+        return countMatches(matcher, Arrays.asList(sortedNames).subList(from, to), limit);
+    }
+
+    private static int countMatches(FileNameMatcher matcher, List<String> candidates, int limit) {
+        int count = 0;
+        for (String name : candidates) {
+            if (matcher.matches(name) && ++count >= limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static String getExtension(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.checkpoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the state in a table of the coordination database, so that the member that takes over a coordination group
+ * continues from the files reported by the previous active member. A poll writes the rows of the reported and deleted
+ * files in one transaction. The rows are keyed by a digest of the scope and the path, so that paths of any length
+ * can be stored.
+ */
+public final class JdbcProcessedFileStore implements ProcessedFileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcProcessedFileStore.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS ftp_processed_files ("
+            + "entry_id CHAR(64) NOT NULL PRIMARY KEY, scope_name VARCHAR(512) NOT NULL, file_path TEXT NOT NULL, "
+            + "file_size BIGINT NOT NULL, modified_time BIGINT NOT NULL";
+    private static final String SELECT = "SELECT file_path, file_size, modified_time FROM ftp_processed_files "
+            + "WHERE scope_name = ?";
+    private static final String INSERT = "INSERT INTO ftp_processed_files "
+            + "(entry_id, scope_name, file_path, file_size, modified_time) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM ftp_processed_files WHERE entry_id = ?";
+
+    /**
+     * Databases supported by the coordination of a listener.
+     */
+    public enum Dialect {
+        MYSQL("jdbc:mysql://",
+                CREATE_TABLE + ", INDEX ftp_processed_files_scope (scope_name(255)))",
+                null,
+                INSERT + " ON DUPLICATE KEY UPDATE file_size = VALUES(file_size), "
+                        + "modified_time = VALUES(modified_time)"),
+        POSTGRESQL("jdbc:postgresql://",
+                CREATE_TABLE + ")",
+                "CREATE INDEX IF NOT EXISTS ftp_processed_files_scope ON ftp_processed_files (scope_name)",
+                INSERT + " ON CONFLICT (entry_id) DO UPDATE SET file_size = EXCLUDED.file_size, "
+                        + "modified_time = EXCLUDED.modified_time");
+
+        private final String urlPrefix;
+        private final String createTable;
+        private final String createIndex;
+        private final String upsert;
+
+        Dialect(String urlPrefix, String createTable, String createIndex, String upsert) {
+            this.urlPrefix = urlPrefix;
+            this.createTable = createTable;
+            this.createIndex = createIndex;
+            this.upsert = upsert;
+        }
+
+        /**
+         * Gives the JDBC URL of a database.
+         *
+         * @param host     The database host
+         * @param port     The database port
+         * @param database The database name, or null for the default database of the user
+         * @return The JDBC URL
+         */
+        public String getUrl(String host, long port, String database) {
+            return urlPrefix + host + ":" + port + "/" + (database != null ? database : "");
+        }
+    }
+
+    private final Dialect dialect;
+    private final String url;
+    private final String user;
+    private final String password;
+    // Serializes the statements on the connection, and leaves the carrier of a waiting virtual thread free
+    private final ReentrantLock lock = new ReentrantLock();
+    private Connection connection;
+
+    /**
+     * Connects to the database and creates the checkpoint table if it does not exist.
+     *
+     * @param dialect  The database dialect
+     * @param url      The JDBC URL of the database
+     * @param user     The database user, or null
+     * @param password The password of the user, or null
+     * @throws IOException if the database cannot be reached or the table cannot be created
+     */
+    public JdbcProcessedFileStore(Dialect dialect, String url, String user, String password) throws IOException {
+        this.dialect = dialect;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        try (Statement statement = getConnection().createStatement()) {
+            statement.execute(dialect.createTable);
+            if (dialect.createIndex != null) {
+                statement.execute(dialect.createIndex);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            closeConnection();
+            throw new IOException("Failed to create the checkpoint table: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<ProcessedFile> load(String scope) throws IOException {
+        List<ProcessedFile> files = new ArrayList<>();
+        lock.lock();
+        try (PreparedStatement statement = getConnection().prepareStatement(SELECT)) {
+            statement.setString(1, scope);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    files.add(new ProcessedFile(resultSet.getString(1), resultSet.getLong(2), resultSet.getLong(3)));
+                }
+            }
+            // Ends the read transaction, so that the connection does not stay in a transaction between polls
+            connection.commit();
+        } catch (SQLException e) {
+            closeConnection();
+            throw new IOException("Failed to read the processed files: " + e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+        return files;
+    }
+
+    @Override
+    public void update(String scope, List<ProcessedFile> processed, List<String> removed) throws IOException {
+        if (processed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            Connection conn = getConnection();
+            try (PreparedStatement upsert = conn.prepareStatement(dialect.upsert);
+                 PreparedStatement delete = conn.prepareStatement(DELETE)) {
+                for (ProcessedFile processedFile : processed) {
+                    upsert.setString(1, ScopeKeys.hash(scope, processedFile.path()));
+                    upsert.setString(2, scope);
+                    upsert.setString(3, processedFile.path());
+                    upsert.setLong(4, processedFile.size());
+                    upsert.setLong(5, processedFile.modifiedTime());
+                    upsert.addBatch();
+                }
+                for (String path : removed) {
+                    delete.setString(1, ScopeKeys.hash(scope, path));
+                    delete.addBatch();
+                }
+                if (!processed.isEmpty()) {
+                    upsert.executeBatch();
+                }
+                if (!removed.isEmpty()) {
+                    delete.executeBatch();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            closeConnection();
+            throw new IOException("Failed to write the processed files: " + e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closeConnection();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null || !connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            closeConnection();
+            connection = DriverManager.getConnection(url, user, password);
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error while closing the checkpoint database connection: {}", e.getMessage());
+        } finally {
+            connection = null;
+        }
+    }
+}
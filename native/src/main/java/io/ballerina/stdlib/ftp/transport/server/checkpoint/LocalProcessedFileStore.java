@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.checkpoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the state of each scope in an append-only log file in a local directory. Each update appends one record for
+ * each processed or deleted file and syncs the records to the disk, so the cost of an update does not depend on the
+ * number of files in the directory. Once more records than the compaction threshold are obsolete, because later
+ * records of the same files replace or remove them, the log is rewritten with only the current state of each file. A
+ * record that was partly written when the process stopped is discarded when the log is read.
+ */
+public final class LocalProcessedFileStore implements ProcessedFileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalProcessedFileStore.class);
+
+    private static final byte PROCESSED = 1;
+    private static final byte REMOVED = 2;
+    private static final int MAX_PATH_LENGTH = 1 << 20;
+    private static final String FILE_PREFIX = "processed-";
+    private static final String FILE_SUFFIX = ".checkpoint";
+
+    private final Path directory;
+    private final int compactionThreshold;
+    private final Map<String, ScopeLog> scopeLogs = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a store in a local directory.
+     *
+     * @param directory           The directory of the log files, which is created if it does not exist
+     * @param compactionThreshold The number of obsolete records after which a log is compacted
+     * @throws IOException if the directory cannot be created
+     */
+    public LocalProcessedFileStore(Path directory, int compactionThreshold) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public List<ProcessedFile> load(String scope) throws IOException {
+        return getScopeLog(scope).load();
+    }
+
+    @Override
+    public void update(String scope, List<ProcessedFile> processed, List<String> removed) throws IOException {
+        getScopeLog(scope).append(processed, removed);
+    }
+
+    @Override
+    public void close() {
+        for (ScopeLog scopeLog : scopeLogs.values()) {
+            scopeLog.close();
+        }
+        scopeLogs.clear();
+    }
+
+    private static void writePath(DataOutputStream out, String path) throws IOException {
+        byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(pathBytes.length);
+        out.write(pathBytes);
+    }
+
+    private ScopeLog getScopeLog(String scope) {
+        return scopeLogs.computeIfAbsent(scope, key -> new ScopeLog(
+                directory.resolve(FILE_PREFIX + ScopeKeys.hash(key).substring(0, 32) + FILE_SUFFIX)));
+    }
+
+    /**
+     * Log file of a scope. The records are a type byte followed by the length and the UTF-8 bytes of the path, and
+     * for a processed file also the size and the modification time.
+     */
+    private final class ScopeLog {
+
+        private final Path file;
+        // Held while the log is read or synced, which must not pin the carrier of a virtual thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private FileOutputStream fileOutput;
+        private DataOutputStream output;
+        // Paths with a current record, and the records that are replaced or removed by later records
+        private Set<String> paths;
+        private long obsoleteRecords;
+
+        ScopeLog(Path file) {
+            this.file = file;
+        }
+
+        List<ProcessedFile> load() throws IOException {
+            lock.lock();
+            try {
+                Map<String, ProcessedFile> files = new HashMap<>();
+                readState(files);
+                if (obsoleteRecords > compactionThreshold) {
+                    compact(files);
+                }
+                return new ArrayList<>(files.values());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void append(List<ProcessedFile> processed, List<String> removed) throws IOException {
+            if (processed.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            lock.lock();
+            try {
+                write(processed, removed);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closeOutput();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Appends the records of an update and compacts the log once it has too many obsolete records.
+         */
+        private void write(List<ProcessedFile> processed, List<String> removed) throws IOException {
+            if (paths == null) {
+                readState(new HashMap<>());
+            }
+            DataOutputStream out = getOutput();
+            for (ProcessedFile processedFile : processed) {
+                out.writeByte(PROCESSED);
+                writePath(out, processedFile.path());
+                out.writeLong(processedFile.size());
+                out.writeLong(processedFile.modifiedTime());
+            }
+            for (String path : removed) {
+                out.writeByte(REMOVED);
+                writePath(out, path);
+            }
+            out.flush();
+            fileOutput.getFD().sync();
+            for (ProcessedFile processedFile : processed) {
+                if (!paths.add(processedFile.path())) {
+                    obsoleteRecords++;
+                }
+            }
+            for (String path : removed) {
+                // A removal makes the record of the file obsolete, and is itself obsolete
+                obsoleteRecords += paths.remove(path) ? 2 : 1;
+            }
+            if (obsoleteRecords > compactionThreshold) {
+                Map<String, ProcessedFile> files = new HashMap<>();
+                read(files);
+                compact(files);
+            }
+        }
+
+        /**
+         * Reads the log into the given map, and counts the records that are replaced or removed by later records.
+         */
+        private void readState(Map<String, ProcessedFile> files) throws IOException {
+            long records = read(files);
+            paths = new HashSet<>(files.keySet());
+            obsoleteRecords = records - files.size();
+        }
+
+        /**
+         * Reads the log into the given map and truncates a partly written or corrupted tail.
+         *
+         * @return The number of records that were read
+         */
+        private long read(Map<String, ProcessedFile> files) throws IOException {
+            long records = 0;
+            long validLength = 0;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                int type;
+                while ((type = in.read()) != -1) {
+                    if (type != PROCESSED && type != REMOVED) {
+                        break;
+                    }
+                    int length = in.readInt();
+                    if (length < 0 || length > MAX_PATH_LENGTH) {
+                        break;
+                    }
+                    byte[] pathBytes = new byte[length];
+                    in.readFully(pathBytes);
+                    String path = new String(pathBytes, StandardCharsets.UTF_8);
+                    if (type == PROCESSED) {
+                        files.put(path, new ProcessedFile(path, in.readLong(), in.readLong()));
+                        validLength += Long.BYTES * 2;
+                    } else {
+                        files.remove(path);
+                    }
+                    validLength += 1 + Integer.BYTES + length;
+                    records++;
+                }
+            } catch (NoSuchFileException e) {
+                return 0;
+            } catch (EOFException e) {
+                // The last record was not completely written
+            }
+            if (Files.size(file) > validLength) {
+                log.warn("Discarding the incomplete tail of checkpoint file {}", file);
+                closeOutput();
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                }
+            }
+            return records;
+        }
+
+        private void compact(Map<String, ProcessedFile> files) throws IOException {
+            Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileOutputStream compactedOutput = new FileOutputStream(compacted.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(compactedOutput))) {
+                for (ProcessedFile processedFile : files.values()) {
+                    out.writeByte(PROCESSED);
+                    writePath(out, processedFile.path());
+                    out.writeLong(processedFile.size());
+                    out.writeLong(processedFile.modifiedTime());
+                }
+                out.flush();
+                compactedOutput.getFD().sync();
+            }
+            closeOutput();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            paths = new HashSet<>(files.keySet());
+            obsoleteRecords = 0;
+            log.debug("Compacted checkpoint file {} to {} files", file, files.size());
+        }
+
+        private DataOutputStream getOutput() throws IOException {
+            if (output == null) {
+                fileOutput = new FileOutputStream(file.toFile(), true);
+                output = new DataOutputStream(new BufferedOutputStream(fileOutput));
+            }
+            return output;
+        }
+
+        private void closeOutput() {
+            if (output == null) {
+                return;
+            }
+            try {
+                output.close();
+            } catch (IOException e) {
+                log.debug("Error while closing checkpoint file {}: {}", file, e.getMessage());
+            } finally {
+                output = null;
+                fileOutput = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.checkpoint;
+
+/**
+ * State of a file that was reported by a listener.
+ *
+ * @param path         The path of the file relative to the monitored directory
+ * @param size         The size of the file when it was reported
+ * @param modifiedTime The modification time of the file when it was reported
+ */
+public record ProcessedFile(String path, long size, long modifiedTime) {
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.checkpoint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Persists the state of the files reported by a listener, so that a listener that is restarted, or a member that
+ * takes over a coordination group, continues from the files that were already reported instead of reporting every
+ * existing file again. The state is kept per scope, which identifies a monitored directory of a listener. A store is
+ * shared by the monitored directories of a listener, which are polled concurrently, so implementations must be
+ * thread safe.
+ */
+public interface ProcessedFileStore extends Closeable {
+
+    /**
+     * Reads the state of the files of a scope.
+     *
+     * @param scope The scope
+     * @return The files of the scope
+     * @throws IOException if the state cannot be read
+     */
+    List<ProcessedFile> load(String scope) throws IOException;
+
+    /**
+     * Records the files that were reported by a poll and the files that were deleted since the previous poll.
+     *
+     * @param scope     The scope
+     * @param processed The files that were reported as added or modified
+     * @param removed   The paths of the files that were reported as deleted
+     * @throws IOException if the state cannot be written
+     */
+    void update(String scope, List<ProcessedFile> processed, List<String> removed) throws IOException;
+}
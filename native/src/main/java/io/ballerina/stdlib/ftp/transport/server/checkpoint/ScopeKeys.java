@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Derives fixed-length keys for the names of the checkpoint files and the rows of the checkpoint table, and for the
+ * members of a coordination group.
+ */
+public final class ScopeKeys {
+
+    private ScopeKeys() {
+        // private constructor
+    }
+
+    /**
+     * Gives the hex SHA-256 digest of the given parts, separated by a character that cannot appear in them.
+     *
+     * @param parts The parts of the key
+     * @return The 64 character key
+     */
+    public static String hash(String... parts) {
+        return HexFormat.of().formatHex(digest(parts));
+    }
+
+    /**
+     * Gives the first 64 bits of the SHA-256 digest of the given parts, which are separated as in {@link #hash}.
+     *
+     * @param parts The parts of the key
+     * @return The key
+     */
+    public static long hash64(String... parts) {
+        return ByteBuffer.wrap(digest(parts)).getLong();
+    }
+
+    private static byte[] digest(String... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.connector.contractimpl;
+
+import io.ballerina.stdlib.ftp.util.FtpConstants;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Polling interval of a monitored path that follows the rate of changes of the path. The listener polls at the
+ * shortest interval, and a path is only polled once its own interval has elapsed. A poll that finds changes brings the
+ * interval of the path down to the shortest interval, while each poll that finds nothing multiplies it by the backoff
+ * factor up to the longest interval. A poll that is skipped because the callbacks of the path are still queued keeps
+ * the interval, as it says nothing about the rate of changes. The intervals after idle polls are randomly spread by
+ * the jitter, so that paths that became idle together do not keep polling the server at the same time.
+ */
+final class AdaptivePollingSchedule {
+
+    private final long minInterval;
+    private final long maxInterval;
+    private final double backOffFactor;
+    private final double jitter;
+    private long interval;
+    private volatile long nextPollTime;
+
+    private AdaptivePollingSchedule(long minInterval, long maxInterval, double backOffFactor, double jitter,
+                                    long initialInterval) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.backOffFactor = backOffFactor;
+        this.jitter = jitter;
+        this.interval = Math.max(minInterval, Math.min(maxInterval, initialInterval));
+    }
+
+    /**
+     * Creates the schedule of a path from the connector properties.
+     *
+     * @param properties The connector properties
+     * @return The schedule, or null if adaptive polling is not configured
+     */
+    static AdaptivePollingSchedule create(Map<String, Object> properties) {
+        if (!(properties.get(FtpConstants.ADAPTIVE_POLLING_MIN_INTERVAL) instanceof Long minInterval)
+                || !(properties.get(FtpConstants.ADAPTIVE_POLLING_MAX_INTERVAL) instanceof Long maxInterval)) {
+            return null;
+        }
+        Object backOffFactor = properties.get(FtpConstants.ADAPTIVE_POLLING_BACKOFF_FACTOR);
+        Object jitter = properties.get(FtpConstants.ADAPTIVE_POLLING_JITTER);
+        Object initialInterval = properties.get(FtpConstants.ADAPTIVE_POLLING_INITIAL_INTERVAL);
+        return new AdaptivePollingSchedule(minInterval, maxInterval,
+                backOffFactor instanceof Double factor ? factor : 1, jitter instanceof Double spread ? spread : 0,
+                initialInterval instanceof Long initial ? initial : minInterval);
+    }
+
+    /**
+     * Checks whether the path is due for a poll. The listener ticks at the shortest interval, so a path that is due
+     * slightly after a tick is polled on that tick instead of waiting for the next one.
+     *
+     * @param now The current time in milliseconds
+     * @return true if the path should be polled
+     */
+    boolean isDue(long now) {
+        return now + minInterval / 2 >= nextPollTime;
+    }
+
+    /**
+     * Schedules the next poll of the path after a completed poll.
+     *
+     * @param pollStartTime The time in milliseconds when the completed poll started
+     * @param changesFound  Whether the completed poll found changes
+     */
+    void onPollCompleted(long pollStartTime, boolean changesFound) {
+        long delay;
+        if (changesFound) {
+            interval = minInterval;
+            delay = minInterval;
+        } else {
+            interval = (long) Math.min(maxInterval, interval * backOffFactor);
+            double spread = jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            delay = Math.max(minInterval, Math.min(maxInterval, (long) (interval * (1 + spread))));
+        }
+        nextPollTime = pollStartTime + delay;
+    }
+
+    /**
+     * Schedules the next poll of the path after a poll that was skipped because the callbacks of the path are still
+     * queued. The path is checked again at the shortest interval, so that it is polled soon after the queue has room.
+     *
+     * @param pollStartTime The time in milliseconds when the skipped poll started
+     */
+    void onPollSkipped(long pollStartTime) {
+        nextPollTime = pollStartTime + minInterval;
+    }
+
+    long getInterval() {
+        return interval;
+    }
+}
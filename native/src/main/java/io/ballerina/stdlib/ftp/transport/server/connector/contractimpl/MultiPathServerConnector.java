@@ -29,30 +29,57 @@ import org.apache.commons.vfs2.FileSystemOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Server connector that supports monitoring multiple paths.
  * Used when services have @ftp:ServiceConfig annotations with different paths.
+ * The paths are polled concurrently on virtual threads. All paths of a listener are on the same server, so the
+ * semaphore of the connector bounds the concurrent polls against that server. A tick of the polling task only starts
+ * the polls of the paths that are due, and does not wait for them, so each path is polled again on the first tick
+ * after its own previous poll has finished. A path whose previous poll is still running is skipped, and a slow path
+ * does not delay the other paths. Each poll starts with the path after the first path of the
+ * previous poll, so that the paths take turns in getting the permits first. With adaptive polling, each path is
+ * polled at its own interval, which follows the rate of changes of the path.
  */
 public class MultiPathServerConnector implements RemoteFileSystemServerConnector {
 
     private static final Logger log = LoggerFactory.getLogger(MultiPathServerConnector.class);
 
+    private static final int DEFAULT_MAX_CONCURRENT_POLLS = 8;
+    private static final ExecutorService POLL_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ftp-listener-poll-", 0).factory());
+
     private final FtpListener ftpListener;
     private final Map<String, RemoteFileSystemConsumer> pathConsumers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> pathsInProgress = new ConcurrentHashMap<>();
+    private final Map<String, AdaptivePollingSchedule> pathSchedules = new ConcurrentHashMap<>();
     private final Map<String, Object> baseProperties;
-    private AtomicBoolean isPollOperationOccupied = new AtomicBoolean(false);
+    private final Semaphore pollPermits;
+    private final AtomicInteger pollRound = new AtomicInteger();
+    private final Set<CompletableFuture<Void>> runningPolls = ConcurrentHashMap.newKeySet();
+    private final Set<Thread> pollThreads = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
     private volatile FileSystemManager fileSystemManager;
     private volatile FileSystemOptions fileSystemOptions;
 
     public MultiPathServerConnector(Map<String, Object> baseProperties, FtpListener ftpListener) {
         this.baseProperties = new HashMap<>(baseProperties);
         this.ftpListener = ftpListener;
+        Object maxConcurrentPolls = baseProperties.get(FtpConstants.MAX_CONCURRENT_POLLS);
+        this.pollPermits = new Semaphore(maxConcurrentPolls instanceof Integer max ? max
+                : DEFAULT_MAX_CONCURRENT_POLLS, true);
     }
 
     /**
@@ -89,6 +116,10 @@ public class MultiPathServerConnector implements RemoteFileSystemServerConnector
             consumer = new RemoteFileSystemConsumer(pathProperties, pathListener);
         }
 
+        AdaptivePollingSchedule schedule = AdaptivePollingSchedule.create(pathProperties);
+        if (schedule != null) {
+            pathSchedules.put(path, schedule);
+        }
         pathConsumers.put(path, consumer);
 
         // Store FileSystemManager and options from first consumer
@@ -169,30 +200,88 @@ public class MultiPathServerConnector implements RemoteFileSystemServerConnector
             return;
         }
 
-        if (isPollOperationOccupied.compareAndSet(false, true)) {
-            try {
-                if (log.isDebugEnabled()) {
-                    log.debug("Polling {} path consumers", pathConsumers.size());
-                }
+        if (log.isDebugEnabled()) {
+            log.debug("Polling {} path consumers", pathConsumers.size());
+        }
+
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, RemoteFileSystemConsumer>> entries = new ArrayList<>(pathConsumers.entrySet());
+        int first = Math.floorMod(pollRound.getAndIncrement(), entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<String, RemoteFileSystemConsumer> entry = entries.get((first + i) % entries.size());
+            String path = entry.getKey();
+            AdaptivePollingSchedule schedule = pathSchedules.get(path);
+            if (schedule != null && !schedule.isDue(now)) {
+                continue;
+            }
+            AtomicBoolean inProgress = pathsInProgress.computeIfAbsent(path, key -> new AtomicBoolean(false));
+            if (!inProgress.compareAndSet(false, true)) {
+                log.warn("A scheduled polling job for path '{}' was skipped as the previous job was still " +
+                        "processing.", path);
+                continue;
+            }
+            RemoteFileSystemConsumer consumer = entry.getValue();
+            CompletableFuture<Void> pathPoll = CompletableFuture.runAsync(
+                    () -> pollPath(path, consumer, schedule, inProgress), POLL_EXECUTOR);
+            runningPolls.add(pathPoll);
+            pathPoll.whenComplete((result, error) -> runningPolls.remove(pathPoll));
+        }
+    }
 
-                // Poll all consumers
-                for (Map.Entry<String, RemoteFileSystemConsumer> entry : pathConsumers.entrySet()) {
-                    try {
-                        entry.getValue().consume();
-                    } catch (Exception e) {
-                        log.error("Error polling path: " + entry.getKey(), e);
-                    }
+    private void pollPath(String path, RemoteFileSystemConsumer consumer, AdaptivePollingSchedule schedule,
+                          AtomicBoolean inProgress) {
+        Thread pollThread = Thread.currentThread();
+        // Registered before the stopped flag is read, so that stop either interrupts the poll or the poll sees the flag
+        pollThreads.add(pollThread);
+        try {
+            consumePath(path, consumer, schedule);
+        } finally {
+            pollThreads.remove(pollThread);
+            inProgress.set(false);
+        }
+    }
+
+    private void consumePath(String path, RemoteFileSystemConsumer consumer, AdaptivePollingSchedule schedule) {
+        try {
+            pollPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (stopped) {
+            pollPermits.release();
+            return;
+        }
+        long pollStartTime = System.currentTimeMillis();
+        boolean changesFound = false;
+        boolean ready = consumer.isReady();
+        try {
+            changesFound = consumer.consume();
+        } catch (Exception e) {
+            log.error("Error polling path: " + path, e);
+        } finally {
+            if (schedule != null && !ready) {
+                // The callbacks of the path are still queued, which says nothing about the rate of changes
+                schedule.onPollSkipped(pollStartTime);
+            } else if (schedule != null) {
+                // A failed poll counts as idle, so that an unavailable path is retried less often
+                schedule.onPollCompleted(pollStartTime, changesFound);
+                if (log.isDebugEnabled()) {
+                    log.debug("Polling interval of path '{}' is {} ms", path, schedule.getInterval());
                 }
-            } finally {
-                isPollOperationOccupied.set(false);
             }
-        } else {
-            log.warn("A scheduled polling job was skipped as the previous job was still processing.");
+            pollPermits.release();
         }
     }
 
     @Override
     public Object stop() {
+        stopped = true;
+        // A poll that waits for a slot of the dispatcher or for a place in the prefetch window is woken up, and
+        // leaves its remaining files for the next start
+        pollThreads.forEach(Thread::interrupt);
+        // The consumers are closed once the polls that are still running have finished with them
+        CompletableFuture.allOf(runningPolls.toArray(new CompletableFuture[0])).join();
         Object lastError = null;
         for (Map.Entry<String, RemoteFileSystemConsumer> entry : pathConsumers.entrySet()) {
             try {
@@ -205,6 +294,8 @@ public class MultiPathServerConnector implements RemoteFileSystemServerConnector
             }
         }
         pathConsumers.clear();
+        pathsInProgress.clear();
+        pathSchedules.clear();
         return lastError;
     }
 
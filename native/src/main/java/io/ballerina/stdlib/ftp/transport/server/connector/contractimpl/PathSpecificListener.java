@@ -48,6 +48,11 @@ public class PathSpecificListener implements RemoteFileSystemListener {
         return ftpListener.onMessage(message);
     }
 
+    @Override
+    public boolean isReady() {
+        return ftpListener.isReady(monitoredPath);
+    }
+
     @Override
     public void onError(Throwable throwable) {
         ftpListener.onError(throwable);
@@ -43,12 +43,14 @@ public class RemoteFileSystemServerConnectorImpl implements RemoteFileSystemServ
 
     private RemoteFileSystemConsumer consumer;
     private AtomicBoolean isPollOperationOccupied = new AtomicBoolean(false);
+    private AdaptivePollingSchedule schedule;
 
     public RemoteFileSystemServerConnectorImpl(Map<String, Object> properties,
                                                RemoteFileSystemListener remoteFileSystemListener)
             throws RemoteFileSystemConnectorException {
         try {
             consumer = new RemoteFileSystemConsumer(properties, remoteFileSystemListener);
+            schedule = AdaptivePollingSchedule.create(properties);
         } catch (RemoteFileSystemConnectorException e) {
             String rootCauseMessage = (e.getCause() != null && e.getCause().getMessage() != null)
                     ? e.getCause().getMessage() : e.getMessage();
@@ -63,6 +65,7 @@ public class RemoteFileSystemServerConnectorImpl implements RemoteFileSystemServ
             throws RemoteFileSystemConnectorException {
         try {
             consumer = new RemoteFileSystemConsumer(properties, conditions, remoteFileSystemListener);
+            schedule = AdaptivePollingSchedule.create(properties);
         } catch (RemoteFileSystemConnectorException e) {
             String rootCauseMessage = (e.getCause() != null && e.getCause().getMessage() != null)
                     ? e.getCause().getMessage() : e.getMessage();
@@ -72,15 +75,26 @@ public class RemoteFileSystemServerConnectorImpl implements RemoteFileSystemServ
     }
 
     public void poll() {
+        long pollStartTime = System.currentTimeMillis();
+        if (schedule != null && !schedule.isDue(pollStartTime)) {
+            return;
+        }
         if (isPollOperationOccupied.compareAndSet(false, true)) {
+            boolean changesFound = false;
+            boolean ready = consumer.isReady();
             try {
                 if (log.isDebugEnabled()) {
                     log.debug("Poll method invoked.");
                 }
-                consumer.consume();
+                changesFound = consumer.consume();
             } catch (Exception e) {
                 log.error("Error executing the polling cycle", e);
             } finally {
+                if (schedule != null && !ready) {
+                    schedule.onPollSkipped(pollStartTime);
+                } else if (schedule != null) {
+                    schedule.onPollCompleted(pollStartTime, changesFound);
+                }
                 isPollOperationOccupied.set(false);
             }
         } else {
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.coordination;
+
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.JdbcProcessedFileStore;
+import io.ballerina.stdlib.ftp.transport.server.checkpoint.ScopeKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the members of a group in a table of the coordination database. Each member writes a heartbeat row at the
+ * heartbeat frequency, and the members whose heartbeat is more recent than the liveness check interval are live.
+ * A member that stops removes its row, so that the others take over its files at their next heartbeat instead of
+ * after the liveness check interval. The heartbeat times are taken from the clocks of the members, which are
+ * expected to be synchronized.
+ * <p>
+ * A member whose heartbeats have failed for longer than the liveness check interval is no longer live for the
+ * others, which take over its files. It then stops owning any files until its heartbeat succeeds again, so that a
+ * file is not dispatched by two members, at the cost of leaving all the files to the others while it cannot reach
+ * the database. If no member can reach the database, no files are dispatched until the database is back.
+ * <p>
+ * A file is owned by the live member with the highest hash of the member identifier and the path of the file. When
+ * a member joins or leaves, only the files that it gains or loses change their owner.
+ */
+public final class JdbcPartitionMembership implements PartitionMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPartitionMembership.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS ftp_listener_members ("
+            + "group_name VARCHAR(255) NOT NULL, member_id VARCHAR(255) NOT NULL, heartbeat_time BIGINT NOT NULL, "
+            + "PRIMARY KEY (group_name, member_id))";
+    private static final String INSERT = "INSERT INTO ftp_listener_members (group_name, member_id, heartbeat_time) "
+            + "VALUES (?, ?, ?)";
+    private static final String MYSQL_UPSERT = INSERT
+            + " ON DUPLICATE KEY UPDATE heartbeat_time = VALUES(heartbeat_time)";
+    private static final String POSTGRESQL_UPSERT = INSERT
+            + " ON CONFLICT (group_name, member_id) DO UPDATE SET heartbeat_time = EXCLUDED.heartbeat_time";
+    private static final String SELECT_LIVE = "SELECT member_id FROM ftp_listener_members "
+            + "WHERE group_name = ? AND heartbeat_time >= ? ORDER BY member_id";
+    private static final String DELETE = "DELETE FROM ftp_listener_members WHERE group_name = ? AND member_id = ?";
+
+    private final String upsert;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final String group;
+    private final String memberId;
+    private final long heartbeatInterval;
+    private final long livenessInterval;
+    // Guards the database connection. A virtual thread that blocks on JDBC I/O while holding a monitor pins its
+    // carrier thread, so a lock is used instead of synchronized methods
+    private final ReentrantLock lock = new ReentrantLock();
+    private Thread heartbeatThread;
+    private volatile boolean closed;
+    private volatile Assignment assignment;
+    // Time of the latest heartbeat that was written, after which the other members keep this member live
+    private volatile long lastHeartbeatTime;
+    private Connection connection;
+
+    /**
+     * Live members of the group, as seen by the latest heartbeat.
+     */
+    private record Assignment(long version, List<String> members, long[] memberHashes) {
+    }
+
+    /**
+     * Creates the membership of a member. The member joins the group when the membership is started.
+     *
+     * @param dialect           The database dialect
+     * @param url               The JDBC URL of the database
+     * @param user              The database user, or null
+     * @param password          The password of the user, or null
+     * @param group             The name of the group
+     * @param memberId          The unique identifier of this member
+     * @param heartbeatInterval The interval in milliseconds between the heartbeats of this member
+     * @param livenessInterval  The time in milliseconds after its last heartbeat that a member is considered gone
+     */
+    public JdbcPartitionMembership(JdbcProcessedFileStore.Dialect dialect, String url, String user, String password,
+                                   String group, String memberId, long heartbeatInterval, long livenessInterval) {
+        this.upsert = dialect == JdbcProcessedFileStore.Dialect.POSTGRESQL ? POSTGRESQL_UPSERT : MYSQL_UPSERT;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.group = group;
+        this.memberId = memberId;
+        this.heartbeatInterval = heartbeatInterval;
+        this.livenessInterval = livenessInterval;
+    }
+
+    @Override
+    public void start() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("The membership of '" + memberId + "' in the coordination group '" + group
+                        + "' is closed");
+            }
+            if (heartbeatThread != null) {
+                return;
+            }
+            try (Statement statement = getConnection().createStatement()) {
+                statement.execute(CREATE_TABLE);
+                connection.commit();
+            } catch (SQLException e) {
+                closeConnection();
+                throw new IOException("Failed to create the membership table: " + e.getMessage(), e);
+            }
+            heartbeat();
+            if (assignment == null) {
+                throw new IOException("Failed to join the coordination group '" + group + "'");
+            }
+            heartbeatThread = Thread.ofVirtual().name("ftp-listener-membership-" + memberId)
+                    .start(this::runHeartbeats);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean owns(String path) {
+        Assignment current = assignment;
+        if (current == null || System.currentTimeMillis() - lastHeartbeatTime > livenessInterval) {
+            // The other members no longer see this member as live, so they may have taken over its files
+            return false;
+        }
+        if (current.members().size() == 1) {
+            return true;
+        }
+        long pathHash = path.hashCode() & 0xFFFFFFFFL;
+        int owner = 0;
+        long ownerScore = Long.MIN_VALUE;
+        for (int i = 0; i < current.memberHashes().length; i++) {
+            long score = mix(current.memberHashes()[i] ^ pathHash);
+            if (score > ownerScore) {
+                ownerScore = score;
+                owner = i;
+            }
+        }
+        return current.members().get(owner).equals(memberId);
+    }
+
+    @Override
+    public long getVersion() {
+        Assignment current = assignment;
+        return current == null ? -1 : current.version();
+    }
+
+    private void runHeartbeats() {
+        while (!closed) {
+            try {
+                Thread.sleep(heartbeatInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            lock.lock();
+            try {
+                heartbeat();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the heartbeat of this member and reads the live members, while holding the lock. When the database
+     * cannot be reached, the previous members are kept, so that the files keep their owners until the database is
+     * back or the heartbeat of this member expires. The assignment changes after an expired heartbeat, so that the
+     * polls reload the files that the other members processed in the meantime.
+     */
+    private void heartbeat() {
+        if (closed) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<String> members = new ArrayList<>();
+        try {
+            Connection conn = getConnection();
+            try (PreparedStatement write = conn.prepareStatement(upsert);
+                 PreparedStatement read = conn.prepareStatement(SELECT_LIVE)) {
+                write.setString(1, group);
+                write.setString(2, memberId);
+                write.setLong(3, now);
+                write.executeUpdate();
+                conn.commit();
+                read.setString(1, group);
+                read.setLong(2, now - livenessInterval);
+                try (ResultSet resultSet = read.executeQuery()) {
+                    while (resultSet.next()) {
+                        members.add(resultSet.getString(1));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            closeConnection();
+            log.warn("Failed to update the membership of '{}' in the coordination group '{}': {}", memberId, group,
+                    e.getMessage());
+            return;
+        }
+        boolean expired = now - lastHeartbeatTime > livenessInterval;
+        lastHeartbeatTime = now;
+        Assignment current = assignment;
+        if (current != null && !expired && current.members().equals(members)) {
+            return;
+        }
+        long[] memberHashes = new long[members.size()];
+        for (int i = 0; i < memberHashes.length; i++) {
+            // A digest spreads identifiers that differ in one character, such as numbered hosts, over all the bits
+            memberHashes[i] = ScopeKeys.hash64(members.get(i));
+        }
+        assignment = new Assignment(current == null ? 0 : current.version() + 1, List.copyOf(members), memberHashes);
+        log.info("Member '{}' shares the files of coordination group '{}' with {} live members", memberId, group,
+                members.size());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            if (heartbeatThread != null) {
+                heartbeatThread.interrupt();
+            }
+            if (assignment == null) {
+                // The member has not joined the group
+                return;
+            }
+            Connection conn = getConnection();
+            try (PreparedStatement delete = conn.prepareStatement(DELETE)) {
+                delete.setString(1, group);
+                delete.setString(2, memberId);
+                delete.executeUpdate();
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to leave the coordination group '{}': {}", group, e.getMessage());
+        } finally {
+            closeConnection();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Spreads the bits of a hash, so that the scores of the members for a path are independent of each other.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null || !connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            closeConnection();
+            connection = DriverManager.getConnection(url, user, password);
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error while closing the membership database connection: {}", e.getMessage());
+        } finally {
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.transport.server.coordination;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Membership of a listener in a group of members that share the files of the monitored directories. Every member
+ * lists the directories, and each file is dispatched only by the member that owns it. Ownership follows the live
+ * members of the group, so it moves when members join or leave. Implementations must be thread safe, as the
+ * monitored directories of a listener are polled concurrently.
+ */
+public interface PartitionMembership extends Closeable {
+
+    /**
+     * Joins the group, so that this member takes its share of the files. A member that has not joined owns no files.
+     *
+     * @throws IOException if the member cannot join the group
+     */
+    void start() throws IOException;
+
+    /**
+     * Checks whether this member owns a file.
+     *
+     * @param path The path of the file relative to the monitored directory, which is the same on every member
+     * @return true if this member dispatches the file
+     */
+    boolean owns(String path);
+
+    /**
+     * Gives a number that changes whenever the live members of the group change, so that a poll can detect that
+     * the ownership of files has moved since the previous poll.
+     *
+     * @return The version of the membership
+     */
+    long getVersion();
+}
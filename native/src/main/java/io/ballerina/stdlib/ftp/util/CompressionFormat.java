@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Compression formats supported for file content. Mirrors the Ballerina Compression enum.
+ */
+public enum CompressionFormat {
+
+    ZIP(".zip", new byte[]{0x50, 0x4b, 0x03, 0x04}),
+    GZIP(".gz", new byte[]{0x1f, (byte) 0x8b});
+
+    /**
+     * Number of leading bytes needed to detect the format of a content.
+     */
+    static final int MAGIC_LENGTH = 4;
+
+    private final String extension;
+    private final byte[] magic;
+
+    CompressionFormat(String extension, byte[] magic) {
+        this.extension = extension;
+        this.magic = magic;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Gives the format for a Ballerina Compression value.
+     *
+     * @param value The Ballerina Compression value
+     * @return The format, or null if the value is NONE or unknown
+     */
+    public static CompressionFormat fromValue(String value) {
+        for (CompressionFormat format : values()) {
+            if (format.name().equals(value)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Detects the format of a content from its leading bytes.
+     *
+     * @param header The leading bytes of the content
+     * @param length The number of valid bytes in the header
+     * @return The format, or null if the content is not compressed with a supported format
+     */
+    public static CompressionFormat detect(byte[] header, int length) {
+        for (CompressionFormat format : values()) {
+            if (length >= format.magic.length && Arrays.equals(header, 0, format.magic.length, format.magic, 0,
+                    format.magic.length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gives the format for the extension of a file name.
+     *
+     * @param fileName The file name
+     * @return The format, or null if the file name does not have the extension of a supported format
+     */
+    public static CompressionFormat fromFileName(String fileName) {
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        for (CompressionFormat format : values()) {
+            if (lowerCaseName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gives the name of the compressed file for an uncompressed file name. A ZIP archive replaces the extension of
+     * the file, while a GZIP file keeps the original name and adds its own extension.
+     *
+     * @param fileName The uncompressed file name
+     * @return The compressed file name
+     */
+    public String getCompressedFileName(String fileName) {
+        if (this == ZIP) {
+            int extensionIndex = fileName.lastIndexOf('.');
+            if (extensionIndex > fileName.lastIndexOf('/')) {
+                return fileName.substring(0, extensionIndex).concat(extension);
+            }
+        }
+        return fileName.concat(extension);
+    }
+
+    /**
+     * Gives the name of the content inside a compressed file, by removing the extension of the format. For example,
+     * the content of {@code orders.csv.gz} is {@code orders.csv}.
+     *
+     * @param fileName The compressed file name
+     * @return The uncompressed file name
+     */
+    public String getUncompressedFileName(String fileName) {
+        return fileName.substring(0, fileName.length() - extension.length());
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compresses and decompresses file content on the fly. The content is compressed by a producer thread into a bounded
+ * pipe, so that compression overlaps with the upload and only the pipe buffer is held in memory. Decompression
+ * inflates the content incrementally as it is read.
+ */
+public final class CompressionUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionUtils.class);
+
+    private static final int DECOMPRESSION_BUFFER_SIZE = 65536;
+
+    private static final Thread.Builder PRODUCER_THREADS = Thread.ofVirtual().name("ftp-compress-", 0);
+
+    private CompressionUtils() {
+        // private constructor
+    }
+
+    /**
+     * Returns a stream of the compressed content of the source. The source is closed once it is fully consumed or
+     * the returned stream is closed.
+     *
+     * @param source     The uncompressed content
+     * @param entryName  The name of the archive entry, used by ZIP
+     * @param format     The compression format
+     * @param level      The compression level from 0 to 9, or -1 for the default level
+     * @param bufferSize The size of the pipe between the compressor and the reader
+     * @return The compressed content
+     * @throws IOException if the pipe cannot be created
+     */
+    public static InputStream compress(InputStream source, String entryName, CompressionFormat format, int level,
+                                       int bufferSize) throws IOException {
+        CompressedInputStream compressed = new CompressedInputStream(bufferSize);
+        PipedOutputStream pipe = new PipedOutputStream(compressed);
+        compressed.producer = PRODUCER_THREADS.start(() -> {
+            OutputStream output = pipe;
+            try (InputStream input = source) {
+                output = createCompressingStream(pipe, entryName, format, level, bufferSize);
+                byte[] buffer = new byte[bufferSize];
+                int n;
+                while ((n = input.read(buffer)) > -1) {
+                    output.write(buffer, 0, n);
+                }
+                // Writes the trailer and closes the pipe, which ends the compressed content
+                output.close();
+            } catch (IOException e) {
+                if (!compressed.closed) {
+                    log.debug("Failed to compress {}: {}", entryName, e.getMessage());
+                    // Must be set before the pipe is closed so that the reader does not see a normal end
+                    compressed.failure = e;
+                }
+                closeQuietly(output);
+            }
+        });
+        return compressed;
+    }
+
+    /**
+     * Returns a stream of the decompressed content of the source. The format is detected from the leading bytes of
+     * the content, and content that is not compressed with a supported format is returned unchanged. A ZIP archive
+     * gives the content of its first entry. Closing the returned stream closes the source.
+     *
+     * @param source The possibly compressed content
+     * @return The decompressed content
+     * @throws IOException if the leading bytes cannot be read or the compression header is invalid
+     */
+    public static InputStream decompress(InputStream source) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(source, DECOMPRESSION_BUFFER_SIZE);
+        input.mark(CompressionFormat.MAGIC_LENGTH);
+        byte[] header = input.readNBytes(CompressionFormat.MAGIC_LENGTH);
+        input.reset();
+        CompressionFormat format = CompressionFormat.detect(header, header.length);
+        if (format == CompressionFormat.GZIP) {
+            return new GZIPInputStream(input, DECOMPRESSION_BUFFER_SIZE);
+        }
+        if (format == CompressionFormat.ZIP) {
+            ZipInputStream zipInputStream = new ZipInputStream(input);
+            ZipEntry entry = zipInputStream.getNextEntry();
+            while (entry != null && entry.isDirectory()) {
+                entry = zipInputStream.getNextEntry();
+            }
+            return zipInputStream;
+        }
+        return input;
+    }
+
+    private static OutputStream createCompressingStream(OutputStream output, String entryName,
+                                                        CompressionFormat format, int level, int bufferSize)
+            throws IOException {
+        if (format == CompressionFormat.GZIP) {
+            return new LeveledGzipOutputStream(output, bufferSize, level);
+        }
+        ZipOutputStream zipOutputStream = new ZipOutputStream(output);
+        zipOutputStream.setLevel(level < 0 ? Deflater.DEFAULT_COMPRESSION : level);
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        return zipOutputStream;
+    }
+
+    private static void closeQuietly(OutputStream outputStream) {
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            log.debug("Error while closing the compression pipe: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Read end of the compression pipe. A failure of the producer is reported to the reader once the data written
+     * before the failure has been consumed, instead of being seen as a normal end of the content.
+     */
+    private static class CompressedInputStream extends PipedInputStream {
+
+        private volatile Thread producer;
+        private volatile IOException failure;
+        private volatile boolean closed;
+
+        CompressedInputStream(int pipeSize) {
+            super(pipeSize);
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            return checkFailure(super.read());
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            return checkFailure(super.read(b, off, len));
+        }
+
+        private int checkFailure(int result) throws IOException {
+            if (result == -1 && failure != null) {
+                throw new IOException("Failed to compress the content: " + failure.getMessage(), failure);
+            }
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+            Thread producerThread = producer;
+            if (producerThread != null) {
+                // Unblocks a producer that is waiting for space in the pipe
+                producerThread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * GZIP stream that compresses at the given level, which GZIPOutputStream only exposes through its deflater.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream output, int bufferSize, int level) throws IOException {
+            super(output, bufferSize);
+            def.setLevel(level < 0 ? Deflater.DEFAULT_COMPRESSION : level);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.util;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Matches file names against a regular expression that is compiled once and shared. Patterns that only consist of
+ * literal characters, single-character wildcards and at most one {@code .*} or {@code .+} run, such as
+ * {@code report_.*}, {@code (.*).csv} or {@code data.json}, are matched with plain string comparisons. Other patterns
+ * are matched with the compiled {@link Pattern}, which gives the same result for every file name.
+ */
+public final class FileNameMatcher {
+
+    private static final int MAX_CACHED_MATCHERS = 1024;
+    private static final Map<String, FileNameMatcher> CACHE = new ConcurrentHashMap<>();
+    private static final String META_CHARACTERS = "^$|?*+()[]{}";
+    private static final String QUANTIFIERS = "?*+{";
+    private static final char NEXT_LINE = 0x85;
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+    private final String regex;
+    private volatile Pattern pattern;
+
+    // The simple form of the pattern: head, then an optional run of any characters, then tail
+    private final boolean simple;
+    private final String head;
+    private final BitSet headWildcards;
+    private final String tail;
+    private final BitSet tailWildcards;
+    private final int minRunLength;
+    private final boolean hasWildcards;
+
+    private FileNameMatcher(String regex, String head, BitSet headWildcards, String tail, BitSet tailWildcards,
+                            int minRunLength) {
+        this.regex = regex;
+        this.simple = head != null;
+        this.head = head;
+        this.headWildcards = headWildcards;
+        this.tail = tail;
+        this.tailWildcards = tailWildcards;
+        this.minRunLength = minRunLength;
+        this.hasWildcards = simple && (minRunLength >= 0 || !headWildcards.isEmpty() || !tailWildcards.isEmpty());
+    }
+
+    /**
+     * Gives the matcher for a regular expression. Matchers are cached, so that a pattern is analysed and compiled
+     * once no matter how many files or polls use it.
+     *
+     * @param regex The regular expression, matched against the whole file name
+     * @return The matcher
+     * @throws java.util.regex.PatternSyntaxException if the pattern is not simple and is not a valid expression
+     */
+    public static FileNameMatcher of(String regex) {
+        FileNameMatcher matcher = CACHE.get(regex);
+        if (matcher == null) {
+            matcher = create(regex);
+            if (CACHE.size() >= MAX_CACHED_MATCHERS) {
+                // Patterns resolved from dependency capture groups can be unbounded, so the cache is reset
+                CACHE.clear();
+            }
+            CACHE.put(regex, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Checks whether the whole file name matches the pattern.
+     *
+     * @param fileName The file name
+     * @return true if the file name matches
+     */
+    public boolean matches(String fileName) {
+        if (!simple || (hasWildcards && needsPattern(fileName))) {
+            return getPattern().matcher(fileName).matches();
+        }
+        int length = fileName.length();
+        if (minRunLength < 0) {
+            return length == head.length() && regionMatches(fileName, 0, head, headWildcards);
+        }
+        return length >= head.length() + tail.length() + minRunLength
+                && regionMatches(fileName, 0, head, headWildcards)
+                && regionMatches(fileName, length - tail.length(), tail, tailWildcards);
+    }
+
+    /**
+     * Gives the compiled pattern, for callers that need the capture groups of a match.
+     *
+     * @return The compiled pattern
+     */
+    public Pattern getPattern() {
+        Pattern compiled = pattern;
+        if (compiled == null) {
+            compiled = Pattern.compile(regex);
+            pattern = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Gives the only file name that the pattern matches, when the pattern has no wildcards.
+     *
+     * @return The file name, or null if the pattern can match more than one name
+     */
+    public String getLiteral() {
+        return simple && !hasWildcards ? head : null;
+    }
+
+    /**
+     * Gives the literal text that every matching file name starts with.
+     *
+     * @return The prefix, which is empty if the pattern does not start with literal text
+     */
+    public String getLiteralPrefix() {
+        if (!simple) {
+            return "";
+        }
+        return head.substring(0, headWildcards.isEmpty() ? head.length() : headWildcards.nextSetBit(0));
+    }
+
+    /**
+     * Gives the literal text that every matching file name ends with.
+     *
+     * @return The suffix, which is empty if the pattern does not end with literal text
+     */
+    public String getLiteralSuffix() {
+        if (!simple) {
+            return "";
+        }
+        String last = minRunLength < 0 ? head : tail;
+        BitSet lastWildcards = minRunLength < 0 ? headWildcards : tailWildcards;
+        return last.substring(lastWildcards.isEmpty() ? 0 : lastWildcards.previousSetBit(last.length() - 1) + 1);
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    private static FileNameMatcher create(String regex) {
+        StringBuilder[] segments = {new StringBuilder(), new StringBuilder()};
+        BitSet[] wildcards = {new BitSet(), new BitSet()};
+        int segment = 0;
+        int minRunLength = -1;
+        int length = regex.length();
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= length || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // Character classes such as \d, quoting and back references need the regex engine
+                    return createComplex(regex);
+                }
+                segments[segment].append(regex.charAt(++i));
+            } else if (isRunAt(regex, i)) {
+                if (segment == 1) {
+                    return createComplex(regex);
+                }
+                boolean grouped = c == '(';
+                minRunLength = regex.charAt(grouped ? i + 2 : i + 1) == '+' ? 1 : 0;
+                i += grouped ? 3 : 1;
+                segment = 1;
+            } else if (c == '.') {
+                wildcards[segment].set(segments[segment].length());
+                segments[segment].append(c);
+            } else if (META_CHARACTERS.indexOf(c) >= 0) {
+                return createComplex(regex);
+            } else {
+                segments[segment].append(c);
+            }
+            // A quantified character, or a lazy or possessive run, changes what the segments match
+            if (i + 1 < length && QUANTIFIERS.indexOf(regex.charAt(i + 1)) >= 0) {
+                return createComplex(regex);
+            }
+        }
+        return new FileNameMatcher(regex, segments[0].toString(), wildcards[0], segments[1].toString(),
+                wildcards[1], minRunLength);
+    }
+
+    private static FileNameMatcher createComplex(String regex) {
+        FileNameMatcher matcher = new FileNameMatcher(regex, null, null, null, null, -1);
+        // Compiled up front so that an invalid pattern fails where the matcher is created
+        matcher.getPattern();
+        return matcher;
+    }
+
+    private static boolean isRunAt(String regex, int index) {
+        return regex.startsWith(".*", index) || regex.startsWith(".+", index)
+                || regex.startsWith("(.*)", index) || regex.startsWith("(.+)", index);
+    }
+
+    private static boolean regionMatches(String fileName, int offset, String segment, BitSet wildcards) {
+        if (wildcards.isEmpty()) {
+            return fileName.startsWith(segment, offset);
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!wildcards.get(i) && fileName.charAt(offset + i) != segment.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a file name has characters that a wildcard does not match one to one: line terminators are not
+     * matched by {@code .}, and a surrogate pair is matched by a single {@code .}.
+     */
+    private static boolean needsPattern(String fileName) {
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+            if (c == '\n' || c == '\r' || c == NEXT_LINE || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR
+                    || Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
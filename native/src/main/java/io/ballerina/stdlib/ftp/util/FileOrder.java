@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.ftp.util;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Orders in which the listener selects and reports files. Mirrors the Ballerina FileOrder enum. Files with the same
+ * modification time or size are ordered by their path, so the order is the same in every poll.
+ */
+public enum FileOrder {
+
+    OLDEST_FIRST,
+    SMALLEST_FIRST,
+    BY_NAME;
+
+    /**
+     * Gives the order for a Ballerina FileOrder value.
+     *
+     * @param value The Ballerina FileOrder value
+     * @return The order, or OLDEST_FIRST if the value is unknown
+     */
+    public static FileOrder fromValue(String value) {
+        for (FileOrder order : values()) {
+            if (order.name().equals(value)) {
+                return order;
+            }
+        }
+        return OLDEST_FIRST;
+    }
+
+    /**
+     * Creates a comparator of files in this order.
+     *
+     * @param modifiedTime Gives the modification time of a file
+     * @param size         Gives the size of a file
+     * @param path         Gives the path of a file
+     * @param <T>          The type of the compared files
+     * @return The comparator
+     */
+    public <T> Comparator<T> comparator(ToLongFunction<T> modifiedTime, ToLongFunction<T> size,
+                                        Function<T, String> path) {
+        Comparator<T> byPath = Comparator.comparing(path);
+        return switch (this) {
+            case OLDEST_FIRST -> Comparator.comparingLong(modifiedTime).thenComparing(byPath);
+            case SMALLEST_FIRST -> Comparator.comparingLong(size).thenComparing(byPath);
+            case BY_NAME -> byPath;
+        };
+    }
+}
@@ -162,6 +162,10 @@ public class FtpConstants {
     public static final String INPUT_CONTENT_FILE_CONTENT_KEY = "fileContent";
     public static final String INPUT_CONTENT_TEXT_CONTENT_KEY = "textContent";
     public static final String INPUT_CONTENT_COMPRESS_INPUT_KEY = "compressInput";
+    public static final String INPUT_CONTENT_COMPRESSION_TYPE_KEY = "compressionType";
+    public static final String INPUT_CONTENT_COMPRESSION_LEVEL_KEY = "compressionLevel";
+    public static final String INPUT_CONTENT_COMPRESSION_BUFFER_SIZE_KEY = "compressionBufferSize";
+    public static final String DECOMPRESS_CONTENT = "decompressContent";
 
     public static final String ON_FILE_CHANGE_REMOTE_FUNCTION = "onFileChange";
 
@@ -173,6 +177,7 @@ public class FtpConstants {
     public static final String ON_FILE_CSV_REMOTE_FUNCTION = "onFileCsv";
     public static final String ON_FILE_DELETE_REMOTE_FUNCTION = "onFileDelete";
     public static final String ON_FILE_DELETED_REMOTE_FUNCTION = "onFileDeleted";
+    public static final String ON_FILE_MODIFIED_REMOTE_FUNCTION = "onFileModified";
     public static final String ON_ERROR_REMOTE_FUNCTION = "onError";
 
     // Error types
@@ -217,12 +222,82 @@ public class FtpConstants {
     public static final String OP_GET_JSON = "getJson";
     public static final String OP_GET_XML = "getXml";
     public static final String OP_GET_CSV = "getCsv";
+    public static final String OP_GET_BYTES_PARALLEL = "getBytesParallel";
+    public static final String OP_DOWNLOAD_TO_FILE = "downloadToFile";
+    public static final String OP_UPLOAD_FILE = "uploadFile";
+    public static final String OP_DOWNLOAD_FILE = "downloadFile";
 
     // Circuit breaker configuration
     public static final String CIRCUIT_BREAKER = "circuitBreaker";
     public static final String CIRCUIT_BREAKER_NATIVE_DATA = "CircuitBreaker";
     public static final String CIRCUIT_BREAKER_OPEN_ERROR = "CircuitBreakerOpenError";
 
+    // Connection pool configuration
+    public static final String CONNECTION_POOL = "connectionPool";
+
+    // Streaming upload configuration
+    public static final String STREAM_UPLOAD = "streamUpload";
+
+    // Client executor configuration
+    public static final String MAX_CONCURRENT_OPERATIONS = "maxConcurrentOperations";
+    public static final String MAX_CONCURRENT_POLLS = "maxConcurrentPolls";
+    public static final String DIRECTORY_SCAN = "directoryScan";
+    public static final String DIRECTORY_SCAN_MAX_DEPTH = "maxDepth";
+    public static final String DIRECTORY_SCAN_PARALLELISM = "parallelism";
+    public static final String DIRECTORY_SCAN_EXCLUDED_DIRECTORIES = "excludedDirectories";
+    public static final String STABILITY = "stability";
+    public static final String STABILITY_OBSERVATIONS = "observations";
+    public static final String STABILITY_QUIET_PERIOD = "quietPeriod";
+    public static final String ADAPTIVE_POLLING = "adaptivePolling";
+    public static final String ADAPTIVE_POLLING_MIN_INTERVAL = "minInterval";
+    public static final String ADAPTIVE_POLLING_MAX_INTERVAL = "maxInterval";
+    public static final String ADAPTIVE_POLLING_BACKOFF_FACTOR = "backOffFactor";
+    public static final String ADAPTIVE_POLLING_JITTER = "jitter";
+    public static final String ADAPTIVE_POLLING_INITIAL_INTERVAL = "adaptivePollingInitialInterval";
+    public static final String POLL_BATCH = "pollBatch";
+    public static final String POLL_BATCH_MAX_FILES = "maxFilesPerPoll";
+    public static final String POLL_BATCH_ORDER = "order";
+    public static final String DISPATCH = "dispatch";
+    public static final String DISPATCH_MAX_IN_FLIGHT = "maxInFlight";
+    public static final String DISPATCH_QUEUE_CAPACITY = "queueCapacity";
+    public static final String DISPATCH_OVERFLOW_POLICY = "overflowPolicy";
+    public static final String DISPATCH_PREFETCH_WINDOW = "prefetchWindow";
+    public static final String DISPATCH_ORDER = "order";
+    public static final String DISPATCH_ORDERING_KEY = "orderingKey";
+    public static final int DEFAULT_DISPATCH_MAX_IN_FLIGHT = 64;
+    public static final int DEFAULT_DISPATCH_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_DISPATCH_PREFETCH_WINDOW = 8;
+    public static final String DISPATCH_METRICS = "DispatchMetrics";
+
+    // Processed file checkpoint configuration
+    public static final String CHECKPOINT = "checkpoint";
+    public static final String CHECKPOINT_NAME = "name";
+    public static final String CHECKPOINT_STORE = "store";
+    public static final String CHECKPOINT_STORE_DATABASE = "DATABASE";
+    public static final String CHECKPOINT_DIRECTORY = "directory";
+    public static final String CHECKPOINT_COMPACTION_THRESHOLD = "compactionThreshold";
+    public static final String CHECKPOINT_RELOAD_INTERVAL = "checkpointReloadInterval";
+    public static final String ENDPOINT_CONFIG_POLLING_INTERVAL = "pollingInterval";
+    public static final String PROCESSED_FILE_STORE = "ProcessedFileStore";
+    public static final String COORDINATION = "coordination";
+    public static final String COORDINATION_DATABASE_CONFIG = "databaseConfig";
+    public static final String COORDINATION_MODE = "mode";
+    public static final String COORDINATION_MODE_PARTITIONED = "PARTITIONED";
+    public static final String COORDINATION_MEMBER_ID = "memberId";
+    public static final String COORDINATION_GROUP = "coordinationGroup";
+    public static final String COORDINATION_HEARTBEAT_FREQUENCY = "heartbeatFrequency";
+    public static final String COORDINATION_LIVENESS_CHECK_INTERVAL = "livenessCheckInterval";
+    public static final String PARTITION_MEMBERSHIP = "PartitionMembership";
+    public static final String DATABASE_HOST = "host";
+    public static final String DATABASE_PORT = "port";
+    public static final String DATABASE_USER = "user";
+    public static final String DATABASE_PASSWORD = "password";
+    public static final String DATABASE_NAME = "database";
+    public static final String POSTGRESQL_CONFIG = "PostgresqlConfig";
+    public static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 64;
+    public static final String CLIENT_EXECUTOR = "ClientExecutor";
+    public static final String CLIENT_METRICS = "ClientMetrics";
+
     // Service-level configuration annotation
     public static final String SERVICE_CONFIG_ANNOTATION = "ServiceConfig";
     public static final String SERVICE_CONFIG_PATH = "path";
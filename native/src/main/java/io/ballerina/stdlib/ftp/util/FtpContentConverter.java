@@ -19,7 +19,9 @@
 package io.ballerina.stdlib.ftp.util;
 
 import io.ballerina.lib.data.ModuleUtils;
+import io.ballerina.lib.data.jsondata.json.JsonParser;
 import io.ballerina.lib.data.xmldata.xml.Native;
+import io.ballerina.lib.data.xmldata.xml.XmlParser;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ValueCreator;
@@ -37,6 +39,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
 import static io.ballerina.lib.data.csvdata.csv.Native.parseBytes;
@@ -131,6 +136,59 @@ public final class FtpContentConverter {
         }
     }
 
+    /**
+     * Converts a content stream to Ballerina JSON using data.jsondata module, parsing the content as it is read.
+     * Binding errors do not carry the content, since it is never held in memory.
+     *
+     * @param content    The content stream
+     * @param targetType The target Ballerina type for data binding
+     * @param laxDataBinding Whether to allow lax data binding
+     * @param filePath   The file path for error reporting
+     * @return Ballerina JSON object or ContentBindingError
+     */
+    public static Object convertStreamToJson(InputStream content, Type targetType, boolean laxDataBinding,
+                                             String filePath) {
+        try {
+            BMap<BString, Object> options = createJsonParseOptions(laxDataBinding);
+            BTypedesc typedesc = ValueCreator.createTypedescValue(targetType);
+            Reader reader = new InputStreamReader(content, StandardCharsets.UTF_8);
+            return JsonParser.parse(reader, options, typedesc);
+        } catch (BError e) {
+            return FtpUtil.createContentBindingError(e.getErrorMessage().getValue(), e, filePath, null);
+        } catch (Exception e) {
+            return FtpUtil.createContentBindingError("Failed to parse JSON content: " + e.getMessage(), e,
+                    filePath, null);
+        }
+    }
+
+    /**
+     * Converts a content stream to Ballerina XML using data.xmldata module, parsing the content as it is read.
+     * Binding errors do not carry the content, since it is never held in memory.
+     *
+     * @param content    The content stream
+     * @param targetType The target Ballerina type for data binding
+     * @param laxDataBinding Whether to allow lax data binding
+     * @param filePath   The file path for error reporting
+     * @return Ballerina XML object or ContentBindingError
+     */
+    public static Object convertStreamToXml(InputStream content, Type targetType, boolean laxDataBinding,
+                                            String filePath) {
+        try {
+            if (targetType.getQualifiedName().equals("xml")) {
+                return XmlUtils.parse(content);
+            }
+
+            BMap<BString, Object> mapValue = createXmlParseOptions(laxDataBinding);
+            Reader reader = new InputStreamReader(content, StandardCharsets.UTF_8);
+            return XmlParser.parse(reader, mapValue, ValueCreator.createTypedescValue(targetType));
+        } catch (BError e) {
+            return FtpUtil.createContentBindingError(e.getErrorMessage().getValue(), e, filePath, null);
+        } catch (Exception e) {
+            return FtpUtil.createContentBindingError("Failed to parse XML content: " + e.getMessage(), e,
+                    filePath, null);
+        }
+    }
+
     /**
      * Converts byte array to CSV using data.csvdata module.
      *
@@ -39,12 +39,8 @@ import io.ballerina.stdlib.ftp.exception.RemoteFileSystemConnectorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.KeyStore;
@@ -57,8 +53,6 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static io.ballerina.stdlib.ftp.transport.server.util.FileTransportUtils.maskUrlPassword;
 import static io.ballerina.stdlib.ftp.util.FtpConstants.ENDPOINT_CONFIG_PREFERRED_METHODS;
@@ -481,37 +475,6 @@ public class FtpUtil {
         return fileInfoStruct.getType();
     }
 
-    public static ByteArrayInputStream compress(InputStream inputStream, String targetFilePath) {
-        String fileName = new File(targetFilePath).getName();
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream);
-        try {
-            zipOutputStream.putNextEntry(new ZipEntry(fileName));
-            byte[] buffer = new byte[1000];
-            int length;
-            // This should ideally be wrapped from a BufferedInputStream. but currently
-            // not working due to missing method implementations in the implemented custom ByteArrayInputStream.
-            while ((length = inputStream.read(buffer)) > 0) {
-                zipOutputStream.write(buffer, 0, length);
-            }
-        } catch (IOException ex) {
-            log.error("The file does not exist");
-        } finally {
-            try {
-                inputStream.close();
-                zipOutputStream.closeEntry();
-                zipOutputStream.close();
-            } catch (IOException e) {
-                log.error("Error in closing the stream");
-            }
-        }
-        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-    }
-
-    public static String getCompressedFileName(String fileName) {
-        return fileName.substring(0, fileName.lastIndexOf('.')).concat(".zip");
-    }
-
     public static Optional<MethodType> getOnFileChangeMethod(BObject service) {
         MethodType[] methodTypes = ((ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service))).getMethods();
         return Stream.of(methodTypes)
@@ -593,6 +556,19 @@ public class FtpUtil {
                 .findFirst();
     }
 
+    /**
+     * Gets the onFileModified method from a service if it exists.
+     *
+     * @param service The BObject service
+     * @return Optional containing the MethodType if onFileModified method exists
+     */
+    public static Optional<MethodType> getOnFileModifiedMethod(BObject service) {
+        MethodType[] methodTypes = ((ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service))).getMethods();
+        return Stream.of(methodTypes)
+                .filter(methodType -> FtpConstants.ON_FILE_MODIFIED_REMOTE_FUNCTION.equals(methodType.getName()))
+                .findFirst();
+    }
+
     /**
      * Gets the onError method from a service if it exists.
      *
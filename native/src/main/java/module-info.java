@@ -23,6 +23,7 @@ module io.ballerina.stdlib.ftp {
     requires io.ballerina.tools.api;
     requires org.slf4j;
     requires java.logging;
+    requires java.sql;
     requires org.apache.commons.vfs2;
     requires io.ballerina.lib.data;
     requires io.ballerina.lib.data.xmldata;
@@ -33,6 +33,7 @@ import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.DirectoryEntry;
 import org.mockftpserver.fake.filesystem.FileEntry;
 import org.mockftpserver.fake.filesystem.FileSystem;
+import org.mockftpserver.fake.filesystem.Permissions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -149,6 +150,11 @@ public final class MockFtpServer {
         fileSystem.add(new DirectoryEntry("/home/in/advanced/dependency"));
         fileSystem.add(new FileEntry("/home/in/dependency/.init", ""));
 
+        fileSystem.add(new DirectoryEntry("/home/in/advanced/patterns"));
+        fileSystem.add(new DirectoryEntry("/home/in/advanced/patterns/names"));
+        fileSystem.add(new DirectoryEntry("/home/in/advanced/patterns/dependency"));
+        fileSystem.add(new DirectoryEntry("/home/in/advanced/patterns/routing"));
+
         fileSystem.add(new DirectoryEntry("/home/in/post-process"));
         fileSystem.add(new FileEntry("/home/in/post-process/.init", ""));
         fileSystem.add(new DirectoryEntry("/home/in/post-process-archive"));
@@ -156,6 +162,50 @@ public final class MockFtpServer {
 
         fileSystem.add(new DirectoryEntry("/home/in/listener-retry"));
 
+        fileSystem.add(new DirectoryEntry("/home/in/concurrent-poll-slow"));
+        fileSystem.add(new DirectoryEntry("/home/in/concurrent-poll-fast"));
+        fileSystem.add(new DirectoryEntry("/home/in/stop-blocked-poll"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/scan-depth/level1/level2"));
+        fileSystem.add(new DirectoryEntry("/home/in/scan-depth/archive"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/checkpoint-resume"));
+        fileSystem.add(new DirectoryEntry("/home/in/checkpoint-restart"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/dispatch-block"));
+        fileSystem.add(new DirectoryEntry("/home/in/dispatch-defer"));
+        fileSystem.add(new DirectoryEntry("/home/in/dispatch-drop"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/stability"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/adaptive-polling"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/poll-batch"));
+        String[] batchFileNames = {"c.txt", "e.txt", "a.txt", "d.txt", "b.txt"};
+        for (int n = 0; n < batchFileNames.length; n++) {
+            // The sizes decrease by name, so that the name order differs from the size order
+            fileSystem.add(new FileEntry("/home/in/poll-batch/" + batchFileNames[n],
+                    "x".repeat(10 - batchFileNames[n].charAt(0) + 'a')));
+        }
+
+        fileSystem.add(new DirectoryEntry("/home/in/ordering-key"));
+        for (String feed : new String[]{"feedA", "feedB"}) {
+            for (int n = 1; n <= 3; n++) {
+                fileSystem.add(new FileEntry("/home/in/ordering-key/" + feed + "-" + n + ".txt", feed + n));
+            }
+        }
+
+        fileSystem.add(new DirectoryEntry("/home/in/partitioned"));
+
+        fileSystem.add(new DirectoryEntry("/home/in/prefetch"));
+        for (int n = 1; n <= 4; n++) {
+            fileSystem.add(new FileEntry("/home/in/prefetch/prefetched" + n + ".txt", "prefetched" + n));
+        }
+        // The content of a file without read permission cannot be fetched
+        FileEntry unreadableEntry = new FileEntry("/home/in/prefetch/unreadable.txt", "unreadable");
+        unreadableEntry.setPermissions(new Permissions("-w--w--w-"));
+        fileSystem.add(unreadableEntry);
+
         ftpServer.setFileSystem(fileSystem);
         ftpServer.start();
         logger.info("Starting FTP server...");